@@ -0,0 +1,77 @@
+package com.example.pet.demo;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.pet.demo.common.ApiResponse;
+import com.example.pet.demo.users.app.AccessTokenService;
+import com.example.pet.demo.users.app.TokenRevocationCache;
+import com.example.pet.demo.users.domain.User.UserStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authorization: Bearer 토큰 검증 (서명 + 만료 + 무효화 목록, DB 조회 없음).
+ * 토큰이 없으면 익명으로 통과, 있는데 틀리면 401.
+ * 인증 주체는 AccessTokenService.Claims, 권한은 ROLE_{UserType}.
+ */
+class AccessTokenFilter extends OncePerRequestFilter {
+    private static final String BEARER = "Bearer ";
+
+    private final AccessTokenService tokens;
+    private final TokenRevocationCache revocations;
+    private final ObjectMapper objectMapper;
+
+    AccessTokenFilter(AccessTokenService tokens, TokenRevocationCache revocations, ObjectMapper objectMapper) {
+        this.tokens = tokens;
+        this.revocations = revocations;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        AccessTokenService.Claims claims;
+        try {
+            claims = tokens.verifyAccess(header.substring(BEARER.length()).trim());
+        } catch (IllegalArgumentException e) {
+            reject(response, e.getMessage());
+            return;
+        }
+        if (claims.status() != UserStatus.ACTIVE || revocations.isRevoked(claims.userId(), claims.issuedAt())) {
+            reject(response, "TOKEN_REVOKED");
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(claims, null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + claims.userType().name())));
+        SecurityContextHolder.getContext().setAuthentication(auth); // 요청 끝에 SecurityContextHolderFilter 가 정리
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, String code) throws IOException {
+        SecurityContextHolder.clearContext();
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(code, "인증 토큰이 유효하지 않습니다."));
+    }
+}
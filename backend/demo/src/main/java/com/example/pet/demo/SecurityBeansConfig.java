@@ -1,26 +1,40 @@
 package com.example.pet.demo;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.example.pet.demo.users.app.AccessTokenService;
+import com.example.pet.demo.users.app.TokenRevocationCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import java.util.Arrays;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityBeansConfig {
     @Bean
-    SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain filterChain(HttpSecurity http, AccessTokenService tokens,
+                                    TokenRevocationCache revocations, ObjectMapper objectMapper) throws Exception {
         http.csrf(csrf -> csrf.disable()); // dev/test에서만
         http.cors(Customizer.withDefaults()); // CORS 활성화
+        http.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        // Bearer 토큰은 서명/만료/무효화 목록만 보고 인증 (DB 조회 없음)
+        http.addFilterBefore(new AccessTokenFilter(tokens, revocations, objectMapper),
+                UsernamePasswordAuthenticationFilter.class);
         http.authorizeHttpRequests(auth -> auth
             .anyRequest().permitAll()   // 개발 중: 모든 요청 허용
         );
@@ -39,7 +53,34 @@ public class SecurityBeansConfig {
         return source;
     }
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(); // 또는 DelegatingPasswordEncoder
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.cost:10}") int cost) {
+        // 새 해시는 {bcrypt} 접두어 + 설정 cost, 접두어 없는 기존 해시도 bcrypt로 검증
+        BCryptPasswordEncoder bcrypt = new CostPinnedBCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /** cost가 설정값과 다르면(올리든 내리든) upgradeEncoding=true → 로그인 성공 시 재해시 */
+    static final class CostPinnedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+        private final int cost;
+
+        CostPinnedBCryptPasswordEncoder(int cost) {
+            super(cost);
+            this.cost = cost;
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            // $2a$10$... 형식
+            if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+                return false;
+            }
+            try {
+                return Integer.parseInt(encodedPassword.substring(4, 6)) != cost;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
     }
 }
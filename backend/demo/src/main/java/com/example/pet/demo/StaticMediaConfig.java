@@ -1,22 +1,22 @@
 package com.example.pet.demo;
 
-import java.nio.file.Paths;
+import java.util.Map;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.example.pet.demo.media.MediaFileServer;
 
 @Configuration
-public class StaticMediaConfig implements WebMvcConfigurer {
-    @Value("${app.media.base-path:uploads}")
-    private String basePath;
+public class StaticMediaConfig {
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        String location = Paths.get(basePath).toAbsolutePath().toUri().toString();
-        registry.addResourceHandler("/media/**")
-        .addResourceLocations(location);
+    // 정적 리소스 핸들러 대신 전용 핸들러: sendfile, ETag/304, Range, immutable 캐시
+    @Bean
+    public SimpleUrlHandlerMapping mediaHandlerMapping(MediaFileServer mediaFileServer) {
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping(Map.of("/media/**", mediaFileServer));
+        mapping.setOrder(Ordered.LOWEST_PRECEDENCE - 2); // 컨트롤러 다음, 기본 리소스 핸들러 앞
+        return mapping;
     }
-} 
+}
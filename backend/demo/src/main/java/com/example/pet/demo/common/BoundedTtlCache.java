@@ -0,0 +1,117 @@
+package com.example.pet.demo.common;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 최대 건수(LRU) + TTL 로 비우는 작은 캐시 (스레드 안전).
+ * - 로더 호출은 락 밖에서 하므로 같은 키를 동시에 여러 번 읽을 수 있다 (중복 조회 < 락 대기)
+ * - 로딩 중 invalidate 가 있었으면 읽은 값은 넣지 않는다 → 무효화 직후 옛 값이 다시 들어오지 않는다
+ * - hit/miss/eviction 수는 크기 조정용 (eviction = 건수 초과 + 만료)
+ */
+public final class BoundedTtlCache<K, V> {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> map;
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        if (maxSize <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("INVALID_CACHE_SIZE");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.map = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedTtlCache.this.maxSize) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /** 캐시에 있으면 그 값, 없거나 만료됐으면 loader 결과를 넣고 반환 (null 은 캐시하지 않음) */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = System.nanoTime();
+        long startEpoch;
+        synchronized (map) {
+            Entry<V> e = map.get(key);
+            if (e != null) {
+                if (now - e.expiresAt < 0) {
+                    hits.increment();
+                    return e.value;
+                }
+                map.remove(key);
+                expirations.increment();
+            }
+            startEpoch = epoch.get();
+        }
+        misses.increment();
+
+        V value = loader.apply(key);
+        if (value != null) {
+            synchronized (map) {
+                if (epoch.get() == startEpoch) {
+                    map.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+                }
+            }
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        synchronized (map) {
+            epoch.incrementAndGet();
+            map.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (map) {
+            epoch.incrementAndGet();
+            map.clear();
+        }
+    }
+
+    /** 만료된 항목 정리 (접근이 없는 키도 메모리에서 빠지도록 주기적으로 호출) */
+    public int purgeExpired() {
+        long now = System.nanoTime();
+        int removed = 0;
+        synchronized (map) {
+            for (Iterator<Entry<V>> it = map.values().iterator(); it.hasNext(); ) {
+                if (now - it.next().expiresAt >= 0) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        expirations.add(removed);
+        return removed;
+    }
+
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    public long hitCount() { return hits.sum(); }
+    public long missCount() { return misses.sum(); }
+    public long sizeEvictionCount() { return sizeEvictions.sum(); }
+    public long expirationCount() { return expirations.sum(); }
+
+    private record Entry<V>(V value, long expiresAt) {}
+}
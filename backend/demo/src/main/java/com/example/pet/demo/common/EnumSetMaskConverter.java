@@ -0,0 +1,89 @@
+package com.example.pet.demo.common;
+
+import java.util.Collection;
+import java.util.EnumSet;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * EnumSet <-> 정수 비트마스크 컨버터 공통 구현.
+ * bit = 1 << ordinal 이므로 enum 상수는 뒤에만 추가해야 한다 (순서 변경/삭제 금지, 최대 31개).
+ * DB NULL은 아직 마이그레이션되지 않은 행을 뜻하므로 null 그대로 둔다.
+ */
+public abstract class EnumSetMaskConverter<E extends Enum<E>> implements AttributeConverter<EnumSet<E>, Integer> {
+    private final Class<E> type;
+    private final E[] values;
+
+    protected EnumSetMaskConverter(Class<E> type) {
+        this.type = type;
+        this.values = type.getEnumConstants();
+        if (values.length > 31) {
+            throw new IllegalStateException(type.getSimpleName() + " has too many constants for an int mask");
+        }
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(EnumSet<E> attribute) {
+        return attribute == null ? null : toMask(attribute);
+    }
+
+    @Override
+    public EnumSet<E> convertToEntityAttribute(Integer dbData) {
+        return dbData == null ? null : fromMask(dbData);
+    }
+
+    public EnumSet<E> fromMask(int mask) {
+        EnumSet<E> set = EnumSet.noneOf(type);
+        for (E e : values) {
+            if ((mask & (1 << e.ordinal())) != 0) {
+                set.add(e);
+            }
+        }
+        return set;
+    }
+
+    // 레거시 CSV("SURGERY,DERMATOLOGY") → EnumSet, 모르는 값은 무시
+    public EnumSet<E> fromCsv(String csv) {
+        EnumSet<E> set = EnumSet.noneOf(type);
+        if (csv == null || csv.isBlank()) {
+            return set;
+        }
+        for (String token : csv.split(",")) {
+            String name = token.trim().toUpperCase();
+            for (E e : values) {
+                if (e.name().equals(name)) {
+                    set.add(e);
+                    break;
+                }
+            }
+        }
+        return set;
+    }
+
+    public static <E extends Enum<E>> int toMask(Collection<E> values) {
+        int mask = 0;
+        for (E e : values) {
+            mask |= 1 << e.ordinal();
+        }
+        return mask;
+    }
+
+    public static <E extends Enum<E>> EnumSet<E> copyOf(Collection<E> values, Class<E> type) {
+        return (values == null || values.isEmpty()) ? EnumSet.noneOf(type) : EnumSet.copyOf(values);
+    }
+
+    // 레거시 CSV 컬럼 기록용 (롤백 호환). 비어 있으면 null
+    public static <E extends Enum<E>> String toCsv(EnumSet<E> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (E e : values) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(e.name());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.pet.demo.common;
+
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = false)
+public class PetsitterWorkSetConverter extends EnumSetMaskConverter<PetsitterWork> {
+    public static final PetsitterWorkSetConverter INSTANCE = new PetsitterWorkSetConverter();
+
+    public PetsitterWorkSetConverter() {
+        super(PetsitterWork.class);
+    }
+}
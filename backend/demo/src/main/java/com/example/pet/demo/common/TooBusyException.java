@@ -0,0 +1,31 @@
+package com.example.pet.demo.common;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 전용 풀이 포화돼 요청을 받지 않을 때 던진다.
+ * - 429(큐 가득) / 503(큐 대기 초과) + Retry-After 헤더
+ */
+public class TooBusyException extends ResponseStatusException {
+    private final Duration retryAfter;
+
+    public TooBusyException(HttpStatus status, String reason, Duration retryAfter) {
+        super(status, reason);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfter.toSeconds())));
+        return headers;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.pet.demo.common;
+
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = false)
+public class VetSpecialtySetConverter extends EnumSetMaskConverter<VetSpecialty> {
+    public static final VetSpecialtySetConverter INSTANCE = new VetSpecialtySetConverter();
+
+    public VetSpecialtySetConverter() {
+        super(VetSpecialty.class);
+    }
+}
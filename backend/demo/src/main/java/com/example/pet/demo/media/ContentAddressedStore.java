@@ -0,0 +1,188 @@
+package com.example.pet.demo.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.pet.demo.media.domain.port.MediaBlobPort;
+import com.example.pet.demo.media.domain.port.MediaReferencePort;
+
+/**
+ * 같은 사진은 한 번만 저장하는 내용 주소 저장소.
+ * - 업로드를 임시 파일로 흘려 쓰면서 SHA-256 을 같이 계산 (파일을 두 번 읽지 않음)
+ * - blobs/{해시 앞 2자}/{다음 2자}/{해시}.{확장자} 로 샤딩 (한 디렉터리에 파일이 몰리지 않게)
+ * - 한 파일을 여러 행이 가리킬 수 있어(일괄 등록이 같은 URL 을 재사용 등) 행 삭제 시 바로 지우지 않는다.
+ *   대신 수거기(sweep)가 URL 컬럼들(MediaReferencePort)을 읽어, 유예 기간보다 오래전에 올라왔는데
+ *   어떤 행도 가리키지 않는 파일(+축소본)만 지운다. 업로드 후 행 저장이 실패하거나 버려진 업로드도 여기서 정리된다.
+ * 같은 해시의 media_blob 갱신과 파일 이동/삭제는 해시별 잠금 안에서 함께 한다 (업로드 경로는 로컬 디스크 = 단일 인스턴스).
+ */
+@Component
+public class ContentAddressedStore {
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedStore.class);
+    public static final String URL_PREFIX = "/media/blobs/";
+    private static final Pattern URL = Pattern.compile(
+            "^/media/blobs/([0-9a-f]{2})/([0-9a-f]{2})/(([0-9a-f]{64})\\.([a-z0-9]{1,5}))$");
+    private static final int STRIPES = 64;
+    private static final int SWEEP_PAGE = 500;
+
+    private final Path root;
+    private final MediaBlobPort blobs;
+    private final ImageVariantService variants;
+    private final List<MediaReferencePort> references;
+    private final Duration grace;
+    private final Object[] locks = new Object[STRIPES];
+
+    public ContentAddressedStore(@Value("${app.media.base-path:uploads}") String basePath,
+                                 MediaBlobPort blobs,
+                                 ImageVariantService variants,
+                                 List<MediaReferencePort> references,
+                                 @Value("${app.media.blob-sweep.grace:1d}") Duration grace) {
+        this.root = Paths.get(basePath).toAbsolutePath().normalize().resolve("blobs");
+        this.blobs = blobs;
+        this.variants = variants;
+        this.references = references;
+        this.grace = grace;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 업로드를 저장하고 URL 을 돌려준다. 이미 있는 내용이면 같은 URL (수거 유예만 새로 시작).
+     * 같은 디스크의 .tmp 에 한 번 쓰고 rename 하므로 디스크 쓰기는 한 번.
+     */
+    public String store(InputStream in, String ext, long maxBytes) throws IOException {
+        Path tmpDir = Files.createDirectories(root.resolve(".tmp"));
+        Path tmp = tmpDir.resolve("upload-" + UUID.randomUUID() + ".part");
+        try {
+            MessageDigest sha256 = sha256();
+            long size = ImageUpload.write(new DigestInputStream(in, sha256), tmp, maxBytes);
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            String key = hash + "." + ext;
+            Path target = pathOf(hash, key);
+
+            boolean created;
+            synchronized (lockFor(hash)) {
+                blobs.touch(key, size, LocalDateTime.now());
+                // 행은 있는데 파일이 없는 경우(수동 정리 등)도 이번 업로드로 다시 채운다
+                created = !Files.exists(target);
+                if (created) {
+                    Files.createDirectories(target.getParent());
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            if (created) {
+                variants.submit(target);
+            } else {
+                log.debug("duplicate upload reused blob={}", key);
+            }
+            return URL_PREFIX + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + key;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public boolean owns(String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    // 매일 새벽: 유예 기간이 지났는데 어떤 행도 가리키지 않는 파일을 지운다
+    @Scheduled(cron = "${app.media.blob-sweep.cron:0 40 3 * * *}", zone = "${app.reservation.zone:Asia/Seoul}")
+    public void sweep() {
+        long started = System.nanoTime();
+        int removed = sweepOnce(LocalDateTime.now().minus(grace));
+        if (removed > 0) {
+            log.info("swept {} unreferenced blobs in {} ms", removed, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    /** cutoff 이전에 마지막으로 올라왔고 참조가 없는 파일을 지우고 지운 수를 반환 */
+    public int sweepOnce(LocalDateTime cutoff) {
+        // 참조를 먼저 모은다. 이후에 다시 올라온 파일은 uploaded_at 이 갱신돼 조건부 삭제에서 빠진다
+        Set<String> referenced = referencedKeys();
+        int removed = 0;
+        String after = "";
+        List<String> page;
+        do {
+            page = blobs.findUploadedBefore(cutoff, after, SWEEP_PAGE);
+            for (String key : page) {
+                if (!referenced.contains(key) && delete(key, cutoff)) {
+                    removed++;
+                }
+            }
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1);
+            }
+        } while (page.size() == SWEEP_PAGE);
+        return removed;
+    }
+
+    private Set<String> referencedKeys() {
+        Set<String> keys = new HashSet<>();
+        for (MediaReferencePort source : references) {
+            for (String value : source.findUrlsContaining(URL_PREFIX)) {
+                for (String url : value.split(",")) { // 예약 사진은 CSV
+                    Matcher m = URL.matcher(url.trim());
+                    if (m.matches()) {
+                        keys.add(m.group(3));
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    private boolean delete(String key, LocalDateTime cutoff) {
+        String hash = key.substring(0, key.indexOf('.'));
+        Path target = pathOf(hash, key);
+        synchronized (lockFor(hash)) {
+            if (!blobs.deleteIfUploadedBefore(key, cutoff)) {
+                return false; // 그 사이 같은 사진이 다시 올라왔다
+            }
+            try {
+                variants.deleteVariants(target);
+                return Files.deleteIfExists(target);
+            } catch (IOException e) {
+                log.warn("blob delete failed blob={}", key, e);
+                return false;
+            }
+        }
+    }
+
+    private Path pathOf(String hash, String key) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(key);
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Integer.parseInt(hash.substring(0, 2), 16) % STRIPES];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JDK 에 있음
+        }
+    }
+}
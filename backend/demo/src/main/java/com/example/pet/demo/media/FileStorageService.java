@@ -2,22 +2,35 @@ package com.example.pet.demo.media;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import lombok.RequiredArgsConstructor;
+
 @Service
+@RequiredArgsConstructor
 public class FileStorageService {
     @Value("${app.media.base-path:uploads}")
     private String basePath;
 
-    private static final Set<String> ALLOWED = Set.of("jpg", "jpeg", "png");
+    // true: 같은 내용은 blobs/ 아래 한 번만 저장 (ContentAddressedStore), false: 업로드마다 UUID 파일
+    @Value("${app.media.content-addressed:false}")
+    private boolean contentAddressed;
+
+    // multipart / 스트리밍 업로드 공통 상한
+    @Value("${app.media.upload.max-size:10MB}")
+    private DataSize maxUploadSize;
+
+    private final ImageVariantService variants;
+    private final ContentAddressedStore blobs;
 
     public enum ImageCategory {
         PETS("pets"),
@@ -58,42 +71,102 @@ public class FileStorageService {
         return save(ImageCategory.RESERVATION, ownerId, file);
     }
 
+    public String savePetImage(Long ownerId, InputStream body, Long contentLength) throws IOException {
+        return save(ImageCategory.PETS, ownerId, body, contentLength);
+    }
+
+    public String saveUserImage(Long ownerId, InputStream body, Long contentLength) throws IOException {
+        return save(ImageCategory.USERS, ownerId, body, contentLength);
+    }
+
+    public String saveReservationImage(Long ownerId, InputStream body, Long contentLength) throws IOException {
+        return save(ImageCategory.RESERVATION, ownerId, body, contentLength);
+    }
+
     public String save(ImageCategory category, Long refId, MultipartFile file) throws IOException {
         if (refId == null)
             throw new IllegalArgumentException("refId is required");
         if (file == null || file.isEmpty())
             throw new IllegalArgumentException("file is empty");
+        long maxBytes = maxUploadSize.toBytes();
+        if (file.getSize() > maxBytes)
+            throw new IllegalArgumentException("FILE_TOO_LARGE");
+
+        // 파일명 확장자 대신 첫 바이트로 형식 확인
+        String ext;
+        try (InputStream in = file.getInputStream()) {
+            ext = ImageUpload.detectExt(in.readNBytes(ImageUpload.HEAD_BYTES));
+        }
 
-        String ext = getExt(file.getOriginalFilename()).toLowerCase();
-        if (!ALLOWED.contains(ext)) {
-            throw new IllegalArgumentException("unsupport file type: " + ext);
+        if (contentAddressed) {
+            try (InputStream in = file.getInputStream()) {
+                return blobs.store(in, ext, maxBytes);
+            }
         }
 
-        String filename = UUID.randomUUID() + "." + ext;
-        Path dir = Paths.get(basePath, category.dir(), String.valueOf(refId));
-        Files.createDirectories(dir);
+        Path dest = newFile(category, refId, ext);
+        file.transferTo(dest.toFile()); // 컨테이너 임시 파일을 옮긴다 (같은 디스크면 rename)
+        variants.submit(dest); // 축소본은 비동기로, 생기기 전까지는 원본으로 서빙
 
-        Path dest = dir.resolve(filename);
-        file.transferTo(dest.toFile());
+        return urlOf(category, refId, dest);
+    }
 
-        return "/media/" + category.dir() + "/" + refId + "/" + filename;
+    /**
+     * 요청 본문(이미지 바이트 그대로)을 최종 위치에 바로 쓴다.
+     * multipart 처럼 컨테이너 임시 파일을 거치지 않아 디스크 쓰기 1회, 메모리는 버퍼 크기로 일정.
+     * 형식은 첫 바이트로 판단하고, 크기 제한은 Content-Length(있으면)와 실제 받은 바이트 둘 다 본다.
+     */
+    public String save(ImageCategory category, Long refId, InputStream body, Long contentLength) throws IOException {
+        if (refId == null)
+            throw new IllegalArgumentException("refId is required");
+        long maxBytes = maxUploadSize.toBytes();
+        if (contentLength != null && contentLength > maxBytes)
+            throw new IllegalArgumentException("FILE_TOO_LARGE"); // 본문을 받기 전에 거절
+
+        ImageUpload.Sniffed upload = ImageUpload.sniff(body);
+        if (contentAddressed) {
+            return blobs.store(upload.body(), upload.ext(), maxBytes);
+        }
+
+        Path dest = newFile(category, refId, upload.ext());
+        ImageUpload.write(upload.body(), dest, maxBytes);
+        variants.submit(dest);
+
+        return urlOf(category, refId, dest);
+    }
+
+    /** url 이 category/refId 폴더에 올린 (UUID) 파일인지. ../ 로 다른 폴더를 가리키는 값은 false */
+    public boolean isUploadOf(String url, ImageCategory category, Long refId) {
+        if (url == null || refId == null || !url.startsWith("/media/") || url.contains("\\")) return false;
+        Path base = Paths.get(basePath).toAbsolutePath().normalize();
+        Path dir = base.resolve(category.dir()).resolve(String.valueOf(refId));
+        Path path = base.resolve(url.substring("/media/".length())).normalize();
+        return path.getParent() != null && path.getParent().equals(dir);
     }
 
     public boolean deleteByUrl(String url) {
         if (url == null || !url.startsWith("/media/")) return false;
+        if (blobs.owns(url)) return false; // 다른 행이 같은 파일을 가리킬 수 있어 수거기(ContentAddressedStore.sweep)가 지운다
         String relative = url.substring("/media/".length()); // e.g. pets/1/uuid.jpg
-        Path path = Paths.get(basePath, relative.replace("/", File.separator));
+        Path base = Paths.get(basePath).toAbsolutePath().normalize();
+        Path path = base.resolve(relative.replace("/", File.separator)).normalize();
+        if (!path.startsWith(base)) return false; // ../ 로 저장소 밖을 가리키는 URL
         try {
-            return Files.deleteIfExists(path);
+            boolean deleted = Files.deleteIfExists(path);
+            variants.deleteVariants(path);
+            return deleted;
         } catch (IOException e) {
             return false;
         }
     }
 
-    private String getExt(String name) {
-        if (name == null) return "";
-        int i = name.lastIndexOf(".");
-        return (i == -1) ? "" : name.substring(i + 1);
+    private Path newFile(ImageCategory category, Long refId, String ext) throws IOException {
+        Path dir = Files.createDirectories(Paths.get(basePath, category.dir(), String.valueOf(refId)));
+        return dir.resolve(UUID.randomUUID() + "." + ext);
+    }
+
+    private static String urlOf(ImageCategory category, Long refId, Path file) {
+        return "/media/" + category.dir() + "/" + refId + "/" + file.getFileName();
     }
 
 }
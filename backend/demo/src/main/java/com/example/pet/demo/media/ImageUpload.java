@@ -0,0 +1,84 @@
+package com.example.pet.demo.media;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 업로드 본문을 스트리밍으로 검사/저장하는 도우미.
+ * - 확장자(파일명) 대신 첫 바이트(매직 넘버)로 형식을 정한다
+ * - 최종 위치에 채널로 바로 쓰면서 크기 제한을 건다 (본문 전체를 메모리나 임시 파일에 두지 않음)
+ */
+final class ImageUpload {
+    static final int HEAD_BYTES = 8;
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+    private ImageUpload() {
+    }
+
+    /** 첫 바이트로 본 형식의 확장자. JPEG/PNG 가 아니면 UNSUPPORTED_IMAGE_TYPE */
+    static String detectExt(byte[] head) {
+        if (head.length >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (head.length >= PNG.length) {
+            boolean png = true;
+            for (int i = 0; i < PNG.length && png; i++) {
+                png = head[i] == PNG[i];
+            }
+            if (png) {
+                return "png";
+            }
+        }
+        throw new IllegalArgumentException("UNSUPPORTED_IMAGE_TYPE");
+    }
+
+    /** 앞부분을 읽어 형식을 확인한 뒤, 읽은 바이트를 되돌려 붙인 스트림과 확장자를 돌려준다 */
+    static Sniffed sniff(InputStream in) throws IOException {
+        byte[] head = in.readNBytes(HEAD_BYTES);
+        if (head.length == 0) {
+            throw new IllegalArgumentException("file is empty");
+        }
+        String ext = detectExt(head);
+        return new Sniffed(ext, new SequenceInputStream(new ByteArrayInputStream(head), in));
+    }
+
+    /**
+     * 본문을 target 에 새로 만들어 쓴다. maxBytes 를 넘으면 쓰던 파일을 지우고 FILE_TOO_LARGE.
+     * FileChannel.transferFrom 은 최대 maxBytes + 1 까지만 읽으므로 초과분을 끝까지 받지 않는다.
+     */
+    static long write(InputStream in, Path target, long maxBytes) throws IOException {
+        long written;
+        try (ReadableByteChannel src = Channels.newChannel(in);
+             FileChannel out = FileChannel.open(target,
+                     StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            written = 0;
+            long n;
+            // 블로킹 스트림은 한 번에 끝까지 안 올 수 있어 EOF(0) 또는 한도 초과까지 반복
+            while ((n = out.transferFrom(src, written, maxBytes + 1 - written)) > 0) {
+                written += n;
+                if (written > maxBytes) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        if (written > maxBytes) {
+            Files.deleteIfExists(target);
+            throw new IllegalArgumentException("FILE_TOO_LARGE");
+        }
+        return written;
+    }
+
+    record Sniffed(String ext, InputStream body) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.pet.demo.media;
+
+import java.util.Optional;
+
+/**
+ * 업로드 이미지의 축소본 종류. 원본 옆에 {이름}_{variant}.jpg 로 저장된다.
+ * 예) pets/1/uuid.png → pets/1/uuid_thumb.jpg, pets/1/uuid_medium.jpg
+ */
+public enum ImageVariant {
+    THUMB("thumb", 200, true),    // 목록 아바타: 정사각형 가운데 자르기
+    MEDIUM("medium", 800, false); // 상세 화면: 긴 변 기준 축소
+
+    private final String suffix;
+    private final int size;
+    private final boolean square;
+
+    ImageVariant(String suffix, int size, boolean square) {
+        this.suffix = suffix;
+        this.size = size;
+        this.square = square;
+    }
+
+    public String suffix() { return suffix; }
+    public int size() { return size; }
+    public boolean square() { return square; }
+
+    public static Optional<ImageVariant> fromParam(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        for (ImageVariant v : values()) {
+            if (v.suffix.equalsIgnoreCase(value.trim())) {
+                return Optional.of(v);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** 원본 경로(파일명 포함) → 축소본 경로. 디렉터리 구분자는 그대로 둔다 */
+    public String pathOf(String originalPath) {
+        int slash = Math.max(originalPath.lastIndexOf('/'), originalPath.lastIndexOf('\\'));
+        int dot = originalPath.lastIndexOf('.');
+        String stem = dot > slash ? originalPath.substring(0, dot) : originalPath;
+        return stem + "_" + suffix + ".jpg";
+    }
+}
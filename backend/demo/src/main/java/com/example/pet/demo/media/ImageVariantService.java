@@ -0,0 +1,360 @@
+package com.example.pet.demo.media;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 업로드 직후 축소본(thumb/medium)을 만드는 비동기 단계.
+ * - 고정 크기 풀 + 고정 크기 대기열: 몰리면 축소본 생성을 건너뛰고(원본으로 서빙) 업로드는 막지 않는다
+ *   건너뛴 축소본은 원본이 대신 서빙될 때 다시 대기열에 넣는다 (MediaFileServer → regenerate)
+ *   형식 검사는 통과했지만 디코딩되지 않는 원본은 기억해 두고 다시 넣지 않는다 (요청마다 디코딩/로그 반복 방지)
+ * - EXIF Orientation 을 픽셀에 반영한 뒤 JPEG 로 다시 인코딩 → EXIF(위치 정보 등)는 남지 않는다
+ * - 큰 원본은 디코딩 단계에서 서브샘플링해 메모리를 목표 크기 수준으로 제한
+ * - 임시 파일에 쓰고 원자적으로 이동 → 반쯤 쓴 파일이 서빙되지 않는다
+ * JDK ImageIO 에 WebP 인코더가 없어 축소본은 JPEG 로 만든다.
+ */
+@Component
+public class ImageVariantService {
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    private final ThreadPoolExecutor pool;
+    private final float jpegQuality;
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    // 대기 중/생성 중인 원본. 서빙 때마다 같은 파일이 여러 번 들어가지 않게
+    private final Set<Path> pending = ConcurrentHashMap.newKeySet();
+    // 디코딩이 안 되는 원본. 다시 시도해도 같으므로 원본을 지울 때까지 건너뛴다
+    private final Set<Path> undecodable = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantService(@Value("${app.media.variants.threads:2}") int threads,
+                               @Value("${app.media.variants.queue-capacity:256}") int queueCapacity,
+                               @Value("${app.media.variants.jpeg-quality:0.82}") float jpegQuality) {
+        this.jpegQuality = jpegQuality;
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-variant-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** 원본 저장 직후 호출. 대기열이 차면 false (원본으로 계속 서빙) */
+    public boolean submit(Path original) {
+        boolean queued = enqueue(original);
+        if (!queued) {
+            log.warn("image variant queue full, serving original file={}", original);
+        }
+        return queued;
+    }
+
+    /**
+     * 축소본 대신 원본이 서빙될 때 호출. 이미 대기/생성 중이면 아무것도 하지 않는다.
+     * 대기열이 여전히 차 있으면 다음 요청 때 다시 시도된다 (요청마다 로그를 남기지 않음)
+     */
+    public boolean regenerate(Path original) {
+        return enqueue(original);
+    }
+
+    private boolean enqueue(Path original) {
+        if (undecodable.contains(original)) {
+            return false;
+        }
+        if (!pending.add(original)) {
+            return true;
+        }
+        try {
+            pool.execute(() -> {
+                try {
+                    generate(original);
+                } catch (UndecodableImageException e) {
+                    undecodable.add(original);
+                    failed.incrementAndGet();
+                    log.warn("image cannot be decoded, variants will not be retried file={} cause={}",
+                            original, e.getMessage());
+                } catch (IOException | RuntimeException e) {
+                    failed.incrementAndGet();
+                    log.warn("image variant generation failed file={}", original, e);
+                } finally {
+                    pending.remove(original);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            pending.remove(original);
+            rejected.incrementAndGet();
+            return false;
+        }
+    }
+
+    void generate(Path original) throws IOException {
+        int orientation;
+        try (InputStream in = Files.newInputStream(original)) {
+            orientation = readExifOrientation(in);
+        }
+        BufferedImage src;
+        try {
+            src = decode(original, ImageVariant.MEDIUM.size());
+        } catch (IOException | RuntimeException e) {
+            throw new UndecodableImageException(e.toString());
+        }
+        if (src == null) {
+            throw new UndecodableImageException("unsupported image: " + original);
+        }
+        BufferedImage upright = orient(src, orientation);
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            BufferedImage out = variant.square()
+                    ? cropSquare(upright, variant.size())
+                    : fit(upright, variant.size());
+            Path target = original.resolveSibling(variant.pathOf(original.getFileName().toString()));
+            writeJpeg(out, target);
+        }
+        generated.incrementAndGet();
+    }
+
+    /** 원본과 함께 축소본도 지운다 (없으면 무시) */
+    public void deleteVariants(Path original) {
+        undecodable.remove(original);
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                Files.deleteIfExists(original.resolveSibling(variant.pathOf(original.getFileName().toString())));
+            } catch (IOException e) {
+                log.debug("variant delete failed file={}", original, e);
+            }
+        }
+    }
+
+    public int queued() { return pool.getQueue().size(); }
+    public long generatedCount() { return generated.get(); }
+    public long failedCount() { return failed.get(); }
+    public long rejectedCount() { return rejected.get(); }
+    public int undecodableCount() { return undecodable.size(); }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        pool.shutdown();
+        if (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+    }
+
+    // 원본 자체가 깨진 경우 (쓰기 실패 같은 일시적 오류와 구분)
+    static final class UndecodableImageException extends IOException {
+        UndecodableImageException(String message) {
+            super(message);
+        }
+    }
+
+    // 짧은 변이 목표의 2배 이상이면 디코딩 때 건너뛰며 읽는다 (4000px 원본을 통째로 펼치지 않음)
+    private static BufferedImage decode(Path file, int target) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int shorter = Math.min(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, shorter / (target * 2));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** EXIF Orientation(1~8)에 맞춰 바로 세우고, 투명 영역은 흰 배경으로 채운 RGB 로 만든다 */
+    static BufferedImage orient(BufferedImage src, int orientation) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        boolean swap = orientation >= 5 && orientation <= 8;
+        AffineTransform t = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // transpose
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // transverse
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);   // 반시계 90도
+            default -> new AffineTransform();
+        };
+        BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, out.getWidth(), out.getHeight());
+            g.drawImage(src, t, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private static BufferedImage fit(BufferedImage src, int max) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        if (w <= max && h <= max) {
+            return src; // 확대하지 않는다
+        }
+        double scale = (double) max / Math.max(w, h);
+        return resize(src, Math.max(1, (int) Math.round(w * scale)), Math.max(1, (int) Math.round(h * scale)));
+    }
+
+    private static BufferedImage cropSquare(BufferedImage src, int size) {
+        int side = Math.min(src.getWidth(), src.getHeight());
+        BufferedImage square = src.getSubimage((src.getWidth() - side) / 2, (src.getHeight() - side) / 2, side, side);
+        return side <= size ? square : resize(square, size, size);
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생겨 절반씩 줄인 뒤 마지막에 맞춘다
+    private static BufferedImage resize(BufferedImage src, int w, int h) {
+        BufferedImage cur = src;
+        while (cur.getWidth() / 2 >= w && cur.getHeight() / 2 >= h) {
+            cur = draw(cur, cur.getWidth() / 2, cur.getHeight() / 2);
+        }
+        return (cur.getWidth() == w && cur.getHeight() == h) ? cur : draw(cur, w, h);
+    }
+
+    private static BufferedImage draw(BufferedImage src, int w, int h) {
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param); // 메타데이터 없이
+            } finally {
+                writer.dispose();
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * JPEG APP1(Exif) 의 IFD0 Orientation(0x0112) 값. 없거나 JPEG 가 아니면 1.
+     * 마커 헤더만 따라가므로 픽셀 데이터(SOS 이후)는 읽지 않는다.
+     */
+    static int readExifOrientation(InputStream raw) throws IOException {
+        DataInputStream in = new DataInputStream(raw);
+        try {
+            if (in.readUnsignedShort() != 0xFFD8) {
+                return 1;
+            }
+            while (true) {
+                int marker = in.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+                    return 1;
+                }
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return 1;
+                }
+                if (marker != 0xFFE1) {
+                    in.skipNBytes(length);
+                    continue;
+                }
+                byte[] segment = in.readNBytes(length);
+                if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i'
+                        || segment[3] != 'f' || segment[4] != 0 || segment[5] != 0) {
+                    continue; // XMP 등 다른 APP1
+                }
+                return tiffOrientation(segment, 6);
+            }
+        } catch (EOFException e) {
+            return 1;
+        }
+    }
+
+    private static int tiffOrientation(byte[] b, int tiff) {
+        boolean little = b[tiff] == 'I';
+        int ifd = tiff + (int) readInt(b, tiff + 4, little);
+        if (ifd < tiff || ifd + 2 > b.length) {
+            return 1;
+        }
+        int entries = readShort(b, ifd, little);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > b.length) {
+                return 1;
+            }
+            if (readShort(b, entry, little) == 0x0112) {
+                int value = readShort(b, entry + 8, little);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] b, int at, boolean little) {
+        int b0 = b[at] & 0xFF;
+        int b1 = b[at + 1] & 0xFF;
+        return little ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readInt(byte[] b, int at, boolean little) {
+        long hi = readShort(b, at, little);
+        long lo = readShort(b, at + 2, little);
+        return little ? (lo << 16) | hi : (hi << 16) | lo;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.pet.demo.media;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.pet.demo.media.FileStorageService.ImageCategory;
+import com.example.pet.demo.media.domain.port.MediaReferencePort;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 삭제된 레코드의 업로드 파일을 커밋 후 별도 스레드에서 지운다.
+ * - 롤백되면 지우지 않는다 (행은 남았는데 파일만 사라지는 일 방지)
+ * - 요청 스레드는 큐에 넣기만 하므로 디스크 I/O 를 기다리지 않는다
+ * - 기본 이미지(/media/default/...)처럼 여러 행이 공유하는 파일은 건드리지 않는다
+ * - URL 은 클라이언트가 넣은 값일 수 있으므로 지우는 행의 주인 폴더(category/ownerId) 파일만,
+ *   지우기 직전 어떤 행(MediaReferencePort)도 같은 URL 을 가리키지 않을 때만 지운다 (일괄 등록은 한 URL 을 여러 행이 공유)
+ */
+@Component
+public class MediaCleanupQueue {
+    private static final Logger log = LoggerFactory.getLogger(MediaCleanupQueue.class);
+    private static final String SHARED_PREFIX = "/media/default/";
+
+    private final FileStorageService files;
+    private final List<MediaReferencePort> references;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "media-cleanup");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicLong deleted = new AtomicLong();
+    private final AtomicLong missing = new AtomicLong();
+    private final AtomicLong stillReferenced = new AtomicLong();
+
+    public MediaCleanupQueue(FileStorageService files, List<MediaReferencePort> references) {
+        this.files = files;
+        this.references = references;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 밖이면 바로 삭제 작업을 큐에 넣는다.
+     * category/ownerId 폴더에 올린 파일이 아니면 (다른 사용자 파일, 기본 이미지 등) 무시한다
+     */
+    public void deleteAfterCommit(String url, ImageCategory category, Long ownerId) {
+        if (url == null || url.isBlank() || url.startsWith(SHARED_PREFIX) || !files.isUploadOf(url, category, ownerId)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(url);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(url);
+            }
+        });
+    }
+
+    private void enqueue(String url) {
+        try {
+            worker.execute(() -> delete(url));
+        } catch (RejectedExecutionException e) {
+            // 종료 중: 파일은 남지만 행은 이미 지워졌으니 그대로 둔다
+            log.warn("media cleanup rejected (shutting down) url={}", url);
+        }
+    }
+
+    private void delete(String url) {
+        try {
+            // 커밋 뒤에 확인하므로 지운 행은 빠지고, 같은 URL 을 쓰는 다른 행만 남는다
+            if (isReferenced(url)) {
+                stillReferenced.incrementAndGet();
+                log.debug("media kept (still referenced) url={}", url);
+                return;
+            }
+            if (files.deleteByUrl(url)) {
+                deleted.incrementAndGet();
+            } else {
+                missing.incrementAndGet();
+                log.debug("media not deleted (still referenced, missing or outside base path) url={}", url);
+            }
+        } catch (RuntimeException e) {
+            log.warn("media cleanup failed url={}", url, e);
+        }
+    }
+
+    private boolean isReferenced(String url) {
+        for (MediaReferencePort source : references) {
+            for (String value : source.findUrlsContaining(url)) {
+                for (String candidate : value.split(",")) { // 예약 사진은 CSV
+                    if (sameMedia(candidate.trim(), url)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    // 프로필 사진처럼 절대 URL(http://host/media/...)로 저장된 값도 있다
+    private static boolean sameMedia(String stored, String url) {
+        if (stored.equals(url)) {
+            return true;
+        }
+        int scheme = stored.indexOf("://");
+        return scheme > 0 && stored.endsWith(url)
+                && stored.indexOf('/', scheme + 3) == stored.length() - url.length();
+    }
+
+    public long deletedCount() {
+        return deleted.get();
+    }
+
+    public long missingCount() {
+        return missing.get();
+    }
+
+    public long stillReferencedCount() {
+        return stillReferenced.get();
+    }
+
+    // 남은 삭제 작업은 잠깐 기다려 마저 처리
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        worker.shutdown();
+        if (!worker.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("media cleanup did not finish, {} files left", worker.shutdownNow().size());
+        }
+    }
+}
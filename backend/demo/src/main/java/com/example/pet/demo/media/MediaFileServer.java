@@ -0,0 +1,264 @@
+package com.example.pet.demo.media;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * /media/** 전용 파일 서빙.
+ * - 본문은 Tomcat sendfile(커널이 파일 → 소켓 직접 복사)로, 지원하지 않으면 FileChannel.transferTo 로 보낸다
+ * - 강한 ETag: blobs/ 는 파일명이 곧 SHA-256, 나머지는 한 번 쓰고 바꾸지 않는 파일이라 크기+수정시각
+ * - UUID/해시 이름 파일은 내용이 바뀌지 않으므로 1년 immutable, 그 외(기본 이미지, 축소본 대신 나간 원본)는 no-cache + ETag 재검증
+ * - If-None-Match / If-Modified-Since → 304, 단일 Range(bytes=a-b, a-, -n) → 206, If-Range 지원
+ * - ?variant=thumb|medium, *_thumb.jpg 는 축소본이 있으면 그것, 아직 없으면 원본
+ *   (업로드 원본이 대신 나가면 축소본 생성을 다시 요청 - 업로드 때 대기열이 차서 건너뛴 경우)
+ */
+@Component
+public class MediaFileServer implements HttpRequestHandler {
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 작은 파일은 sendfile 준비 비용이 더 커서 그냥 쓴다 (Tomcat DefaultServlet 기본값과 같음)
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "public, no-cache";
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile(
+            "^([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|[0-9a-f]{64})(_[a-z]+)?\\.[a-z0-9]+$");
+    private static final Pattern BLOB_NAME = Pattern.compile("^[0-9a-f]{64}\\.[a-z0-9]+$");
+    private static final Pattern UPLOADED_ORIGINAL = Pattern.compile(
+            "^([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|[0-9a-f]{64})\\.(jpg|jpeg|png)$");
+    private static final List<String> ORIGINAL_EXTS = List.of("jpg", "jpeg", "png");
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private final Path base;
+    private final ImageVariantService variants;
+
+    public MediaFileServer(@Value("${app.media.base-path:uploads}") String basePath, ImageVariantService variants) {
+        this.base = Paths.get(basePath).toAbsolutePath().normalize();
+        this.variants = variants;
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Object path = request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        serve(request, response, path == null ? "" : path.toString());
+    }
+
+    void serve(HttpServletRequest request, HttpServletResponse response, String relative) throws IOException {
+        boolean head = "HEAD".equals(request.getMethod());
+        if (!head && !"GET".equals(request.getMethod())) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD");
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+        Resolved file = resolve(relative, ImageVariant.fromParam(request.getParameter("variant")));
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (file.fallback() && UPLOADED_ORIGINAL.matcher(file.path().getFileName().toString()).matches()) {
+            variants.regenerate(file.path());
+        }
+
+        BasicFileAttributes attrs = Files.readAttributes(file.path(), BasicFileAttributes.class);
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis() / 1000 * 1000; // HTTP 날짜는 초 단위
+        String name = file.path().getFileName().toString();
+        String etag = BLOB_NAME.matcher(name).matches()
+                ? "\"" + name.substring(0, 64) + "\""
+                : "\"" + Long.toHexString(size) + "-" + Long.toHexString(attrs.lastModifiedTime().toMillis()) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                !file.fallback() && IMMUTABLE_NAME.matcher(name).matches() ? IMMUTABLE : REVALIDATE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(name)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        long start = 0;
+        long length = size;
+        long[] range = rangeOf(request, etag, lastModified, size);
+        if (range == UNSATISFIABLE) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        if (range != null) {
+            start = range[0];
+            length = range[1] - range[0] + 1;
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range[0] + "-" + range[1] + "/" + size);
+        }
+        response.setContentLengthLong(length);
+        if (head || length == 0) {
+            return;
+        }
+
+        if (length >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 서블릿이 반환한 뒤 Tomcat 이 이 구간을 sendfile 로 보낸다 (경로는 정규 경로여야 함)
+            request.setAttribute(SENDFILE_FILENAME, file.path().toFile().getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long end = start + length;
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, out);
+                if (sent <= 0) {
+                    break; // 전송 중 파일이 잘렸다 (정상 경로에선 없음)
+                }
+                position += sent;
+            }
+        }
+    }
+
+    /** 요청 경로 → 실제 파일. 저장소 밖, 숨김 경로(blobs/.tmp 등)는 null */
+    Resolved resolve(String relative, Optional<ImageVariant> variant) {
+        if (relative.isEmpty() || relative.contains("\\")) {
+            return null;
+        }
+        for (String segment : relative.split("/")) {
+            if (segment.isEmpty() || segment.startsWith(".")) {
+                return null;
+            }
+        }
+        if (variant.isPresent()) {
+            Path wanted = regularFile(variant.get().pathOf(relative));
+            if (wanted != null) {
+                return new Resolved(wanted, false);
+            }
+        }
+        Path original = regularFile(relative);
+        if (original != null) {
+            return new Resolved(original, variant.isPresent());
+        }
+        // 축소본 경로를 직접 요청했는데 아직 없음 → 원본
+        for (ImageVariant v : ImageVariant.values()) {
+            String tail = "_" + v.suffix() + ".jpg";
+            if (!relative.endsWith(tail)) {
+                continue;
+            }
+            String stem = relative.substring(0, relative.length() - tail.length());
+            for (String ext : ORIGINAL_EXTS) {
+                Path fallback = regularFile(stem + "." + ext);
+                if (fallback != null) {
+                    return new Resolved(fallback, true);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Path regularFile(String relative) {
+        Path path = base.resolve(relative).normalize();
+        if (!path.startsWith(base) || !Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS)) {
+            return null;
+        }
+        return path;
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match 는 약한 비교 (W/ 무시)
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                    return true;
+                }
+            }
+            return false; // If-None-Match 가 있으면 If-Modified-Since 는 보지 않는다
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    /** 단일 구간만 처리한다. 여러 구간·형식 오류·If-Range 불일치면 null → 전체(200) */
+    private static long[] rangeOf(HttpServletRequest request, String etag, long lastModified, long size) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                if (!ifRange.equals(etag)) { // If-Range 는 강한 비교
+                    return null;
+                }
+            } else if (dateHeader(request, HttpHeaders.IF_RANGE) != lastModified) {
+                return null;
+            }
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffix = Long.parseLong(last); // 끝에서 n 바이트
+                if (suffix <= 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[] { Math.max(0, size - suffix), size - 1 };
+            }
+            long from = Long.parseLong(first);
+            long to = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (from >= size) {
+                return UNSATISFIABLE;
+            }
+            return from <= to ? new long[] { from, to } : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1; // 날짜 형식이 아니면 없는 것으로
+        }
+    }
+
+    record Resolved(Path path, boolean fallback) {
+    }
+}
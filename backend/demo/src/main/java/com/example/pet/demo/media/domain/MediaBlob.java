@@ -0,0 +1,39 @@
+package com.example.pet.demo.media.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 주소(SHA-256) 기반으로 한 번만 저장된 업로드 파일.
+ * 키는 "{sha256}.{확장자}" 로 파일명과 같다 (blobs/ab/cd/{키}).
+ * 참조 수는 두지 않는다 - 수거기가 URL 컬럼들을 직접 확인하고, uploaded_at 이 유예 기간보다 오래됐는데
+ * 가리키는 행이 없는 파일만 지운다. 쓰기는 MediaBlobPort 로만 한다.
+ */
+@Entity
+@Table(name = "media_blob", indexes = {
+    @Index(name = "idx_media_blob_uploaded", columnList = "uploaded_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MediaBlob {
+    @Id
+    @Column(name = "blob_key", length = 80)
+    private String blobKey;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "uploaded_at", nullable = false)
+    private LocalDateTime uploadedAt; // 마지막으로 같은 내용이 업로드된 시각
+}
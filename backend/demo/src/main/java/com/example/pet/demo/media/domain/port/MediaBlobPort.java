@@ -0,0 +1,10 @@
+package com.example.pet.demo.media.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MediaBlobPort {
+    void touch(String blobKey, long sizeBytes, LocalDateTime now);                    // 없으면 추가, 있으면 uploaded_at 만 갱신
+    List<String> findUploadedBefore(LocalDateTime cutoff, String afterKey, int limit); // blob_key 순 keyset 페이지
+    boolean deleteIfUploadedBefore(String blobKey, LocalDateTime cutoff);              // 그 사이 다시 올라왔으면 false
+}
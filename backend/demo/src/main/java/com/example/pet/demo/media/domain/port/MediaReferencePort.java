@@ -0,0 +1,12 @@
+package com.example.pet.demo.media.domain.port;
+
+import java.util.List;
+
+/**
+ * 업로드 URL 을 저장하는 테이블(모듈)마다 하나씩 구현한다.
+ * 공유 파일 수거기가 "아직 어떤 행이 이 파일을 가리키는지"를 DB 에서 직접 확인할 때 쓴다.
+ */
+public interface MediaReferencePort {
+    // fragment 를 포함하는 URL 컬럼 값 (CSV 컬럼이면 값 전체)
+    List<String> findUrlsContaining(String fragment);
+}
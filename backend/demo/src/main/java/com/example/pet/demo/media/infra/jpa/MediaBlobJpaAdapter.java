@@ -0,0 +1,50 @@
+package com.example.pet.demo.media.infra.jpa;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.pet.demo.media.domain.port.MediaBlobPort;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class MediaBlobJpaAdapter implements MediaBlobPort {
+
+    // PK(blob_key) 기준 한 문장 upsert: 같은 사진이 다시 올라오면 uploaded_at 만 당겨서 수거 유예를 새로 시작
+    private static final String TOUCH_SQL = """
+            insert into media_blob (blob_key, size_bytes, created_at, uploaded_at)
+            values (:key, :size, :now, :now)
+            on duplicate key update uploaded_at = values(uploaded_at)
+            """;
+
+    private final MediaBlobJpaRepository jpa;
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @Override
+    public void touch(String blobKey, long sizeBytes, LocalDateTime now) {
+        jdbc.update(TOUCH_SQL, new MapSqlParameterSource()
+                .addValue("key", blobKey)
+                .addValue("size", sizeBytes)
+                .addValue("now", Timestamp.valueOf(now)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findUploadedBefore(LocalDateTime cutoff, String afterKey, int limit) {
+        return jpa.findKeysUploadedBefore(cutoff, afterKey, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteIfUploadedBefore(String blobKey, LocalDateTime cutoff) {
+        return jpa.deleteIfUploadedBefore(blobKey, cutoff) == 1;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.pet.demo.media.infra.jpa;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.pet.demo.media.domain.MediaBlob;
+
+public interface MediaBlobJpaRepository extends JpaRepository<MediaBlob, String> {
+
+    @Query("""
+            select b.blobKey from MediaBlob b
+            where b.uploadedAt < :cutoff and b.blobKey > :afterKey
+            order by b.blobKey
+            """)
+    List<String> findKeysUploadedBefore(@Param("cutoff") LocalDateTime cutoff,
+                                        @Param("afterKey") String afterKey,
+                                        Limit limit);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from MediaBlob b where b.blobKey = :key and b.uploadedAt < :cutoff")
+    int deleteIfUploadedBefore(@Param("key") String blobKey, @Param("cutoff") LocalDateTime cutoff);
+}
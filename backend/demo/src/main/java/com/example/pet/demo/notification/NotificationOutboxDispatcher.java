@@ -0,0 +1,185 @@
+package com.example.pet.demo.notification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.pet.demo.notification.domain.NotificationOutbox;
+import com.example.pet.demo.notification.domain.port.DeviceTokenPort;
+import com.example.pet.demo.notification.domain.port.NotificationOutboxPort;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 아웃박스 PENDING 메시지를 주기적으로 모아 발송한다.
+ * - 한 번에 batch-size 건을 조건부 UPDATE 로 선점(lease)하고, 선점한 행만 chunk-size 단위로 나눠 워커 풀에서 sendEach
+ *   (여러 인스턴스가 같이 폴링해도 같은 메시지를 두 번 보내지 않는다)
+ * - 성공은 한 번의 UPDATE로 SENT 처리, 실패는 지수 백오프로 재시도, 한도 초과/영구 실패는 DEAD
+ */
+@Component
+public class NotificationOutboxDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(NotificationOutboxDispatcher.class);
+
+    private final NotificationOutboxPort outbox;
+    private final PushSender pushSender;
+    private final DeviceTokenPort deviceTokens;
+    private final int batchSize;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration lease;
+    private final ThreadPoolExecutor workers;
+
+    public NotificationOutboxDispatcher(NotificationOutboxPort outbox,
+                                        PushSender pushSender,
+                                        DeviceTokenPort deviceTokens,
+                                        @Value("${app.notification.outbox.batch-size:500}") int batchSize,
+                                        @Value("${app.notification.outbox.chunk-size:100}") int chunkSize,
+                                        @Value("${app.notification.outbox.workers:4}") int workerCount,
+                                        @Value("${app.notification.outbox.max-attempts:5}") int maxAttempts,
+                                        @Value("${app.notification.outbox.backoff-base:5s}") Duration backoffBase,
+                                        @Value("${app.notification.outbox.backoff-max:10m}") Duration backoffMax,
+                                        @Value("${app.notification.outbox.lease:5m}") Duration lease) {
+        this.outbox = outbox;
+        this.pushSender = pushSender;
+        this.deviceTokens = deviceTokens;
+        this.batchSize = batchSize;
+        this.chunkSize = Math.min(chunkSize, PushSender.MAX_BATCH);
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.lease = lease;
+
+        AtomicInteger seq = new AtomicInteger();
+        // 큐가 차면 호출(스케줄러) 스레드가 직접 보내서 자연스럽게 속도가 조절된다
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount * 2),
+                r -> {
+                    Thread t = new Thread(r, "outbox-push-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.outbox.poll-interval:1s}")
+    public void poll() {
+        try {
+            // 꽉 찬 배치였으면 밀린 게 더 있을 수 있으니 바로 이어서 처리
+            while (drainOnce() == batchSize) {
+                // continue
+            }
+        } catch (RuntimeException e) {
+            log.warn("outbox drain failed", e);
+        }
+    }
+
+    /** 발송 대상 한 배치를 처리하고 처리한 건수를 반환 */
+    public int drainOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> due = outbox.claimDue(now, now.plus(lease), batchSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<List<PushResult>>> futures = new ArrayList<>();
+        List<List<NotificationOutbox>> chunks = new ArrayList<>();
+        for (int i = 0; i < due.size(); i += chunkSize) {
+            List<NotificationOutbox> chunk = due.subList(i, Math.min(i + chunkSize, due.size()));
+            List<PushMessage> messages = chunk.stream().map(this::toPush).toList();
+            chunks.add(chunk);
+            futures.add(workers.submit(() -> pushSender.sendEach(messages)));
+        }
+
+        List<Long> sent = new ArrayList<>();
+        Set<String> invalidTokens = new HashSet<>();
+        for (int c = 0; c < chunks.size(); c++) {
+            List<NotificationOutbox> chunk = chunks.get(c);
+            List<PushResult> results;
+            try {
+                results = futures.get(c).get();
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                PushResult failed = PushResult.retryable("DISPATCH_ERROR", e.getMessage());
+                results = chunk.stream().map(m -> failed).toList();
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                NotificationOutbox msg = chunk.get(i);
+                PushResult result = i < results.size() ? results.get(i)
+                        : PushResult.retryable("MISSING_RESULT", null);
+                if (result.success()) {
+                    sent.add(msg.getId());
+                } else {
+                    if (result.invalidToken()) {
+                        invalidTokens.add(msg.getTargetToken());
+                    }
+                    fail(msg, result, now);
+                }
+            }
+        }
+        outbox.markSent(sent, now);
+        pruneTokens(invalidTokens);
+        return due.size();
+    }
+
+    // FCM이 UNREGISTERED/INVALID_ARGUMENT로 답한 토큰은 지워서 다음부터 적재/발송하지 않는다
+    private void pruneTokens(Set<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        try {
+            int removed = deviceTokens.deleteByTokens(tokens);
+            log.info("pruned {} invalid device tokens", removed);
+        } catch (RuntimeException e) {
+            // 다음 발송에서 다시 무효 판정되면 그때 지운다
+            log.warn("device token prune failed ({} tokens)", tokens.size(), e);
+        }
+    }
+
+    private void fail(NotificationOutbox msg, PushResult result, LocalDateTime now) {
+        int attempts = msg.getAttempts() + 1;
+        String error = result.errorCode() + ": " + result.errorMessage();
+        if (result.permanent() || attempts >= maxAttempts) {
+            log.warn("outbox message {} dead-lettered after {} attempts ({})", msg.getId(), attempts, error);
+            outbox.markDead(msg.getId(), attempts, error);
+        } else {
+            outbox.markRetry(msg.getId(), attempts, now.plus(backoff(attempts)), error);
+        }
+    }
+
+    // base * 2^(attempts-1), 최대 backoffMax
+    Duration backoff(int attempts) {
+        Duration d = backoffBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return d.compareTo(backoffMax) > 0 ? backoffMax : d;
+    }
+
+    private PushMessage toPush(NotificationOutbox m) {
+        Map<String, String> data = m.getRefId() == null
+                ? Map.of("event_type", m.getEventType().name())
+                : Map.of("event_type", m.getEventType().name(), "reservation_id", m.getRefId().toString());
+        return new PushMessage(m.getTargetToken(), m.getTitle(), m.getBody(), data);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
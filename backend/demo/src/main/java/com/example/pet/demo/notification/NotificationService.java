@@ -1,26 +1,52 @@
 package com.example.pet.demo.notification;
 
+import java.time.LocalDateTime;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
+import com.example.pet.demo.notification.domain.NotificationOutbox;
+import com.example.pet.demo.notification.domain.NotificationOutbox.EventType;
+import com.example.pet.demo.notification.domain.port.DeviceTokenPort;
+import com.example.pet.demo.notification.domain.port.NotificationOutboxPort;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 알림은 바로 보내지 않고 호출한 트랜잭션 안에서 아웃박스에 적재한다.
+ * 실제 발송은 커밋 이후 NotificationOutboxDispatcher가 담당한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
-    public void sendReservationAccepted(String targetToken, Long reservationId) throws FirebaseMessagingException {
-        Message msg = Message.builder()
-            .setToken(targetToken)
-            .putData("reservation_id", reservationId.toString())
-            .setNotification(Notification.builder()
-                .setTitle("예약 수락")
-                .setBody("파트너가 예약을 수락했습니다.")
-                .build())
-            .build();
-        FirebaseMessaging.getInstance().send(msg);
+    private final NotificationOutboxPort outbox;
+    private final DeviceTokenPort deviceTokens;
+
+    // 사용자의 등록된 기기마다 한 건씩 적재 (기기가 없으면 아무것도 하지 않음)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueReservationAccepted(Long userId, Long reservationId) {
+        LocalDateTime now = LocalDateTime.now();
+        for (String token : deviceTokens.findTokensByUserId(userId)) {
+            outbox.save(NotificationOutbox.builder()
+                    .eventType(EventType.RESERVATION_ACCEPTED)
+                    .userId(userId)
+                    .targetToken(token)
+                    .refId(reservationId)
+                    .title("예약 수락")
+                    .body("파트너가 예약을 수락했습니다.")
+                    .nextAttemptAt(now)
+                    .createdAt(now)
+                    .build());
+        }
+    }
+
+    /** 기기 토큰 등록/갱신 (앱 실행·토큰 갱신 시마다 호출, upsert 한 문장) */
+    public void registerDevice(Long userId, String token) {
+        deviceTokens.upsert(userId, token, LocalDateTime.now());
+    }
+
+    public boolean unregisterDevice(Long userId, String token) {
+        return deviceTokens.delete(userId, token) > 0;
     }
 }
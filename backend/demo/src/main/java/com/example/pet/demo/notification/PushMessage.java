@@ -0,0 +1,11 @@
+package com.example.pet.demo.notification;
+
+import java.util.Map;
+
+// FCM 등 발송 채널에 독립적인 푸시 메시지
+public record PushMessage(
+    String token,
+    String title,
+    String body,
+    Map<String, String> data
+) {}
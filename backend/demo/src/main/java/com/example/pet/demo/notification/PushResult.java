@@ -0,0 +1,30 @@
+package com.example.pet.demo.notification;
+
+/**
+ * 메시지 한 건의 발송 결과.
+ * permanent=true면 재시도해도 성공할 수 없는 실패 (토큰 만료/잘못된 요청 등)
+ * invalidToken=true면 대상 토큰 자체가 죽은 것 → 기기 토큰 목록에서 지운다
+ */
+public record PushResult(
+    boolean success,
+    String errorCode,
+    String errorMessage,
+    boolean permanent,
+    boolean invalidToken
+) {
+    public static PushResult ok() {
+        return new PushResult(true, null, null, false, false);
+    }
+
+    public static PushResult retryable(String errorCode, String errorMessage) {
+        return new PushResult(false, errorCode, errorMessage, false, false);
+    }
+
+    public static PushResult permanent(String errorCode, String errorMessage) {
+        return new PushResult(false, errorCode, errorMessage, true, false);
+    }
+
+    public static PushResult invalidToken(String errorCode, String errorMessage) {
+        return new PushResult(false, errorCode, errorMessage, true, true);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.pet.demo.notification;
+
+import java.util.List;
+
+/**
+ * 푸시 발송 채널 추상화. 운영은 FCM, 테스트/로컬은 가짜 구현으로 교체한다.
+ * 결과 리스트는 입력 메시지와 같은 순서/크기여야 한다.
+ */
+public interface PushSender {
+    int MAX_BATCH = 500; // FCM sendEach 최대 메시지 수
+
+    List<PushResult> sendEach(List<PushMessage> messages);
+}
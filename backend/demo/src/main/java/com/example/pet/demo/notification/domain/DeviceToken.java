@@ -0,0 +1,44 @@
+package com.example.pet.demo.notification.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 기기별 FCM 토큰 (사용자당 여러 대).
+ * 토큰은 기기 하나를 가리키므로 전역 유니크 - 다른 계정으로 다시 등록되면 소유자가 바뀐다.
+ * 쓰기는 DeviceTokenPort의 upsert 한 문장으로만 한다.
+ */
+@Entity
+@Table(name = "user_device_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_device_token_token", columnNames = "token"),
+        indexes = @Index(name = "idx_device_token_user", columnList = "user_id, last_seen_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeviceToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 255)
+    private String token;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt; // 마지막 등록(앱 실행) 시각
+}
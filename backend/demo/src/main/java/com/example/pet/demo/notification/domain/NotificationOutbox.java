@@ -0,0 +1,91 @@
+package com.example.pet.demo.notification.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 푸시 알림 아웃박스.
+ * 비즈니스 트랜잭션 안에서 PENDING으로 적재하고, 디스패처가 커밋 이후 모아서 발송한다.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_outbox_status_next", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_outbox_claimed_by", columnList = "claimed_by")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private EventType eventType;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 수신자
+
+    @Column(name = "target_token", nullable = false, length = 255)
+    private String targetToken;
+
+    @Column(name = "ref_id")
+    private Long refId; // 예: reservation_id
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(nullable = false, length = 255)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy; // 마지막으로 선점한 디스패처 배치 토큰
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public enum EventType {
+        RESERVATION_ACCEPTED
+    }
+
+    // DEAD = 재시도 한도 초과 또는 영구 실패 (dead-letter)
+    public enum OutboxStatus {
+        PENDING, SENT, DEAD
+    }
+}
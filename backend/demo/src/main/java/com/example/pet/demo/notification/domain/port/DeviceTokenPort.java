@@ -0,0 +1,12 @@
+package com.example.pet.demo.notification.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DeviceTokenPort {
+    void upsert(Long userId, String token, LocalDateTime now); // 없으면 추가, 있으면 소유자/last_seen 갱신
+    List<String> findTokensByUserId(Long userId);              // 최근 등록 순
+    int delete(Long userId, String token);                     // 로그아웃 등 본인 기기 해제
+    int deleteByTokens(Collection<String> tokens);             // 발송 중 무효 판정된 토큰 정리
+}
@@ -0,0 +1,17 @@
+package com.example.pet.demo.notification.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.example.pet.demo.notification.domain.NotificationOutbox;
+
+public interface NotificationOutboxPort {
+    NotificationOutbox save(NotificationOutbox message);
+    // PENDING && next_attempt_at <= now 인 행을 최대 limit건 선점해 돌려준다.
+    // 선점한 행은 next_attempt_at = leaseUntil 이 되어 다른 인스턴스가 가져가지 않고, 발송 결과를 못 남기고 죽으면 그때 다시 대상이 된다
+    List<NotificationOutbox> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+    void markSent(Collection<Long> ids, LocalDateTime sentAt);
+    void markRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String error);
+    void markDead(Long id, int attempts, String error);
+}
@@ -0,0 +1,79 @@
+package com.example.pet.demo.notification.infra.fcm;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.pet.demo.notification.PushMessage;
+import com.example.pet.demo.notification.PushResult;
+import com.example.pet.demo.notification.PushSender;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+
+@Component
+public class FcmPushSender implements PushSender {
+    // 재시도해도 소용없는 오류 → 바로 dead-letter
+    private static final EnumSet<MessagingErrorCode> PERMANENT = EnumSet.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.INVALID_ARGUMENT,
+            MessagingErrorCode.SENDER_ID_MISMATCH,
+            MessagingErrorCode.THIRD_PARTY_AUTH_ERROR);
+
+    // 토큰이 더 이상 유효하지 않다는 뜻 → 기기 토큰 정리 대상
+    private static final EnumSet<MessagingErrorCode> INVALID_TOKEN = EnumSet.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.INVALID_ARGUMENT);
+
+    private final FirebaseMessaging messaging;
+
+    public FcmPushSender(FirebaseApp firebaseApp) {
+        this.messaging = FirebaseMessaging.getInstance(firebaseApp);
+    }
+
+    @Override
+    public List<PushResult> sendEach(List<PushMessage> messages) {
+        List<Message> fcm = messages.stream().map(this::toMessage).toList();
+        List<PushResult> results = new ArrayList<>(messages.size());
+        try {
+            BatchResponse batch = messaging.sendEach(fcm);
+            for (SendResponse r : batch.getResponses()) {
+                results.add(r.isSuccessful() ? PushResult.ok() : toResult(r.getException()));
+            }
+        } catch (FirebaseMessagingException e) {
+            // 배치 전체 실패 (인증/네트워크 등) → 전부 재시도 대상
+            PushResult failed = toResult(e);
+            messages.forEach(m -> results.add(failed));
+        }
+        return results;
+    }
+
+    private Message toMessage(PushMessage m) {
+        return Message.builder()
+                .setToken(m.token())
+                .putAllData(m.data())
+                .setNotification(Notification.builder()
+                        .setTitle(m.title())
+                        .setBody(m.body())
+                        .build())
+                .build();
+    }
+
+    private PushResult toResult(FirebaseMessagingException e) {
+        MessagingErrorCode code = e.getMessagingErrorCode();
+        String name = code != null ? code.name() : String.valueOf(e.getErrorCode());
+        if (code != null && INVALID_TOKEN.contains(code)) {
+            return PushResult.invalidToken(name, e.getMessage());
+        }
+        return (code != null && PERMANENT.contains(code))
+                ? PushResult.permanent(name, e.getMessage())
+                : PushResult.retryable(name, e.getMessage());
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.pet.demo.notification.infra.jpa;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.pet.demo.notification.domain.port.DeviceTokenPort;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class DeviceTokenJpaAdapter implements DeviceTokenPort {
+
+    // uk_device_token_token 기준 한 문장 upsert (앱 실행마다 호출돼도 조회 없이 끝난다)
+    private static final String UPSERT_SQL = """
+            insert into user_device_token (user_id, token, created_at, last_seen_at)
+            values (:userId, :token, :now, :now)
+            on duplicate key update user_id = values(user_id), last_seen_at = values(last_seen_at)
+            """;
+
+    private final DeviceTokenJpaRepository jpa;
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @Override
+    public void upsert(Long userId, String token, LocalDateTime now) {
+        jdbc.update(UPSERT_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("token", token)
+                .addValue("now", Timestamp.valueOf(now)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findTokensByUserId(Long userId) {
+        return jpa.findTokensByUserId(userId);
+    }
+
+    @Override
+    @Transactional
+    public int delete(Long userId, String token) {
+        return jpa.delete(userId, token);
+    }
+
+    @Override
+    @Transactional
+    public int deleteByTokens(Collection<String> tokens) {
+        return tokens.isEmpty() ? 0 : jpa.deleteByTokens(tokens);
+    }
+}
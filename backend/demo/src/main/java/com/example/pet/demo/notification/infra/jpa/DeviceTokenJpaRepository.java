@@ -0,0 +1,25 @@
+package com.example.pet.demo.notification.infra.jpa;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.pet.demo.notification.domain.DeviceToken;
+
+public interface DeviceTokenJpaRepository extends JpaRepository<DeviceToken, Long> {
+
+    @Query("select d.token from DeviceToken d where d.userId = :userId order by d.lastSeenAt desc")
+    List<String> findTokensByUserId(@Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from DeviceToken d where d.userId = :userId and d.token = :token")
+    int delete(@Param("userId") Long userId, @Param("token") String token);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from DeviceToken d where d.token in :tokens")
+    int deleteByTokens(@Param("tokens") Collection<String> tokens);
+}
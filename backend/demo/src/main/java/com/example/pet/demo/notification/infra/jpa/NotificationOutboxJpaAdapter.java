@@ -0,0 +1,66 @@
+package com.example.pet.demo.notification.infra.jpa;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.pet.demo.notification.domain.NotificationOutbox;
+import com.example.pet.demo.notification.domain.NotificationOutbox.OutboxStatus;
+import com.example.pet.demo.notification.domain.port.NotificationOutboxPort;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxJpaAdapter implements NotificationOutboxPort {
+    private final NotificationOutboxJpaRepository jpa;
+
+    @Override
+    public NotificationOutbox save(NotificationOutbox message) {
+        return jpa.save(message);
+    }
+
+    @Override
+    @Transactional
+    public List<NotificationOutbox> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<Long> ids = jpa.findDueIds(OutboxStatus.PENDING, now, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // 이번 선점에만 쓰는 토큰 → 내가 UPDATE 에 성공한 행만 다시 읽는다
+        String owner = UUID.randomUUID().toString();
+        if (jpa.claim(ids, owner, leaseUntil, OutboxStatus.PENDING, now) == 0) {
+            return List.of();
+        }
+        return jpa.findByClaimedByOrderById(owner);
+    }
+
+    @Override
+    @Transactional
+    public void markSent(Collection<Long> ids, LocalDateTime sentAt) {
+        if (!ids.isEmpty()) {
+            jpa.markSent(ids, OutboxStatus.SENT, sentAt);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void markRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String error) {
+        jpa.markFailed(id, OutboxStatus.PENDING, attempts, nextAttemptAt, truncate(error));
+    }
+
+    @Override
+    @Transactional
+    public void markDead(Long id, int attempts, String error) {
+        jpa.markFailed(id, OutboxStatus.DEAD, attempts, LocalDateTime.now(), truncate(error));
+    }
+
+    private String truncate(String error) {
+        return (error == null || error.length() <= 500) ? error : error.substring(0, 500);
+    }
+}
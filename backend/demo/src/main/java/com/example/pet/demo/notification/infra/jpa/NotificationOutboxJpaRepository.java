@@ -0,0 +1,59 @@
+package com.example.pet.demo.notification.infra.jpa;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.pet.demo.notification.domain.NotificationOutbox;
+import com.example.pet.demo.notification.domain.NotificationOutbox.OutboxStatus;
+
+public interface NotificationOutboxJpaRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query("""
+            select o.id from NotificationOutbox o
+            where o.status = :status and o.nextAttemptAt <= :now
+            order by o.id
+            """)
+    List<Long> findDueIds(@Param("status") OutboxStatus status,
+                          @Param("now") LocalDateTime now,
+                          Limit limit);
+
+    // 조건을 다시 걸어 UPDATE → 다른 인스턴스가 먼저 선점한 행(next_attempt_at 이 미래로 바뀜)은 건너뛴다
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update NotificationOutbox o
+            set o.claimedBy = :owner, o.nextAttemptAt = :leaseUntil
+            where o.id in :ids and o.status = :status and o.nextAttemptAt <= :now
+            """)
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("status") OutboxStatus status,
+              @Param("now") LocalDateTime now);
+
+    List<NotificationOutbox> findByClaimedByOrderById(String claimedBy);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update NotificationOutbox o set o.status = :status, o.sentAt = :sentAt, o.attempts = o.attempts + 1 where o.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("status") OutboxStatus status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update NotificationOutbox o
+            set o.status = :status, o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, o.lastError = :error
+            where o.id = :id
+            """)
+    int markFailed(@Param("id") Long id,
+                   @Param("status") OutboxStatus status,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+}
@@ -1,9 +1,12 @@
 package com.example.pet.demo.pets.api;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -15,8 +18,10 @@ import org.springframework.web.util.UriComponentsBuilder;
 import com.example.pet.demo.common.ApiResponse;
 import com.example.pet.demo.media.FileStorageService;
 import com.example.pet.demo.pets.api.dto.PetCreateReq;
+import com.example.pet.demo.pets.api.dto.PetImportRes;
+import com.example.pet.demo.pets.app.PetImportService;
 import com.example.pet.demo.pets.app.PetService;
-import com.example.pet.demo.pets.domain.Pet;
+import com.example.pet.demo.pets.domain.port.PetView;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +30,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.DeleteMapping;
 
@@ -34,6 +40,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 @Validated
 public class PetController {
     private final PetService petService;
+    private final PetImportService petImportService;
     private final FileStorageService fileStorageService;
 
     @PostMapping
@@ -50,6 +57,18 @@ public class PetController {
                 .body(ApiResponse.ok(Map.of("id", id)));
     }
 
+    // 보호소/카페 일괄 등록: JSON 배열 또는 NDJSON(한 줄에 한 마리), 행별 성공/실패 보고
+    @PostMapping(value = "/bulk",
+            consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<ApiResponse<PetImportRes>> importPets(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        PetImportRes res = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType))
+                ? petImportService.importNdjson(body)
+                : petImportService.importJsonArray(body);
+        return ResponseEntity.ok(ApiResponse.ok(res));
+    }
+
     @PostMapping(value = "/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Map<String, String>>> uploadPetImage(
             @RequestParam("ownerId") Long ownerId,
@@ -58,16 +77,27 @@ public class PetController {
         return ResponseEntity.ok(ApiResponse.ok(Map.of("imageUrl", url)));
     }
 
+    // 스트리밍 업로드: 본문이 이미지 바이트 그대로 (multipart 임시 파일 없이 최종 위치에 바로 기록)
+    @PostMapping(value = "/image",
+            consumes = { MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<ApiResponse<Map<String, String>>> streamPetImage(
+            @RequestParam("ownerId") Long ownerId,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream body) throws IOException {
+        String url = fileStorageService.savePetImage(ownerId, body, contentLength);
+        return ResponseEntity.ok(ApiResponse.ok(Map.of("imageUrl", url)));
+    }
+
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Pet>>> getPetsByOwner(@RequestParam("ownerId") Long ownerId) {
+    public ResponseEntity<ApiResponse<List<PetView>>> getPetsByOwner(@RequestParam("ownerId") Long ownerId) {
         return ResponseEntity.ok(
                 ApiResponse.ok(petService.getPetsByOwner(ownerId)));
     }
     
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Pet>> getPetById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<PetView>> getPetById(@PathVariable Long id) {
         return ResponseEntity.ok(
                 ApiResponse.ok(petService.getPetById(id)));
     }
@@ -0,0 +1,21 @@
+package com.example.pet.demo.pets.api.dto;
+
+import java.util.List;
+
+// 일괄 등록 결과: 행 번호(0부터) 순서대로 성공 id 또는 실패 사유
+public record PetImportRes(
+    int total,
+    int created,
+    int failed,
+    List<Row> rows
+) {
+    public record Row(int index, String status, Long id, String error) {
+        public static Row created(int index, Long id) {
+            return new Row(index, "CREATED", id, null);
+        }
+
+        public static Row failed(int index, String error) {
+            return new Row(index, "FAILED", null, error);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.pet.demo.pets.app;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.pet.demo.common.BoundedTtlCache;
+import com.example.pet.demo.pets.domain.port.PetPersistencePort;
+import com.example.pet.demo.pets.domain.port.PetView;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 보호자별 반려동물 목록 / 펫 단건 캐시 (PetPersistencePort 앞단).
+ * 거의 모든 화면이 내 펫 목록을 읽으므로 건수(LRU) + TTL 로 제한해 메모리에 둔다.
+ * 등록/삭제가 커밋되면 PetChangedEvent로 비우고, 다른 인스턴스 변경은 TTL 로 반영된다.
+ * 메트릭: pets.cache.requests{cache,result}, pets.cache.evictions{cache,cause}, pets.cache.size{cache}
+ */
+@Component
+public class OwnerPetCache {
+    private final PetPersistencePort pets;
+    private final BoundedTtlCache<Long, List<PetView>> byOwner;
+    private final BoundedTtlCache<Long, PetView> byId;
+
+    public OwnerPetCache(PetPersistencePort pets,
+                         MeterRegistry meters,
+                         @Value("${app.pets.cache.max-owners:10000}") int maxOwners,
+                         @Value("${app.pets.cache.max-pets:20000}") int maxPets,
+                         @Value("${app.pets.cache.ttl:5m}") Duration ttl) {
+        this.pets = pets;
+        this.byOwner = new BoundedTtlCache<>(maxOwners, ttl);
+        this.byId = new BoundedTtlCache<>(maxPets, ttl);
+        register(meters, "owner", byOwner);
+        register(meters, "pet", byId);
+    }
+
+    public List<PetView> getByOwner(Long ownerId) {
+        return byOwner.get(ownerId, id -> List.copyOf(pets.findByOwnerId(id)));
+    }
+
+    public Optional<PetView> getById(Long petId) {
+        return Optional.ofNullable(byId.get(petId, id -> pets.findById(id).orElse(null)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPetChanged(PetChangedEvent event) {
+        invalidate(event.ownerId(), event.petId());
+    }
+
+    public void invalidate(Long ownerId, Long petId) {
+        if (ownerId != null) {
+            byOwner.invalidate(ownerId);
+        } else {
+            byOwner.invalidateAll();
+        }
+        if (petId != null) {
+            byId.invalidate(petId);
+        }
+    }
+
+    // 다시 읽히지 않는 만료 항목도 메모리에서 빼서 size 게이지가 실제 사용량을 보이게
+    @Scheduled(fixedDelayString = "${app.pets.cache.purge-interval:1m}")
+    public void purgeExpired() {
+        byOwner.purgeExpired();
+        byId.purgeExpired();
+    }
+
+    private static void register(MeterRegistry meters, String name, BoundedTtlCache<?, ?> cache) {
+        FunctionCounter.builder("pets.cache.requests", cache, BoundedTtlCache::hitCount)
+                .tags("cache", name, "result", "hit").register(meters);
+        FunctionCounter.builder("pets.cache.requests", cache, BoundedTtlCache::missCount)
+                .tags("cache", name, "result", "miss").register(meters);
+        FunctionCounter.builder("pets.cache.evictions", cache, BoundedTtlCache::sizeEvictionCount)
+                .tags("cache", name, "cause", "size").register(meters);
+        FunctionCounter.builder("pets.cache.evictions", cache, BoundedTtlCache::expirationCount)
+                .tags("cache", name, "cause", "expired").register(meters);
+        Gauge.builder("pets.cache.size", cache, BoundedTtlCache::size)
+                .tag("cache", name).register(meters);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.pet.demo.pets.app;
+
+/**
+ * 보호자의 반려동물 목록이 바뀌었음을 알리는 이벤트 (등록/삭제).
+ * 커밋 이후 OwnerPetCache 가 받아서 해당 보호자 목록과 펫 단건 캐시를 비운다.
+ * petId가 null이면 보호자 목록만 무효화.
+ */
+public record PetChangedEvent(Long ownerId, Long petId) {}
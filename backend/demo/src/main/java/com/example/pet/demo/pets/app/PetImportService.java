@@ -0,0 +1,225 @@
+package com.example.pet.demo.pets.app;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import com.example.pet.demo.pets.api.dto.PetCreateReq;
+import com.example.pet.demo.pets.api.dto.PetImportRes;
+import com.example.pet.demo.pets.domain.port.NewPet;
+import com.example.pet.demo.pets.domain.port.PetPersistencePort;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * 보호소/카페용 반려동물 일괄 등록.
+ * - 입력: JSON 배열 또는 NDJSON, 한 행씩 읽어 행별로 파싱/검증 (잘못된 행만 실패 처리)
+ * - uk_pets_user_name 중복은 배치 전체를 한 번의 쿼리로 확인 (+ 배치 안 중복)
+ * - batch-size 행씩 JDBC 배치 INSERT, 배치마다 별도 트랜잭션
+ *   → 동시 등록 등으로 배치가 제약 위반이면 그 배치만 한 행씩 다시 넣어 실패 행을 가린다
+ */
+@Service
+public class PetImportService {
+    private static final Logger log = LoggerFactory.getLogger(PetImportService.class);
+
+    private final PetPersistencePort pets;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher events;
+    private final int maxRows;
+    private final int batchSize;
+
+    public PetImportService(PetPersistencePort pets,
+                            ObjectMapper objectMapper,
+                            Validator validator,
+                            ApplicationEventPublisher events,
+                            @Value("${app.pets.import.max-rows:1000}") int maxRows,
+                            @Value("${app.pets.import.batch-size:200}") int batchSize) {
+        this.pets = pets;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.events = events;
+        this.maxRows = maxRows;
+        this.batchSize = batchSize;
+    }
+
+    public PetImportRes importJsonArray(InputStream body) throws IOException {
+        List<Parsed> rows = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON_ARRAY_REQUIRED");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() == null) {
+                    throw new IllegalArgumentException("INVALID_JSON");
+                }
+                JsonNode node = parser.readValueAsTree(); // 한 행만 메모리에
+                rows.add(parse(rows.size(), node));
+                checkSize(rows);
+            }
+        }
+        return importRows(rows);
+    }
+
+    public PetImportRes importNdjson(InputStream body) throws IOException {
+        List<Parsed> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node;
+                try {
+                    node = objectMapper.readTree(line);
+                } catch (IOException e) {
+                    rows.add(Parsed.error(rows.size(), "INVALID_JSON"));
+                    checkSize(rows);
+                    continue;
+                }
+                rows.add(parse(rows.size(), node));
+                checkSize(rows);
+            }
+        }
+        return importRows(rows);
+    }
+
+    PetImportRes importRows(List<Parsed> rows) {
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("EMPTY_BULK");
+        }
+        PetImportRes.Row[] report = new PetImportRes.Row[rows.size()];
+        List<Parsed> valid = new ArrayList<>();
+        for (Parsed row : rows) {
+            if (row.error() != null) {
+                report[row.index()] = PetImportRes.Row.failed(row.index(), row.error());
+            } else {
+                valid.add(row);
+            }
+        }
+
+        // 1) 이름 중복: 배치 안 + DB (한 번의 쿼리). MySQL 콜레이션이 대소문자 무시라 소문자로 비교
+        Set<Long> owners = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        valid.forEach(r -> {
+            owners.add(r.pet().userId());
+            names.add(r.pet().name());
+        });
+        Set<String> existing = pets.findExistingNames(owners, names).stream()
+                .map(k -> key(k.ownerId(), k.name()))
+                .collect(Collectors.toSet());
+        Set<String> seen = new HashSet<>();
+        List<Parsed> insertable = new ArrayList<>(valid.size());
+        for (Parsed row : valid) {
+            String key = key(row.pet().userId(), row.pet().name());
+            if (existing.contains(key)) {
+                report[row.index()] = PetImportRes.Row.failed(row.index(), "DUPLICATE_NAME");
+            } else if (!seen.add(key)) {
+                report[row.index()] = PetImportRes.Row.failed(row.index(), "DUPLICATE_NAME_IN_BATCH");
+            } else {
+                insertable.add(row);
+            }
+        }
+
+        // 2) batch-size 씩 INSERT
+        Set<Long> touchedOwners = new LinkedHashSet<>();
+        for (int from = 0; from < insertable.size(); from += batchSize) {
+            List<Parsed> chunk = insertable.subList(from, Math.min(from + batchSize, insertable.size()));
+            insertChunk(chunk, report, touchedOwners);
+        }
+        touchedOwners.forEach(ownerId -> events.publishEvent(new PetChangedEvent(ownerId, null)));
+
+        int created = 0;
+        for (PetImportRes.Row row : report) {
+            if (row.id() != null) {
+                created++;
+            }
+        }
+        return new PetImportRes(rows.size(), created, rows.size() - created, List.of(report));
+    }
+
+    private void insertChunk(List<Parsed> chunk, PetImportRes.Row[] report, Set<Long> touchedOwners) {
+        try {
+            List<Long> ids = pets.insertAll(chunk.stream().map(Parsed::pet).toList());
+            for (int i = 0; i < chunk.size(); i++) {
+                Parsed row = chunk.get(i);
+                report[row.index()] = PetImportRes.Row.created(row.index(), ids.get(i));
+                touchedOwners.add(row.pet().userId());
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 배치는 롤백됨 → 이 배치만 한 행씩 다시
+            log.info("pet import batch of {} rows hit a constraint, retrying row by row", chunk.size());
+            for (Parsed row : chunk) {
+                try {
+                    Long id = pets.insertAll(List.of(row.pet())).get(0);
+                    report[row.index()] = PetImportRes.Row.created(row.index(), id);
+                    touchedOwners.add(row.pet().userId());
+                } catch (DuplicateKeyException ex) {
+                    report[row.index()] = PetImportRes.Row.failed(row.index(), "DUPLICATE_NAME");
+                } catch (DataIntegrityViolationException ex) {
+                    report[row.index()] = PetImportRes.Row.failed(row.index(), "CONSTRAINT_VIOLATION");
+                }
+            }
+        }
+    }
+
+    private Parsed parse(int index, JsonNode node) {
+        // null, 숫자, 배열 같은 행은 treeToValue 가 null 을 주거나 validate 가 예외를 내므로 여기서 거른다
+        if (node == null || !node.isObject()) {
+            return Parsed.error(index, "INVALID_JSON");
+        }
+        PetCreateReq req;
+        try {
+            req = objectMapper.treeToValue(node, PetCreateReq.class);
+        } catch (IOException | IllegalArgumentException e) {
+            return Parsed.error(index, "INVALID_JSON");
+        }
+        Set<ConstraintViolation<PetCreateReq>> violations = validator.validate(req);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" "));
+            return Parsed.error(index, message);
+        }
+        return new Parsed(index, PetService.normalize(req), null);
+    }
+
+    private void checkSize(List<Parsed> rows) {
+        if (rows.size() > maxRows) {
+            throw new IllegalArgumentException("BULK_TOO_LARGE");
+        }
+    }
+
+    private static String key(Long ownerId, String name) {
+        return ownerId + ":" + name.toLowerCase(Locale.ROOT);
+    }
+
+    record Parsed(int index, NewPet pet, String error) {
+        static Parsed error(int index, String error) {
+            return new Parsed(index, null, error);
+        }
+    }
+}
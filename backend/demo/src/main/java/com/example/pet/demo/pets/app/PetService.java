@@ -2,12 +2,16 @@ package com.example.pet.demo.pets.app;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.pet.demo.media.FileStorageService.ImageCategory;
+import com.example.pet.demo.media.MediaCleanupQueue;
 import com.example.pet.demo.pets.api.dto.PetCreateReq;
-import com.example.pet.demo.pets.domain.Pet;
+import com.example.pet.demo.pets.domain.port.NewPet;
 import com.example.pet.demo.pets.domain.port.PetPersistencePort;
+import com.example.pet.demo.pets.domain.port.PetView;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,8 +20,28 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class PetService {
     private final PetPersistencePort pets;
+    private final OwnerPetCache cache;
+    private final ApplicationEventPublisher events;
+    private final MediaCleanupQueue mediaCleanup;
 
     public Long create(PetCreateReq req) {
+        NewPet pet = normalize(req);
+        Long id = pets.create(
+                pet.userId(),
+                pet.species(),
+                pet.birthdate(),
+                pet.weight(),
+                pet.abitTypeCode(),
+                pet.imageUrl(),
+                pet.name(),
+                pet.gender(),
+                pet.speciesDetail());
+        events.publishEvent(new PetChangedEvent(req.userId(), null)); // 커밋 후 보호자 목록 캐시 무효화
+        return id;
+    }
+
+    // 단건/일괄 등록 공통 정규화
+    static NewPet normalize(PetCreateReq req) {
         // Normalize simple fields
         String species = req.species().toUpperCase();
         String name = req.name().trim();
@@ -28,45 +52,36 @@ public class PetService {
         // Use default placeholder if imageUrl is null (for database NOT NULL constraint)
         String imageUrl = req.imageUrl() != null ? req.imageUrl() : "/media/default/pet-placeholder.png";
 
-        return pets.create(
-                req.userId(),
-                species,
-                req.birthdate(),
-                req.weight(),
-                abit,
-                imageUrl,
-                name,
-                gender,
+        return new NewPet(req.userId(), species, req.birthdate(), req.weight(), abit, imageUrl, name, gender,
                 speciesDetail);
     }
 
     @Transactional(readOnly = true)
-    public List<Pet> getPetsByOwner(Long ownerId) {
-        return pets.findByOwnerId(ownerId);
+    public List<PetView> getPetsByOwner(Long ownerId) {
+        return cache.getByOwner(ownerId);
     }
     @Transactional(readOnly = true)
-    public Pet getPetById(Long id) {
-        return pets.findById(id)
+    public PetView getPetById(Long id) {
+        return cache.getById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Pet not found with id:" + id));
     }
 
+    /**
+     * 삭제: 조건부 DELETE 한 문장 (보호자/이미지는 캐시된 펫 정보에서, 캐시에 없을 때만 SELECT 1회).
+     * 이미지 파일은 커밋 후 별도 스레드에서 지운다.
+     */
     public void delete(Long id) {
-        try {
-            // 펫이 존재하는지 확인
-            Pet pet = pets.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("Pet not found with id: " + id));
-
-            System.out.println("삭제 대상 Pet: ID=" + pet.getId() + ", Name=" + pet.getName());
-
-            // 삭제 수행
-            pets.deleteById(id);
+        PetView pet = cache.getById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Pet not found with id: " + id));
 
-            System.out.println("Pet 삭제 완료: ID=" + id);
-        } catch (Exception e) {
-            System.err.println("Pet 삭제 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("Pet 삭제 실패: " + e.getMessage(), e);
+        // 다른 인스턴스에서 이미 지웠으면 0건
+        if (!pets.delete(id, pet.userId())) {
+            cache.invalidate(pet.userId(), id); // 롤백되므로 이벤트 대신 바로 비운다
+            throw new IllegalArgumentException("Pet not found with id: " + id);
         }
+        events.publishEvent(new PetChangedEvent(pet.userId(), id));
+        // 클라이언트가 넣은 URL 이라 이 보호자 폴더의 파일만, 다른 펫이 같이 쓰지 않을 때만 지운다
+        mediaCleanup.deleteAfterCommit(pet.imageUrl(), ImageCategory.PETS, pet.userId());
     }
 
 }
@@ -23,6 +23,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,7 +36,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "pets")
+@Table(name = "pets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pets_user_name", columnNames = { "user_id", "p_name" }))
 public class Pet {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,17 @@
+package com.example.pet.demo.pets.domain.port;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 일괄 INSERT 한 행 (정규화가 끝난 값)
+public record NewPet(
+    Long userId,
+    String species,
+    LocalDate birthdate,
+    BigDecimal weight,
+    String abitTypeCode,
+    String imageUrl,
+    String name,
+    String gender,
+    String speciesDetail
+) {}
@@ -0,0 +1,4 @@
+package com.example.pet.demo.pets.domain.port;
+
+// uk_pets_user_name (user_id, p_name) 중복 검사용 키
+public record PetNameKey(Long ownerId, String name) {}
@@ -2,11 +2,10 @@ package com.example.pet.demo.pets.domain.port;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import com.example.pet.demo.pets.domain.Pet;
-
 public interface PetPersistencePort {
     Long create(
             Long userId,
@@ -19,7 +18,9 @@ public interface PetPersistencePort {
             String gender,
             String speciesDetail
     );
-    List<Pet> findByOwnerId(Long ownerId);
-    Optional<Pet> findById(Long id);
-    void deleteById(Long id);
+    List<Long> insertAll(List<NewPet> pets); // JDBC 배치 INSERT, 입력 순서대로 id
+    List<PetNameKey> findExistingNames(Collection<Long> ownerIds, Collection<String> names); // 한 번의 쿼리
+    List<PetView> findByOwnerId(Long ownerId);
+    Optional<PetView> findById(Long id);
+    boolean delete(Long id, Long ownerId); // 조건부 DELETE, 지운 행이 없으면 false
 }
@@ -0,0 +1,25 @@
+package com.example.pet.demo.pets.domain.port;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.example.pet.demo.pets.domain.Pet.AbitTypeCode;
+import com.example.pet.demo.pets.domain.Pet.Gender;
+import com.example.pet.demo.pets.domain.Pet.Species;
+
+// 펫 조회 응답용 프로젝션 (JSON 필드는 기존 Pet 엔티티 응답과 동일). 소유자 User는 읽지 않는다
+public record PetView(
+    Long id,
+    Long userId,
+    Species species,
+    LocalDate birthdate,
+    BigDecimal weight,
+    AbitTypeCode abitTypeCode,
+    String imageUrl,
+    String name,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Gender gender,
+    String speciesDetail
+) {}
@@ -1,15 +1,29 @@
 package com.example.pet.demo.pets.infra.jpa;
 
 import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.pet.demo.pets.domain.Pet;
+import com.example.pet.demo.pets.domain.port.NewPet;
+import com.example.pet.demo.pets.domain.port.PetNameKey;
 import com.example.pet.demo.pets.domain.port.PetPersistencePort;
+import com.example.pet.demo.pets.domain.port.PetView;
 import com.example.pet.demo.users.domain.User;
 
 import jakarta.persistence.EntityManager;
@@ -18,8 +32,19 @@ import lombok.RequiredArgsConstructor;
 @Repository
 @RequiredArgsConstructor
 public class PetJpaAdapter implements PetPersistencePort {
+    // IDENTITY 키라 Hibernate가 INSERT를 배치로 묶지 못하므로 일괄 등록은 JDBC로 직접 보낸다
+    private static final String INSERT_SQL = """
+            insert into pets
+              (user_id, species, p_birthdate, weight, abit_type_code, p_image_url, p_name,
+               gender, species_detail, created_at, updated_at)
+            values
+              (:userId, :species, :birthdate, :weight, :abitTypeCode, :imageUrl, :name,
+               :gender, :speciesDetail, :now, :now)
+            """;
+
     private final PetJpaRepository jpa;
     private final EntityManager em;
+    private final NamedParameterJdbcTemplate jdbc;
 
     @Override
     public Long create(Long userId,
@@ -49,29 +74,61 @@ public class PetJpaAdapter implements PetPersistencePort {
         return jpa.save(pet).getId();
     }
 
+    @Override
+    @Transactional
+    public List<Long> insertAll(List<NewPet> pets) {
+        if (pets.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] batch = pets.stream()
+                .map(p -> new MapSqlParameterSource()
+                        .addValue("userId", p.userId())
+                        .addValue("species", p.species())
+                        .addValue("birthdate", Date.valueOf(p.birthdate()))
+                        .addValue("weight", p.weight())
+                        .addValue("abitTypeCode", p.abitTypeCode())
+                        .addValue("imageUrl", p.imageUrl())
+                        .addValue("name", p.name())
+                        .addValue("gender", p.gender())
+                        .addValue("speciesDetail", p.speciesDetail())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.batchUpdate(INSERT_SQL, batch, keys, new String[] { "id" });
+
+        List<Long> ids = new ArrayList<>(pets.size());
+        for (Map<String, Object> key : keys.getKeyList()) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<Pet> findByOwnerId(Long ownerId){
-        return jpa.findByOwner_Id(ownerId);
+    public List<PetNameKey> findExistingNames(Collection<Long> ownerIds, Collection<String> names) {
+        if (ownerIds.isEmpty() || names.isEmpty()) {
+            return List.of();
+        }
+        return jpa.findNameKeys(ownerIds, names);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PetView> findByOwnerId(Long ownerId){
+        return jpa.findViewsByOwnerId(ownerId);
     }
     @Override
     @Transactional(readOnly = true)
-    public Optional<Pet> findById(Long id) {
-        return jpa.findById(id);
+    public Optional<PetView> findById(Long id) {
+        return jpa.findViewById(id);
     }
 
     @Override
     @Transactional
-    public void deleteById(Long id) {
-        System.out.println("JpaAdapter.deleteById 호출: ID=" + id);
-
-        // Pet이 존재하는지 먼저 확인
-        if (!jpa.existsById(id)) {
-            throw new IllegalArgumentException("Pet not found with id: " + id);
-        }
-
-        jpa.deleteById(id);
-        System.out.println("JPA deleteById 완료: ID=" + id);
+    public boolean delete(Long id, Long ownerId) {
+        return jpa.deleteByIdAndOwnerId(id, ownerId) == 1;
     }
 
 }
@@ -1,12 +1,49 @@
 package com.example.pet.demo.pets.infra.jpa;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.pet.demo.pets.domain.Pet;
+import com.example.pet.demo.pets.domain.port.PetNameKey;
+import com.example.pet.demo.pets.domain.port.PetView;
 
 public interface PetJpaRepository extends JpaRepository<Pet, Long> {
     boolean existsByOwner_IdAndName(Long ownerId, String name);
-    List<Pet> findByOwner_Id(Long ownerId);
+
+    // p.owner.id 는 FK 컬럼이라 users 조인 없이 읽힌다
+    String VIEW = """
+            select new com.example.pet.demo.pets.domain.port.PetView(
+                p.id, p.owner.id, p.species, p.birthdate, p.weight, p.abitTypeCode,
+                p.imageUrl, p.name, p.createdAt, p.updatedAt, p.gender, p.speciesDetail)
+            from Pet p
+            """;
+
+    @Query(VIEW + "where p.owner.id = :ownerId order by p.id")
+    List<PetView> findViewsByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Query(VIEW + "where p.id = :id")
+    Optional<PetView> findViewById(@Param("id") Long id);
+
+    // 보호자 x 이름 조합이라 넓게 읽히지만 일괄 등록 1회당 한 번, 정확한 쌍 비교는 호출 측에서
+    @Query("""
+            select new com.example.pet.demo.pets.domain.port.PetNameKey(p.owner.id, p.name)
+            from Pet p where p.owner.id in :ownerIds and p.name in :names
+            """)
+    List<PetNameKey> findNameKeys(@Param("ownerIds") Collection<Long> ownerIds,
+                                  @Param("names") Collection<String> names);
+
+    // 존재 확인/엔티티 로딩 없이 한 문장으로 삭제
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from Pet p where p.id = :id and p.owner.id = :ownerId")
+    int deleteByIdAndOwnerId(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    // 업로드 파일 수거기용: 해당 조각을 포함하는 이미지 URL
+    @Query("select p.imageUrl from Pet p where p.imageUrl like concat('%', :fragment, '%')")
+    List<String> findImageUrlsContaining(@Param("fragment") String fragment);
 }
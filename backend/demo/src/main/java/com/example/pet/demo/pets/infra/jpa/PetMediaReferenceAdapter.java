@@ -0,0 +1,23 @@
+package com.example.pet.demo.pets.infra.jpa;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.pet.demo.media.domain.port.MediaReferencePort;
+
+import lombok.RequiredArgsConstructor;
+
+// pets.p_image_url
+@Repository
+@RequiredArgsConstructor
+public class PetMediaReferenceAdapter implements MediaReferencePort {
+    private final PetJpaRepository jpa;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findUrlsContaining(String fragment) {
+        return jpa.findImageUrlsContaining(fragment);
+    }
+}
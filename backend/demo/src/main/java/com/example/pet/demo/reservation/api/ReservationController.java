@@ -1,8 +1,13 @@
 package com.example.pet.demo.reservation.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -11,18 +16,25 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.example.pet.demo.common.ApiResponse;
 import com.example.pet.demo.media.FileStorageService;
+import com.example.pet.demo.reservation.api.dto.FreeSlotsRes;
+import com.example.pet.demo.reservation.api.dto.MyReservationPageRes;
 import com.example.pet.demo.reservation.api.dto.MyReservationRes;
+import com.example.pet.demo.reservation.api.dto.PartnerInboxPageRes;
 import com.example.pet.demo.reservation.api.dto.ReservationCreateReq;
+import com.example.pet.demo.reservation.api.dto.ReservationStatsRes;
 import com.example.pet.demo.reservation.app.ReservationService;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -40,12 +52,36 @@ public class ReservationController {
         return ResponseEntity.ok(ApiResponse.ok(java.util.Map.of("reservation_id", reservationId)));
     }
 
+    // 여러 반려동물 예약을 한 번에 (같은 예약자/파트너, 최대 20건)
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<Map<String, List<Long>>>> createReservations(
+        @RequestBody @Size(min = 1, max = ReservationService.MAX_BULK_SIZE) List<@Valid ReservationCreateReq> reqs
+    ) {
+        List<Long> ids = reservationService.createBulk(reqs);
+        return ResponseEntity.ok(ApiResponse.ok(Map.of("reservation_ids", ids)));
+    }
+
     @PostMapping(value = "/{id}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Map<String, String>>> uploadReservationImage(
             @PathVariable("id") Long reservationId,
             @RequestParam("file") org.springframework.web.multipart.MultipartFile file
     ) throws Exception {
-        String relative = fileStorageService.saveReservationImage(reservationId, file);
+        return reservationImageSaved(reservationId, fileStorageService.saveReservationImage(reservationId, file));
+    }
+
+    // 스트리밍 업로드: 본문이 이미지 바이트 그대로 (multipart 임시 파일 없이 최종 위치에 바로 기록)
+    @PostMapping(value = "/{id}/image",
+            consumes = { MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<ApiResponse<Map<String, String>>> streamReservationImage(
+            @PathVariable("id") Long reservationId,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream body
+    ) throws IOException {
+        return reservationImageSaved(reservationId,
+                fileStorageService.saveReservationImage(reservationId, body, contentLength));
+    }
+
+    private ResponseEntity<ApiResponse<Map<String, String>>> reservationImageSaved(Long reservationId, String relative) {
         String imageUrl = ServletUriComponentsBuilder.fromCurrentContextPath()
                 .path(relative)
                 .toUriString();
@@ -62,6 +98,42 @@ public class ReservationController {
         return ResponseEntity.ok(ApiResponse.ok(Map.of("reservation_id", reservationId)));
     }
 
+    @PatchMapping("/{id}/check-in")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> checkInReservation(
+        @PathVariable("id") Long reservationId,
+        @RequestParam("partner_id") Long partnerId
+    ) {
+        reservationService.checkIn(reservationId, partnerId);
+        return ResponseEntity.ok(ApiResponse.ok(Map.of("reservation_id", reservationId)));
+    }
+
+    @PatchMapping("/{id}/complete")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> completeReservation(
+        @PathVariable("id") Long reservationId,
+        @RequestParam("partner_id") Long partnerId
+    ) {
+        reservationService.complete(reservationId, partnerId);
+        return ResponseEntity.ok(ApiResponse.ok(Map.of("reservation_id", reservationId)));
+    }
+
+    // 예약자(user_id) 또는 파트너(partner_id) 중 하나로 취소
+    @PatchMapping("/{id}/cancel")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> cancelReservation(
+        @PathVariable("id") Long reservationId,
+        @RequestParam(value = "user_id", required = false) Long userId,
+        @RequestParam(value = "partner_id", required = false) Long partnerId
+    ) {
+        if ((userId == null) == (partnerId == null)) {
+            throw new IllegalArgumentException("USER_ID_OR_PARTNER_ID_REQUIRED");
+        }
+        if (userId != null) {
+            reservationService.cancelByUser(reservationId, userId);
+        } else {
+            reservationService.cancelByPartner(reservationId, partnerId);
+        }
+        return ResponseEntity.ok(ApiResponse.ok(Map.of("reservation_id", reservationId)));
+    }
+
     @GetMapping("/mine")
     public ResponseEntity<ApiResponse<List<MyReservationRes>>> getMyReservations(
             @RequestParam("userId") Long userId,
@@ -71,5 +143,54 @@ public class ReservationController {
                 reservationService.getMyReservations(userId, serviceType)
         ));
     }
-    
+
+    // 커서 기반 페이지 조회: 응답의 nextCursor를 다음 요청의 cursor로 그대로 전달
+    @GetMapping("/mine/page")
+    public ResponseEntity<ApiResponse<MyReservationPageRes>> getMyReservationPage(
+            @RequestParam("userId") Long userId,
+            @RequestParam(value = "serviceType", required = false) String serviceType,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(
+                reservationService.getMyReservationPage(userId, serviceType, cursor, size)
+        ));
+    }
+
+    @GetMapping("/partners/{partnerId}/free-slots")
+    public ResponseEntity<ApiResponse<FreeSlotsRes>> getFreeSlots(
+            @PathVariable("partnerId") Long partnerId,
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(reservationService.getFreeSlots(partnerId, date)));
+    }
+
+    // 파트너 대시보드: 일별 × 카테고리 × 상태 예약 건수 (from~to 포함, 최대 366일)
+    @GetMapping("/partners/{partnerId}/stats")
+    public ResponseEntity<ApiResponse<ReservationStatsRes>> getPartnerStats(
+            @PathVariable("partnerId") Long partnerId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(reservationService.getPartnerStats(partnerId, from, to)));
+    }
+
+    // 파트너(병원/펫시터) 수신함: 들어온 예약 목록, 최신순 커서 페이지
+    @GetMapping("/partner/inbox")
+    public ResponseEntity<ApiResponse<PartnerInboxPageRes>> getPartnerInbox(
+            @RequestParam("partnerId") Long partnerId,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(
+                reservationService.getPartnerInbox(partnerId, status, cursor, size)
+        ));
+    }
+
+    // 파트너 실시간 스트림 (SSE): 예약 생성/상태 변경 시 "reservation" 이벤트 푸시
+    @GetMapping(value = "/partner/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPartnerEvents(@RequestParam("partnerId") Long partnerId) {
+        return reservationService.subscribePartnerEvents(partnerId);
+    }
 }
@@ -0,0 +1,10 @@
+package com.example.pet.demo.reservation.api.dto;
+
+import java.util.List;
+
+public record FreeSlotsRes(
+    Long partnerId,
+    String date,          // yyyy-MM-dd
+    int slotMinutes,      // 슬롯 길이(분)
+    List<String> slots    // 예약 가능한 슬롯 시작 시각 ["09:00","09:30",...]
+) {}
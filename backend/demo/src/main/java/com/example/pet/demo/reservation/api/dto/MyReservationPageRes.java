@@ -0,0 +1,8 @@
+package com.example.pet.demo.reservation.api.dto;
+
+import java.util.List;
+
+public record MyReservationPageRes(
+    List<MyReservationRes> items,
+    String nextCursor // 마지막 페이지면 null
+) {}
@@ -0,0 +1,15 @@
+package com.example.pet.demo.reservation.api.dto;
+
+import java.util.List;
+
+public record PartnerReservationRes(
+    Long reservationId,
+    Long userId,
+    Long petId,
+    String serviceType,
+    String status,
+    String reservedAt,      // ISO-8601 (예약 시각)
+    String content,
+    List<String> specialties,
+    String imageUrl
+) {}
@@ -0,0 +1,18 @@
+package com.example.pet.demo.reservation.api.dto;
+
+import java.util.List;
+
+public record ReservationStatsRes(
+    Long partnerId,
+    String from,            // yyyy-MM-dd
+    String to,              // yyyy-MM-dd (포함)
+    long total,             // 범위 내 전체 예약 수 (모든 상태)
+    List<DailyCount> days   // 날짜 → 카테고리 → 상태 순, 0건인 칸은 생략
+) {
+    public record DailyCount(
+        String date,        // yyyy-MM-dd
+        String category,    // HOSPITAL/GROOMING/CAFE/SITTER
+        String status,      // WAITING/CONFIRMED/...
+        long count
+    ) {}
+}
@@ -0,0 +1,302 @@
+package com.example.pet.demo.reservation.app;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.pet.demo.reservation.domain.BookedSlot;
+import com.example.pet.demo.reservation.domain.port.ReservationPersistencePort;
+import com.example.pet.demo.users.app.PartnerChangedEvent;
+import com.example.pet.demo.users.app.UserService;
+import com.example.pet.demo.users.domain.port.PartnerView;
+import com.example.pet.demo.users.domain.WorkingSchedule;
+
+/**
+ * 파트너별 예약 가능 슬롯 엔진 (인메모리).
+ *
+ * 하루를 30분 단위 48칸으로 나누고 long 비트맵 하나로 표현한다.
+ * - 근무 가능 슬롯: 파트너 근무 요일/시간으로 계산 (요일 7비트 + 하루 48비트)
+ * - 예약된 슬롯: 슬롯 하나 = 한 예약자의 방문 하나. 같은 예약자는 여러 반려동물을 같은 슬롯에 넣을 수 있고
+ *   (단건/일괄 모두 같은 규칙), 다른 예약자는 SLOT_ALREADY_BOOKED.
+ *   슬롯별 (예약자, 건수)를 ConcurrentHashMap.compute 로 원자적으로 바꾸고, 빈 슬롯 조회용 비트맵을 같이 맞춘다 (row lock 없음)
+ *   마지막 한 건이 취소될 때만 슬롯이 비워진다.
+ *
+ * 파트너 정보는 처음 조회될 때 DB에서 한 번 읽어 적재하고 이후 create/accept/cancel 시 갱신한다.
+ * 근무 일정이 바뀌면 근무 슬롯만 다시 읽고 예약 현황은 그대로 둔다 (아직 커밋 전인 선점을 잃지 않도록).
+ * 단일 인스턴스 기준이며, 여러 서버로 확장하면 DB 제약 등 별도 보장이 필요하다.
+ */
+@Component
+public class AvailabilityEngine {
+    public static final int SLOT_MINUTES = WorkingSchedule.SLOT_MINUTES;
+    public static final int SLOTS_PER_DAY = WorkingSchedule.SLOTS_PER_DAY; // 48
+
+    private final UserService userService;
+    private final ReservationPersistencePort reservations;
+    private final ZoneId zone;
+    private final ConcurrentHashMap<Long, PartnerSlots> partners = new ConcurrentHashMap<>();
+
+    public AvailabilityEngine(UserService userService,
+                              ReservationPersistencePort reservations,
+                              @Value("${app.reservation.zone:Asia/Seoul}") String zone) {
+        this.userService = userService;
+        this.reservations = reservations;
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * 해당 시각의 슬롯을 예약자 userId 의 방문으로 선점.
+     * 지난 시각이면 SLOT_IN_PAST, 근무시간 밖이면 PARTNER_NOT_AVAILABLE, 다른 예약자가 잡았으면 SLOT_ALREADY_BOOKED
+     */
+    public void reserve(Long partnerId, Long userId, OffsetDateTime at) {
+        reserveAll(partnerId, userId, List.of(at));
+    }
+
+    /** 여러 시각을 한꺼번에 선점 (전부 성공하거나 전부 실패). 같은 슬롯의 여러 건은 한 방문으로 센다 */
+    public void reserveAll(Long partnerId, Long userId, Collection<OffsetDateTime> times) {
+        OffsetDateTime now = OffsetDateTime.now(zone);
+        for (OffsetDateTime at : times) {
+            if (at.isBefore(now)) {
+                throw new IllegalArgumentException("SLOT_IN_PAST");
+            }
+        }
+        PartnerSlots slots = load(partnerId);
+        Map<LocalDate, Map<Integer, Integer>> wanted = toSlotCounts(times);
+        for (Map.Entry<LocalDate, Map<Integer, Integer>> e : wanted.entrySet()) {
+            long bookable = slots.bookable(e.getKey());
+            for (int slot : e.getValue().keySet()) {
+                if ((bookable & (1L << slot)) == 0) {
+                    throw new IllegalArgumentException("PARTNER_NOT_AVAILABLE");
+                }
+            }
+        }
+
+        List<Runnable> undo = new ArrayList<>();
+        try {
+            wanted.forEach((date, counts) -> {
+                DaySlots day = slots.day(date);
+                counts.forEach((slot, n) -> {
+                    day.claim(slot, userId, n);
+                    undo.add(() -> day.unclaim(slot, n));
+                });
+            });
+        } catch (IllegalArgumentException ex) {
+            undo.forEach(Runnable::run);
+            throw ex;
+        }
+    }
+
+    /** reserveAll로 선점한 슬롯 반환 */
+    public void releaseAll(Long partnerId, Collection<OffsetDateTime> times) {
+        PartnerSlots slots = partners.get(partnerId);
+        if (slots == null) {
+            return;
+        }
+        toSlotCounts(times).forEach((date, counts) -> {
+            DaySlots day = slots.dayIfPresent(date);
+            if (day != null) {
+                counts.forEach(day::unclaim);
+            }
+        });
+    }
+
+    private Map<LocalDate, Map<Integer, Integer>> toSlotCounts(Collection<OffsetDateTime> times) {
+        Map<LocalDate, Map<Integer, Integer>> counts = new TreeMap<>();
+        for (OffsetDateTime at : times) {
+            ZonedDateTime local = at.atZoneSameInstant(zone);
+            counts.computeIfAbsent(local.toLocalDate(), d -> new TreeMap<>())
+                    .merge(WorkingSchedule.slotOf(local.toLocalTime()), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /** 예약 확정 등으로 슬롯이 점유 상태여야 할 때 (이미 점유돼 있으면 그대로) */
+    public void markBooked(Long partnerId, Long userId, OffsetDateTime at) {
+        PartnerSlots slots = partners.get(partnerId);
+        if (slots == null) {
+            return; // 아직 적재 전이면 다음 적재 때 DB에서 반영됨
+        }
+        ZonedDateTime local = at.atZoneSameInstant(zone);
+        slots.day(local.toLocalDate()).restoreIfAbsent(WorkingSchedule.slotOf(local.toLocalTime()), userId);
+    }
+
+    /** 취소/롤백 시 예약 한 건을 반환. 같은 슬롯에 남은 예약이 있으면 슬롯은 계속 점유 */
+    public void release(Long partnerId, OffsetDateTime at) {
+        PartnerSlots slots = partners.get(partnerId);
+        if (slots == null) {
+            return;
+        }
+        ZonedDateTime local = at.atZoneSameInstant(zone);
+        DaySlots day = slots.dayIfPresent(local.toLocalDate());
+        if (day != null) {
+            day.unclaim(WorkingSchedule.slotOf(local.toLocalTime()), 1);
+        }
+    }
+
+    /** 해당 날짜의 빈 슬롯 시작 시각 목록 (지난 슬롯 제외) */
+    public List<LocalTime> freeSlots(Long partnerId, LocalDate date) {
+        PartnerSlots slots = load(partnerId);
+        DaySlots day = slots.dayIfPresent(date);
+        long free = slots.bookable(date) & ~(day == null ? 0L : day.bits.get()) & notPast(date);
+
+        List<LocalTime> result = new ArrayList<>(Long.bitCount(free));
+        while (free != 0) {
+            int slot = Long.numberOfTrailingZeros(free);
+            result.add(LocalTime.MIN.plusMinutes((long) slot * SLOT_MINUTES));
+            free &= free - 1;
+        }
+        return result;
+    }
+
+    // 오늘이면 지금 이후에 시작하는 슬롯만, 지난 날짜면 없음
+    private long notPast(LocalDate date) {
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        int cmp = date.compareTo(now.toLocalDate());
+        if (cmp != 0) {
+            return cmp > 0 ? WorkingSchedule.ALL_SLOTS : 0L;
+        }
+        int seconds = now.toLocalTime().toSecondOfDay();
+        int first = (seconds + SLOT_MINUTES * 60 - 1) / (SLOT_MINUTES * 60);
+        return first >= SLOTS_PER_DAY ? 0L : WorkingSchedule.ALL_SLOTS & (-1L << first);
+    }
+
+    /** 파트너 근무 정보가 바뀌었을 때 호출 → 다음 조회 시 근무 슬롯만 다시 적재 (예약 현황은 유지) */
+    public void evict(Long partnerId) {
+        PartnerSlots slots = partners.get(partnerId);
+        if (slots != null) {
+            slots.schedule = null;
+        }
+    }
+
+    // 근무 일정이 바뀌면 다음 조회 때 근무 슬롯을 다시 읽는다. userId 가 없으면 전체
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPartnerChanged(PartnerChangedEvent event) {
+        if (event.userId() != null) {
+            evict(event.userId());
+        } else {
+            partners.values().forEach(p -> p.schedule = null);
+        }
+    }
+
+    // 지난 날짜의 예약 현황 정리 (매일 00:10)
+    @Scheduled(cron = "0 10 0 * * *", zone = "${app.reservation.zone:Asia/Seoul}")
+    public void pruneExpiredDays() {
+        long today = LocalDate.now(zone).toEpochDay();
+        partners.values().forEach(p -> p.days.keySet().removeIf(day -> day < today));
+    }
+
+    private PartnerSlots load(Long partnerId) {
+        PartnerSlots cached = partners.get(partnerId);
+        if (cached != null) {
+            if (cached.schedule == null) {
+                cached.schedule = readSchedule(partnerId);
+            }
+            return cached;
+        }
+        PartnerSlots loaded = new PartnerSlots(readSchedule(partnerId));
+
+        // 지난 슬롯은 reserve 단계에서 막으므로 오늘 0시 이후 예약만 있으면 된다
+        OffsetDateTime from = LocalDate.now(zone).atStartOfDay(zone).toOffsetDateTime();
+        for (BookedSlot booked : reservations.findActiveSlotsByPartnerIdFrom(partnerId, from)) {
+            ZonedDateTime local = booked.createdAt().atZoneSameInstant(zone);
+            loaded.day(local.toLocalDate()).restore(WorkingSchedule.slotOf(local.toLocalTime()), booked.userId());
+        }
+        PartnerSlots prev = partners.putIfAbsent(partnerId, loaded);
+        return prev != null ? prev : loaded;
+    }
+
+    private Schedule readSchedule(Long partnerId) {
+        PartnerView partner = userService.getPartner(partnerId);
+        return new Schedule(
+                WorkingSchedule.parseDays(partner.getWorkingDays()),
+                WorkingSchedule.parseSlots(partner.getWorkingStartHours(), partner.getWorkingEndHours()));
+    }
+
+    private record Schedule(int workingDays, long workingSlots) { // bit0 = 월 ... bit6 = 일 / 하루 48칸 중 근무 슬롯
+    }
+
+    // 슬롯을 잡은 예약자와 그 예약자의 예약 건수
+    private record Visit(Long userId, int count) {
+    }
+
+    private static final class PartnerSlots {
+        private volatile Schedule schedule; // null 이면 다음 조회 때 다시 읽는다
+        private final ConcurrentHashMap<Long, DaySlots> days = new ConcurrentHashMap<>(); // epochDay → 예약 현황
+
+        private PartnerSlots(Schedule schedule) {
+            this.schedule = schedule;
+        }
+
+        long bookable(LocalDate date) {
+            Schedule s = schedule;
+            return (s.workingDays() & WorkingSchedule.dayBit(date.getDayOfWeek())) != 0 ? s.workingSlots() : 0L;
+        }
+
+        DaySlots day(LocalDate date) {
+            return days.computeIfAbsent(date.toEpochDay(), d -> new DaySlots());
+        }
+
+        DaySlots dayIfPresent(LocalDate date) {
+            return days.get(date.toEpochDay());
+        }
+    }
+
+    /**
+     * 하루치 예약 현황. 슬롯별 방문은 compute 로 바꾸고(같은 슬롯끼리만 직렬화),
+     * 비트맵은 방문이 생기거나 없어질 때 같은 compute 안에서 세우거나 지운다.
+     */
+    private static final class DaySlots {
+        private final AtomicLong bits = new AtomicLong();
+        private final ConcurrentHashMap<Integer, Visit> visits = new ConcurrentHashMap<>();
+
+        void claim(int slot, Long userId, int n) {
+            visits.compute(slot, (k, v) -> {
+                if (v == null) {
+                    bits.getAndUpdate(b -> b | (1L << slot));
+                    return new Visit(userId, n);
+                }
+                if (!v.userId().equals(userId)) {
+                    throw new IllegalArgumentException("SLOT_ALREADY_BOOKED");
+                }
+                return new Visit(userId, v.count() + n);
+            });
+        }
+
+        void unclaim(int slot, int n) {
+            visits.computeIfPresent(slot, (k, v) -> {
+                if (v.count() > n) {
+                    return new Visit(v.userId(), v.count() - n);
+                }
+                bits.getAndUpdate(b -> b & ~(1L << slot));
+                return null;
+            });
+        }
+
+        // DB 적재용: 예전 데이터에 다른 예약자가 같은 슬롯에 있어도 건수만 합친다
+        void restore(int slot, Long userId) {
+            visits.merge(slot, new Visit(userId, 1), (a, b) -> new Visit(a.userId(), a.count() + 1));
+            bits.getAndUpdate(b -> b | (1L << slot));
+        }
+
+        void restoreIfAbsent(int slot, Long userId) {
+            visits.computeIfAbsent(slot, k -> {
+                bits.getAndUpdate(b -> b | (1L << slot));
+                return new Visit(userId, 1);
+            });
+        }
+    }
+}
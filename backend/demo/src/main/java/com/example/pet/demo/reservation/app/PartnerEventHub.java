@@ -0,0 +1,186 @@
+package com.example.pet.demo.reservation.app;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.example.pet.demo.reservation.api.dto.PartnerReservationRes;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 파트너별 SSE 구독자 팬아웃 허브 (프로세스 내).
+ * 예약 생성/상태 변경이 커밋되면 해당 파트너의 연결된 모든 기기로 이벤트를 보낸다.
+ * - 연결마다 크기 제한 큐를 두고, 작은 전송 풀이 연결 단위로 순서대로 비운다 (요청 스레드는 큐에 넣기만)
+ * - 큐가 넘치는 느린 연결은 닫는다. 클라이언트는 재연결 후 수신함을 다시 읽으면 된다
+ */
+@Component
+public class PartnerEventHub {
+    private static final Logger log = LoggerFactory.getLogger(PartnerEventHub.class);
+    public static final String EVENT_RESERVATION = "reservation";
+
+    private final ConcurrentHashMap<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+
+    public PartnerEventHub(@Value("${app.reservation.sse-timeout-ms:1800000}") long timeoutMillis,
+                           @Value("${app.reservation.sse-senders:4}") int senderThreads,
+                           @Value("${app.reservation.sse-queue-capacity:32}") int queueCapacity) {
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger seq = new AtomicInteger();
+        // 연결마다 drain 작업은 최대 1개만 올라가므로 풀 대기열은 연결 수를 넘지 않는다
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "partner-sse-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public SseEmitter subscribe(Long partnerId) {
+        return subscribe(partnerId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(Long partnerId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(partnerId, emitter);
+        subscribers.compute(partnerId, (id, list) -> {
+            List<Subscriber> target = list != null ? list : new CopyOnWriteArrayList<>();
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            subscriber.close();
+        }
+        return emitter;
+    }
+
+    public void publish(Long partnerId, PartnerReservationRes event) {
+        List<Subscriber> list = subscribers.get(partnerId);
+        if (list == null) {
+            return;
+        }
+        for (Subscriber subscriber : list) {
+            // SseEventBuilder 는 build() 때 내용을 비우므로 연결마다 새로 만든다
+            subscriber.offer(SseEmitter.event()
+                    .name(EVENT_RESERVATION)
+                    .id(String.valueOf(event.reservationId()))
+                    .data(event));
+        }
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 끊김 방지 + 끊긴 연결 정리
+    @Scheduled(fixedDelayString = "${app.reservation.sse-heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscribers.values().forEach(list -> list.forEach(subscriber -> {
+            // 보낼 이벤트가 밀려 있으면 그 자체가 하트비트다
+            if (subscriber.queue.isEmpty()) {
+                subscriber.offer(SseEmitter.event().comment("ping"));
+            }
+        }));
+    }
+
+    public int connectionCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.partnerId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.values().forEach(list -> list.forEach(s -> s.emitter.complete()));
+    }
+
+    /** 연결 하나의 전송 큐. drain 은 한 번에 하나만 돌아 같은 연결의 이벤트 순서가 유지된다 */
+    private final class Subscriber {
+        final Long partnerId;
+        final SseEmitter emitter;
+        final BlockingQueue<SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscriber(Long partnerId, SseEmitter emitter) {
+            this.partnerId = partnerId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                log.info("closing slow SSE connection of partner {} (queue full)", partnerId);
+                fail(new IllegalStateException("SSE_QUEUE_FULL"));
+                return;
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false); // 종료 중
+                }
+            }
+        }
+
+        void drain() {
+            try {
+                SseEventBuilder event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                fail(e);
+            } finally {
+                draining.set(false);
+            }
+            // drain 종료 직전에 들어온 이벤트
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void fail(Exception cause) {
+            if (!closed) {
+                close();
+                emitter.completeWithError(cause);
+            }
+        }
+
+        void close() {
+            closed = true;
+            queue.clear();
+            remove(this);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.pet.demo.reservation.app;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.pet.demo.reservation.domain.port.ReservationPersistencePort;
+
+/**
+ * 종료된 지 오래된 예약을 reservation → reservation_archive로 옮기는 야간 잡.
+ * hot 테이블과 인덱스를 작게 유지하고, 조회는 ReservationPersistencePort가 두 테이블을 합쳐 보여준다.
+ * 배치마다 별도 트랜잭션이라 한 번에 잡는 락/언두 로그가 batchSize 건으로 제한된다.
+ */
+@Component
+public class ReservationArchiver {
+    private static final Logger log = LoggerFactory.getLogger(ReservationArchiver.class);
+
+    private final ReservationPersistencePort reservations;
+    private final Duration age;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public ReservationArchiver(ReservationPersistencePort reservations,
+                               @Value("${app.reservation.archive.age:180d}") Duration age,
+                               @Value("${app.reservation.archive.batch-size:1000}") int batchSize,
+                               @Value("${app.reservation.archive.max-batches:100}") int maxBatches) {
+        this.reservations = reservations;
+        this.age = age;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(cron = "${app.reservation.archive.cron:0 0 4 * * *}", zone = "${app.reservation.zone:Asia/Seoul}")
+    public void archive() {
+        long started = System.nanoTime();
+        int moved = archiveOnce(OffsetDateTime.now().minus(age));
+        if (moved > 0) {
+            log.info("archived {} reservations in {} ms", moved, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    /** cutoff 이전 종료 예약을 batchSize씩 옮긴다. 한 번 실행에 최대 maxBatches 배치, 남은 건 다음 실행에서 */
+    public int archiveOnce(OffsetDateTime cutoff) {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int moved = reservations.archiveFinishedBefore(cutoff, batchSize);
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.pet.demo.reservation.app;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.ReservationSummary;
+
+/**
+ * 예약 목록 keyset 커서 (createdAt, id).
+ * 클라이언트에는 "ISO-8601 instant|id"를 base64url로 감싼 불투명 문자열로 내려준다.
+ */
+record ReservationCursor(OffsetDateTime createdAt, Long id) {
+
+    static ReservationCursor of(Reservation last) {
+        return new ReservationCursor(last.getCreatedAt(), last.getId());
+    }
+
+    static ReservationCursor of(ReservationSummary last) {
+        return new ReservationCursor(last.createdAt(), last.id());
+    }
+
+    String encode() {
+        String raw = createdAt.toInstant() + "|" + id; // 컬럼 정밀도(ms/µs)를 잃지 않도록 Instant 문자열 사용
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static ReservationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int sep = raw.indexOf('|');
+            Instant createdAt = Instant.parse(raw.substring(0, sep));
+            long id = Long.parseLong(raw.substring(sep + 1));
+            return new ReservationCursor(OffsetDateTime.ofInstant(createdAt, ZoneOffset.UTC), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+    }
+}
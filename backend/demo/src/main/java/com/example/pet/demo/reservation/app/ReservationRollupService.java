@@ -0,0 +1,131 @@
+package com.example.pet.demo.reservation.app;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.pet.demo.reservation.api.dto.ReservationStatsRes;
+import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.ReservationDailyRollup;
+import com.example.pet.demo.reservation.domain.ReservationRollupDelta;
+import com.example.pet.demo.reservation.domain.port.ReservationRollupPort;
+
+/**
+ * 파트너 대시보드용 일별 예약 집계.
+ * 조회 때마다 reservation을 GROUP BY 하지 않도록 생성/전이 시점에 증분으로 맞춰 두고,
+ * 밤마다 최근 구간을 원본 행에서 다시 계산해 어긋난 칸을 바로잡는다.
+ */
+@Service
+public class ReservationRollupService {
+    private static final Logger log = LoggerFactory.getLogger(ReservationRollupService.class);
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final ReservationRollupPort rollups;
+    private final TransactionTemplate tx;
+    private final ZoneId zone;
+    private final int rebuildPastDays;
+    private final int rebuildFutureDays;
+
+    public ReservationRollupService(ReservationRollupPort rollups,
+                                    PlatformTransactionManager txManager,
+                                    @Value("${app.reservation.zone:Asia/Seoul}") String zone,
+                                    @Value("${app.reservation.rollup.rebuild-past-days:7}") int rebuildPastDays,
+                                    @Value("${app.reservation.rollup.rebuild-future-days:90}") int rebuildFutureDays) {
+        this.rollups = rollups;
+        this.tx = new TransactionTemplate(txManager);
+        this.zone = ZoneId.of(zone);
+        this.rebuildPastDays = rebuildPastDays;
+        this.rebuildFutureDays = rebuildFutureDays;
+    }
+
+    /** 새 예약 +1. 예약을 만든 트랜잭션 안에서 호출해야 롤백 시 함께 취소된다 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<Reservation> created) {
+        // 벌크 생성은 같은 칸끼리 먼저 합쳐 한 번만 upsert
+        Map<ReservationRollupDelta, Long> merged = new LinkedHashMap<>();
+        for (Reservation r : created) {
+            merged.merge(cell(r, r.getStatus(), 0), 1L, Long::sum);
+        }
+        List<ReservationRollupDelta> deltas = new ArrayList<>(merged.size());
+        merged.forEach((key, count) -> deltas.add(new ReservationRollupDelta(
+                key.partnerId(), key.statDate(), key.serviceCategorical(), key.status(), count)));
+        rollups.apply(deltas);
+    }
+
+    /** 상태 전이: 이전 상태 칸 -1, 새 상태 칸 +1 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Reservation r, ReservationStatus from, ReservationStatus to) {
+        if (from == to) {
+            return;
+        }
+        rollups.apply(List.of(cell(r, from, -1), cell(r, to, 1)));
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationStatsRes getStats(Long partnerId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("INVALID_DATE_RANGE");
+        }
+        List<ReservationDailyRollup> rows = rollups.findByPartnerId(partnerId, from, to);
+        long total = 0;
+        List<ReservationStatsRes.DailyCount> days = new ArrayList<>(rows.size());
+        for (ReservationDailyRollup row : rows) {
+            total += row.getCount();
+            days.add(new ReservationStatsRes.DailyCount(
+                    row.getStatDate().toString(),
+                    row.getServiceCategorical().name(),
+                    row.getStatus().name(),
+                    row.getCount()));
+        }
+        return new ReservationStatsRes(partnerId, from.toString(), to.toString(), total, days);
+    }
+
+    /** [from, to] 날짜별로 원본에서 다시 집계. 하루씩 별도 트랜잭션이라 락을 오래 잡지 않는다 */
+    public int rebuild(LocalDate from, LocalDate to) {
+        int cells = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDate d = day;
+            Integer written = tx.execute(s -> rollups.rebuildDay(d,
+                    d.atStartOfDay(zone).toOffsetDateTime(),
+                    d.plusDays(1).atStartOfDay(zone).toOffsetDateTime()));
+            cells += written == null ? 0 : written;
+        }
+        return cells;
+    }
+
+    @Scheduled(cron = "${app.reservation.rollup.rebuild-cron:0 30 3 * * *}", zone = "${app.reservation.zone:Asia/Seoul}")
+    public void rebuildRecent() {
+        LocalDate today = LocalDate.now(zone);
+        LocalDate from = today.minusDays(rebuildPastDays);
+        LocalDate to = today.plusDays(rebuildFutureDays);
+        long started = System.nanoTime();
+        int cells = rebuild(from, to);
+        log.info("reservation rollup rebuilt {}..{} ({} cells) in {} ms",
+                from, to, cells, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private ReservationRollupDelta cell(Reservation r, ReservationStatus status, long delta) {
+        return new ReservationRollupDelta(
+                r.getPartnerId(),
+                r.getCreatedAt().atZoneSameInstant(zone).toLocalDate(),
+                r.getServiceCategorical(),
+                status,
+                delta);
+    }
+}
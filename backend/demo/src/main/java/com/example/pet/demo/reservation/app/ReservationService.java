@@ -1,23 +1,42 @@
 package com.example.pet.demo.reservation.app;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.example.pet.demo.common.EnumSetMaskConverter;
 import com.example.pet.demo.notification.NotificationService;
+import com.example.pet.demo.reservation.api.dto.FreeSlotsRes;
+import com.example.pet.demo.reservation.api.dto.MyReservationPageRes;
 import com.example.pet.demo.reservation.api.dto.MyReservationRes;
+import com.example.pet.demo.reservation.api.dto.PartnerInboxPageRes;
+import com.example.pet.demo.reservation.api.dto.PartnerReservationRes;
 import com.example.pet.demo.reservation.api.dto.ReservationCreateReq;
+import com.example.pet.demo.reservation.api.dto.ReservationStatsRes;
 import com.example.pet.demo.reservation.domain.Reservation;
 import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
 import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.domain.ReservationSummary;
+import com.example.pet.demo.reservation.domain.ReservationTransition;
 import com.example.pet.demo.reservation.domain.port.ReservationPersistencePort;
 import com.example.pet.demo.users.app.UserService;
-import com.example.pet.demo.users.domain.User;
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,32 +47,116 @@ public class ReservationService {
     private final ReservationPersistencePort reservations;
     private final NotificationService notificationService;
     private final UserService userService;
+    private final AvailabilityEngine availability;
+    private final PartnerEventHub partnerEvents;
+    private final ReservationRollupService rollups;
     private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BULK_SIZE = 20;
 
     public Long create(ReservationCreateReq req) {
-        String imageCsv = toCsv(req.reservationImageUrls());
-        Reservation reservation = Reservation.builder()
+        Reservation reservation = toEntity(req);
+
+        // 근무시간/중복 예약 검사 + 슬롯 선점. 트랜잭션이 롤백되면 슬롯을 되돌린다
+        availability.reserve(req.partnerId(), req.userId(), req.createdAt());
+        afterRollback(() -> availability.release(req.partnerId(), req.createdAt()));
+
+        Reservation saved = reservations.save(reservation);
+        rollups.recordCreated(List.of(saved));
+        PartnerReservationRes event = toPartnerRes(saved);
+        afterCommit(() -> partnerEvents.publish(saved.getPartnerId(), event));
+        return saved.getId();
+    }
+
+    /**
+     * 여러 반려동물 예약을 한 트랜잭션으로 생성.
+     * 같은 예약자/같은 파트너만 허용하고, 파트너 조회와 가용성 검사는 한 번만 한 뒤 JDBC 배치로 INSERT 한다.
+     */
+    public List<Long> createBulk(List<ReservationCreateReq> reqs) {
+        if (reqs == null || reqs.isEmpty()) {
+            throw new IllegalArgumentException("EMPTY_BULK");
+        }
+        if (reqs.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("BULK_TOO_LARGE");
+        }
+        ReservationCreateReq first = reqs.get(0);
+        Set<String> seen = new HashSet<>();
+        for (ReservationCreateReq req : reqs) {
+            if (!first.partnerId().equals(req.partnerId()) || !first.userId().equals(req.userId())) {
+                throw new IllegalArgumentException("BULK_PARTNER_MISMATCH");
+            }
+            if (!seen.add(req.petId() + "@" + req.createdAt().toInstant())) {
+                throw new IllegalArgumentException("DUPLICATE_PET_IN_BULK");
+            }
+        }
+
+        List<OffsetDateTime> times = reqs.stream().map(ReservationCreateReq::createdAt).toList();
+        availability.reserveAll(first.partnerId(), first.userId(), times);
+        afterRollback(() -> availability.releaseAll(first.partnerId(), times));
+
+        List<Reservation> entities = reqs.stream().map(this::toEntity).toList();
+        List<Long> ids = reservations.insertAll(entities);
+        rollups.recordCreated(entities);
+
+        List<PartnerReservationRes> events = entities.stream().map(this::toPartnerRes).toList();
+        afterCommit(() -> events.forEach(e -> partnerEvents.publish(first.partnerId(), e)));
+        return ids;
+    }
+
+    private Reservation toEntity(ReservationCreateReq req) {
+        EnumSet<VetSpecialty> vets = EnumSetMaskConverter.copyOf(req.vetSpecialties(), VetSpecialty.class);
+        EnumSet<PetsitterWork> works = EnumSetMaskConverter.copyOf(req.petsitterWorks(), PetsitterWork.class);
+        return Reservation.builder()
             .userId(req.userId())
             .partnerId(req.partnerId())
             .serviceCategorical(ServiceCategorical.valueOf(req.userType().name()))
             .userType(req.userType())
             .status(ReservationStatus.WAITING)
             .createdAt(req.createdAt())
-            .reservationImageUrl(imageCsv)
+            .reservationImageUrl(toCsv(req.reservationImageUrls()))
             .reservationContent(req.reservationContent())
             .petId(req.petId())
-            .vetSpecialtyCsv(toCsv(req.vetSpecialties()))
-            .petsitterWorkCsv(toCsv(req.petsitterWorks()))
+            .vetSpecialties(vets)
+            .petsitterWorks(works)
+            .vetSpecialtyCsv(EnumSetMaskConverter.toCsv(vets))
+            .petsitterWorkCsv(EnumSetMaskConverter.toCsv(works))
             .build();
+    }
 
-        return reservations.save(reservation).getId();
+    @Transactional(readOnly = true)
+    public FreeSlotsRes getFreeSlots(Long partnerId, LocalDate date) {
+        List<String> slots = availability.freeSlots(partnerId, date).stream()
+                .map(t -> t.format(TIME_FMT))
+                .toList();
+        return new FreeSlotsRes(partnerId, date.toString(), AvailabilityEngine.SLOT_MINUTES, slots);
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationStatsRes getPartnerStats(Long partnerId, LocalDate from, LocalDate to) {
+        return rollups.getStats(partnerId, from, to);
+    }
+
+    private void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
     }
 
     public void updateReservationImage(Long reservationId, String imageUrl) {
-        Reservation reservation = reservations.findById(reservationId)
-            .orElseThrow(() -> new IllegalArgumentException("RESERVATION_NOT_FOUND"));
-        reservation.setReservationImageUrl(imageUrl);
-        reservations.save(reservation);
+        // 아카이브된(종료 후 오래된) 예약은 읽기 전용이라 hot 테이블에 있는 경우만 갱신
+        if (!reservations.updateImageUrl(reservationId, imageUrl)) {
+            throw new IllegalArgumentException("RESERVATION_NOT_FOUND");
+        }
     }
 
     private String toCsv(Collection<?> values) {
@@ -63,8 +166,8 @@ public class ReservationService {
                         .map(Object::toString)
                         .map(String::trim)
                         .filter(s -> !s.isEmpty())
-                        .reduce((a, b) -> a + "," + b)
-                        .orElse(null);
+                        .collect(Collectors.collectingAndThen(Collectors.joining(","),
+                                csv -> csv.isEmpty() ? null : csv));
     }
 
     @Transactional(readOnly = true)
@@ -74,64 +177,218 @@ public class ReservationService {
     }
 
     public void accept(Long reservationId, Long partnerId) {
-        Reservation reservation = get(reservationId);
-        // ... 파트너 검증/상태 변경 ...
-        reservations.save(reservation);
+        Reservation reservation = transition(reservationId, partnerId, ReservationTransition.ACCEPT);
+        availability.markBooked(reservation.getPartnerId(), reservation.getUserId(), reservation.getCreatedAt());
 
-        try {
-            User user = userService.get(reservation.getUserId()); // get 메서드는 직접 추가
-            String token = user.getFcmToken();
-            if (token != null && !token.isBlank()) {
-                notificationService.sendReservationAccepted(token, reservationId);
+        // 같은 트랜잭션에서 아웃박스에 적재 → 커밋 후 디스패처가 발송 (DB 커넥션을 잡은 채 FCM 호출하지 않음)
+        // 사용자의 등록 기기 전체로 보낸다 (기기 토큰 목록은 알림 모듈이 관리)
+        notificationService.enqueueReservationAccepted(reservation.getUserId(), reservationId);
+    }
+
+    public void checkIn(Long reservationId, Long partnerId) {
+        transition(reservationId, partnerId, ReservationTransition.CHECK_IN);
+    }
+
+    public void complete(Long reservationId, Long partnerId) {
+        transition(reservationId, partnerId, ReservationTransition.COMPLETE);
+    }
+
+    public void cancelByUser(Long reservationId, Long userId) {
+        transition(reservationId, userId, ReservationTransition.CANCEL_BY_USER);
+    }
+
+    public void cancelByPartner(Long reservationId, Long partnerId) {
+        transition(reservationId, partnerId, ReservationTransition.CANCEL_BY_BIZ);
+    }
+
+    /**
+     * 조건부 UPDATE 한 문장으로 상태를 바꾸고, 바뀐 예약을 돌려준다.
+     * 동시에 들어온 전이 중 하나만 성공하고 나머지는 RESERVATION_STATUS_CONFLICT.
+     */
+    private Reservation transition(Long reservationId, Long actorId, ReservationTransition transition) {
+        LocalDateTime canceledAt = transition.cancels() ? LocalDateTime.now() : null;
+        // 취소처럼 출발 상태가 여럿이면 하나씩 시도해, 성공한 쪽으로 이전 상태를 확정한다 (집계 -1/+1 용)
+        ReservationStatus previous = null;
+        for (ReservationStatus from : transition.from()) {
+            if (reservations.transition(reservationId, actorId, transition, from, canceledAt)) {
+                previous = from;
+                break;
+            }
+        }
+        if (previous == null) {
+            // 실패 사유 판별은 실패 경로에서만 조회
+            Reservation current = get(reservationId);
+            if (!transition.isActor(current, actorId)) {
+                throw new IllegalArgumentException("RESERVATION_FORBIDDEN");
             }
-        } catch (Exception e) {
-            // 알림 실패는 로깅만 하고 흐름 유지
+            throw new IllegalStateException("RESERVATION_STATUS_CONFLICT: "
+                    + current.getStatus() + " -> " + transition.target());
         }
+
+        Reservation reservation = get(reservationId);
+        rollups.recordTransition(reservation, previous, transition.target());
+        if (transition.cancels()) {
+            afterCommit(() -> availability.release(reservation.getPartnerId(), reservation.getCreatedAt()));
+        }
+        PartnerReservationRes event = toPartnerRes(reservation);
+        afterCommit(() -> partnerEvents.publish(reservation.getPartnerId(), event));
+        return reservation;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     @Transactional(readOnly = true)
     public List<MyReservationRes> getMyReservations(Long userId, String serviceType) {
-        List<Reservation> list = reservations.findByUserId(userId);
+        ServiceCategorical category = null;
+        if (serviceType != null) {
+            category = parseServiceType(serviceType);
+            if (category == null) {
+                return List.of(); // 알 수 없는 카테고리는 결과 없음 (기존 필터 동작 유지)
+            }
+        }
+        return toResList(reservations.findByUserId(userId, category));
+    }
+
+    @Transactional(readOnly = true)
+    public MyReservationPageRes getMyReservationPage(Long userId, String serviceType, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        ServiceCategorical category = null;
+        if (serviceType != null) {
+            category = parseServiceType(serviceType);
+            if (category == null) {
+                return new MyReservationPageRes(List.of(), null);
+            }
+        }
+        ReservationCursor after = ReservationCursor.decode(cursor);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<ReservationSummary> rows = reservations.findPageByUserId(
+                userId, category,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ReservationSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? ReservationCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new MyReservationPageRes(toResList(page), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public PartnerInboxPageRes getPartnerInbox(Long partnerId, String status, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        ReservationStatus statusFilter = null;
+        if (status != null) {
+            try {
+                statusFilter = ReservationStatus.valueOf(status.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("INVALID_STATUS");
+            }
+        }
+        ReservationCursor after = ReservationCursor.decode(cursor);
+
+        List<Reservation> rows = reservations.findPageByPartnerId(
+                partnerId, statusFilter,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Reservation> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? ReservationCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new PartnerInboxPageRes(page.stream().map(this::toPartnerRes).toList(), nextCursor);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribePartnerEvents(Long partnerId) {
+        return partnerEvents.subscribe(partnerId);
+    }
+
+    private PartnerReservationRes toPartnerRes(Reservation r) {
+        List<String> specialties = specialties(r);
+        return new PartnerReservationRes(
+                r.getId(),
+                r.getUserId(),
+                r.getPetId(),
+                r.getServiceCategorical().name(),
+                r.getStatus().name(),
+                r.getCreatedAt().toString(),
+                r.getReservationContent(),
+                specialties,
+                r.getReservationImageUrl()
+        );
+    }
+
+    private List<MyReservationRes> toResList(List<ReservationSummary> list) {
+        if (list.isEmpty()) {
+            return List.of();
+        }
+
+        // 파트너 이름은 예약 건수와 무관하게 한 번에 조회 (N+1 방지)
+        Set<Long> partnerIds = list.stream()
+                .map(ReservationSummary::partnerId)
+                .collect(Collectors.toSet());
+        Map<Long, String> partnerNames = userService.getUsernames(partnerIds);
+        // 건별 조회(userService.get)였을 때처럼 없는 파트너는 USER_NOT_FOUND
+        if (!partnerNames.keySet().containsAll(partnerIds)) {
+            throw new IllegalArgumentException("USER_NOT_FOUND");
+        }
+
         return list.stream()
-                .filter(r -> serviceType == null
-                        || r.getServiceCategorical().name().equalsIgnoreCase(serviceType))
-                .map(this::toRes)
+                .map(r -> toRes(r, partnerNames.get(r.partnerId())))
                 .toList();
     }
 
-    private MyReservationRes toRes(Reservation r) {
-        var dt = r.getCreatedAt();                 // OffsetDateTime
+    private ServiceCategorical parseServiceType(String serviceType) {
+        try {
+            return ServiceCategorical.valueOf(serviceType.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private MyReservationRes toRes(ReservationSummary r, String partnerName) {
+        var dt = r.createdAt();                    // OffsetDateTime
         var local = dt.toLocalDateTime();          // LocalDateTime으로 변환
         String slotLabel = local.getHour() < 12 ? "오전 진료" : "오후 진료";
         String date = local.format(DATE_FMT);
         Integer hour = local.getHour();
-        
-        User partner = userService.get(r.getPartnerId()); // 파트너 이름 가져오기
-        String partnerName = partner.getUsername();
 
-        List<String> specialties = r.getServiceCategorical() == Reservation.ServiceCategorical.HOSPITAL
-                ? splitCsv(r.getVetSpecialtyCsv())
-                : splitCsv(r.getPetsitterWorkCsv());
+        List<String> specialties = names(r.serviceCategorical() == ServiceCategorical.HOSPITAL
+                ? r.vetSpecialtySet()
+                : r.petsitterWorkSet());
 
         return new MyReservationRes(
-                r.getId(),
-                r.getServiceCategorical().name(),
+                r.id(),
+                r.serviceCategorical().name(),
                 slotLabel,
                 date,
                 hour,
                 partnerName,
                 specialties,
-                r.getStatus().name()
+                r.status().name()
         );
     }
 
-    private List<String> splitCsv(String csv) {
-        return (csv == null || csv.isBlank())
-                ? List.of()
-                : Arrays.stream(csv.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .toList();
+    private List<String> specialties(Reservation r) {
+        return names(r.getServiceCategorical() == ServiceCategorical.HOSPITAL
+                ? r.vetSpecialtySet()
+                : r.petsitterWorkSet());
+    }
+
+    private static List<String> names(EnumSet<? extends Enum<?>> set) {
+        return set.stream().map(Enum::name).toList();
     }
 
 }
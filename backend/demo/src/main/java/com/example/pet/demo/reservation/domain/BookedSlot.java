@@ -0,0 +1,7 @@
+package com.example.pet.demo.reservation.domain;
+
+import java.time.OffsetDateTime;
+
+/** 가용 슬롯 적재용 프로젝션 - 취소되지 않은 예약의 예약자와 시각만 읽는다 */
+public record BookedSlot(Long userId, OffsetDateTime createdAt) {
+}
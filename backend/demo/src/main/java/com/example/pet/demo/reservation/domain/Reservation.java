@@ -2,16 +2,23 @@ package com.example.pet.demo.reservation.domain;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.EnumSet;
 
+import com.example.pet.demo.common.PetsitterWorkSetConverter;
+import com.example.pet.demo.common.VetSpecialtySetConverter;
+import com.example.pet.demo.users.domain.User.PetsitterWork;
 import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -21,7 +28,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "reservation")
+@Table(name = "reservation", indexes = {
+    @Index(name = "idx_reservation_user_created", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_reservation_partner_created", columnList = "partner_id, created_at, id")
+})
 @Getter
 @Setter
 @Builder
@@ -67,12 +77,30 @@ public class Reservation {
     private Long petId;
 
     // MySQL SET 컬럼과 매핑: CSV 형태("DENTISTRY,DERMATOLOGY")
+    // (레거시) CSV 컬럼: 마스크 컬럼으로 이전 중, 롤백 호환을 위해 계속 기록
     @Column(name = "vet_specialty", length = 255)
     private String vetSpecialtyCsv;
 
     @Column(name = "petsitter_work", length = 255)
     private String petsitterWorkCsv;
 
+    // 비트마스크 컬럼 (bit = 1 << ordinal). NULL이면 아직 마이그레이션 전 → CSV로 대체
+    @Convert(converter = VetSpecialtySetConverter.class)
+    @Column(name = "vet_specialty_mask")
+    private EnumSet<VetSpecialty> vetSpecialties;
+
+    @Convert(converter = PetsitterWorkSetConverter.class)
+    @Column(name = "petsitter_work_mask")
+    private EnumSet<PetsitterWork> petsitterWorks;
+
+    public EnumSet<VetSpecialty> vetSpecialtySet() {
+        return vetSpecialties != null ? vetSpecialties : VetSpecialtySetConverter.INSTANCE.fromCsv(vetSpecialtyCsv);
+    }
+
+    public EnumSet<PetsitterWork> petsitterWorkSet() {
+        return petsitterWorks != null ? petsitterWorks : PetsitterWorkSetConverter.INSTANCE.fromCsv(petsitterWorkCsv);
+    }
+
     public enum ServiceCategorical {
         HOSPITAL, GROOMING, CAFE, SITTER
     }
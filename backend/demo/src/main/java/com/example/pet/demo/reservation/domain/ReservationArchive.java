@@ -0,0 +1,111 @@
+package com.example.pet.demo.reservation.domain;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+
+import com.example.pet.demo.common.PetsitterWorkSetConverter;
+import com.example.pet.demo.common.VetSpecialtySetConverter;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종료된 예약(COMPLETED/CANCELLED_*)의 콜드 저장소. 컬럼은 reservation과 같고 id도 그대로 옮긴다.
+ * 읽기 전용이며, 조회 시 toReservation()으로 변환해 hot 행과 같은 모양으로 돌려준다.
+ */
+@Entity
+@Table(name = "reservation_archive", indexes = {
+    @Index(name = "idx_resv_archive_user_created", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_resv_archive_partner_created", columnList = "partner_id, created_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationArchive {
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "partner_id", nullable = false)
+    private Long partnerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "service_categorical", nullable = false, length = 20)
+    private ServiceCategorical serviceCategorical;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "user_type", nullable = false, length = 20)
+    private UserType userType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "canceled_at")
+    private LocalDateTime canceledAt;
+
+    @Column(name = "resv_url", length = 1024)
+    private String reservationImageUrl;
+
+    @Column(name = "resv_content", columnDefinition = "text")
+    private String reservationContent;
+
+    @Column(name = "pets_id", nullable = false)
+    private Long petId;
+
+    @Column(name = "vet_specialty", length = 255)
+    private String vetSpecialtyCsv;
+
+    @Column(name = "petsitter_work", length = 255)
+    private String petsitterWorkCsv;
+
+    @Convert(converter = VetSpecialtySetConverter.class)
+    @Column(name = "vet_specialty_mask")
+    private EnumSet<VetSpecialty> vetSpecialties;
+
+    @Convert(converter = PetsitterWorkSetConverter.class)
+    @Column(name = "petsitter_work_mask")
+    private EnumSet<PetsitterWork> petsitterWorks;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public Reservation toReservation() {
+        return Reservation.builder()
+                .id(id)
+                .userId(userId)
+                .partnerId(partnerId)
+                .serviceCategorical(serviceCategorical)
+                .userType(userType)
+                .status(status)
+                .createdAt(createdAt)
+                .canceledAt(canceledAt)
+                .reservationImageUrl(reservationImageUrl)
+                .reservationContent(reservationContent)
+                .petId(petId)
+                .vetSpecialtyCsv(vetSpecialtyCsv)
+                .petsitterWorkCsv(petsitterWorkCsv)
+                .vetSpecialties(vetSpecialties)
+                .petsitterWorks(petsitterWorks)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.pet.demo.reservation.domain;
+
+import java.time.LocalDate;
+
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 파트너 대시보드용 일별 예약 집계 (partner, 날짜, 카테고리, 상태) → 건수.
+ * 예약 생성/상태 전이 시 같은 트랜잭션에서 증분 갱신하고, 재집계 잡이 원본 행으로 다시 계산한다.
+ * 날짜는 예약 시각(created_at)을 app.reservation.zone 기준으로 자른 값.
+ */
+@Entity
+@Table(name = "reservation_daily_rollup", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_rollup_partner_date",
+            columnNames = { "partner_id", "stat_date", "service_categorical", "status" })
+}, indexes = {
+    @Index(name = "idx_rollup_stat_date", columnList = "stat_date") // 재집계의 하루치 삭제용
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationDailyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "partner_id", nullable = false)
+    private Long partnerId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "service_categorical", nullable = false, length = 20)
+    private ServiceCategorical serviceCategorical;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "cnt", nullable = false)
+    private long count;
+}
@@ -0,0 +1,15 @@
+package com.example.pet.demo.reservation.domain;
+
+import java.time.LocalDate;
+
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+
+/** 일별 집계 한 칸에 더할 증감량 */
+public record ReservationRollupDelta(
+    Long partnerId,
+    LocalDate statDate,
+    ServiceCategorical serviceCategorical,
+    ReservationStatus status,
+    long delta
+) {}
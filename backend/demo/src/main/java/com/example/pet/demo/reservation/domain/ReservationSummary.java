@@ -0,0 +1,35 @@
+package com.example.pet.demo.reservation.domain;
+
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+
+import com.example.pet.demo.common.PetsitterWorkSetConverter;
+import com.example.pet.demo.common.VetSpecialtySetConverter;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+
+/**
+ * 내 예약 목록용 프로젝션. 본문(resv_content)/이미지/펫 등 목록에 안 쓰는 컬럼은 읽지 않는다.
+ * hot/archive 양쪽 쿼리가 같은 생성자 표현식으로 만든다.
+ */
+public record ReservationSummary(
+    Long id,
+    Long partnerId,
+    ServiceCategorical serviceCategorical,
+    ReservationStatus status,
+    OffsetDateTime createdAt,
+    EnumSet<VetSpecialty> vetSpecialties,
+    String vetSpecialtyCsv,
+    EnumSet<PetsitterWork> petsitterWorks,
+    String petsitterWorkCsv
+) {
+    public EnumSet<VetSpecialty> vetSpecialtySet() {
+        return vetSpecialties != null ? vetSpecialties : VetSpecialtySetConverter.INSTANCE.fromCsv(vetSpecialtyCsv);
+    }
+
+    public EnumSet<PetsitterWork> petsitterWorkSet() {
+        return petsitterWorks != null ? petsitterWorks : PetsitterWorkSetConverter.INSTANCE.fromCsv(petsitterWorkCsv);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.pet.demo.reservation.domain;
+
+import java.util.EnumSet;
+
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+
+/**
+ * 예약 상태 전이 규칙.
+ * WAITING → CONFIRMED → CHECKED_IN → COMPLETED, 그리고 WAITING/CONFIRMED에서의 취소.
+ * 각 전이는 "UPDATE ... WHERE id = ? AND status IN (from) AND 행위자 일치" 한 문장으로 실행된다.
+ */
+public enum ReservationTransition {
+    ACCEPT(Actor.PARTNER, ReservationStatus.CONFIRMED, EnumSet.of(ReservationStatus.WAITING)),
+    CHECK_IN(Actor.PARTNER, ReservationStatus.CHECKED_IN, EnumSet.of(ReservationStatus.CONFIRMED)),
+    COMPLETE(Actor.PARTNER, ReservationStatus.COMPLETED, EnumSet.of(ReservationStatus.CHECKED_IN)),
+    CANCEL_BY_USER(Actor.USER, ReservationStatus.CANCELLED_BY_USER,
+            EnumSet.of(ReservationStatus.WAITING, ReservationStatus.CONFIRMED)),
+    CANCEL_BY_BIZ(Actor.PARTNER, ReservationStatus.CANCELLED_BY_BIZ,
+            EnumSet.of(ReservationStatus.WAITING, ReservationStatus.CONFIRMED));
+
+    public enum Actor { USER, PARTNER }
+
+    private final Actor actor;
+    private final ReservationStatus target;
+    private final EnumSet<ReservationStatus> from;
+
+    ReservationTransition(Actor actor, ReservationStatus target, EnumSet<ReservationStatus> from) {
+        this.actor = actor;
+        this.target = target;
+        this.from = from;
+    }
+
+    public Actor actor() { return actor; }
+    public ReservationStatus target() { return target; }
+    public EnumSet<ReservationStatus> from() { return EnumSet.copyOf(from); }
+
+    public boolean cancels() {
+        return this == CANCEL_BY_USER || this == CANCEL_BY_BIZ;
+    }
+
+    public boolean allowedFrom(ReservationStatus status) {
+        return from.contains(status);
+    }
+
+    public boolean isActor(Reservation r, Long actorId) {
+        return actor == Actor.USER
+                ? r.getUserId().equals(actorId)
+                : r.getPartnerId().equals(actorId);
+    }
+}
@@ -1,12 +1,42 @@
 package com.example.pet.demo.reservation.domain.port;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import com.example.pet.demo.reservation.domain.BookedSlot;
 import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.domain.ReservationSummary;
+import com.example.pet.demo.reservation.domain.ReservationTransition;
 
+/**
+ * 예약 저장소. 조회는 hot(reservation)과 cold(reservation_archive)를 합쳐서 보여주고,
+ * 쓰기(save/transition/이미지)는 hot 테이블에만 한다. 아카이브된 예약은 읽기 전용.
+ */
 public interface ReservationPersistencePort {
     Reservation save(Reservation reservation);
+    List<Long> insertAll(List<Reservation> reservations); // JDBC 배치 INSERT, 생성된 id를 입력 순서대로 반환
     Optional<Reservation> findById(Long id);
-    List<Reservation> findByUserId(Long userId);
+    // 내 예약 목록 (목록 컬럼만), serviceCategorical이 null이면 전체
+    List<ReservationSummary> findByUserId(Long userId, ServiceCategorical serviceCategorical);
+    // (createdAt, id) 역순 keyset 페이지. afterCreatedAt/afterId가 null이면 첫 페이지, serviceCategorical이 null이면 전체
+    List<ReservationSummary> findPageByUserId(Long userId, ServiceCategorical serviceCategorical,
+                                              OffsetDateTime afterCreatedAt, Long afterId, int limit);
+    // 파트너 수신함: (createdAt, id) 역순 keyset 페이지, status가 null이면 전체
+    List<Reservation> findPageByPartnerId(Long partnerId, ReservationStatus status,
+                                          OffsetDateTime afterCreatedAt, Long afterId, int limit);
+    // 취소되지 않은 파트너 예약의 예약자/시각 (from 이후) - 가용 슬롯 적재용
+    List<BookedSlot> findActiveSlotsByPartnerIdFrom(Long partnerId, OffsetDateTime from);
+    // 조건부 UPDATE 한 문장으로 상태 전이. 현재 상태/행위자가 맞지 않으면 false (락 없음)
+    boolean transition(Long id, Long actorId, ReservationTransition transition, LocalDateTime canceledAt);
+    // 위와 같되 이전 상태를 from 하나로 한정 (성공 시 이전 상태가 확정되므로 집계 증분에 사용)
+    boolean transition(Long id, Long actorId, ReservationTransition transition, ReservationStatus from,
+                       LocalDateTime canceledAt);
+    // 이미지 URL 갱신 (hot 테이블만). 없거나 아카이브된 예약이면 false
+    boolean updateImageUrl(Long id, String url);
+    // cutoff 이전에 종료된 예약을 최대 limit건 아카이브로 옮긴다 (INSERT ... SELECT + DELETE). 옮긴 건수 반환
+    int archiveFinishedBefore(OffsetDateTime cutoff, int limit);
 }
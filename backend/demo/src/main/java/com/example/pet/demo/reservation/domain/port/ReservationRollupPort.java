@@ -0,0 +1,17 @@
+package com.example.pet.demo.reservation.domain.port;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import com.example.pet.demo.reservation.domain.ReservationDailyRollup;
+import com.example.pet.demo.reservation.domain.ReservationRollupDelta;
+
+public interface ReservationRollupPort {
+    // 증감량 upsert. 호출자 트랜잭션 안에서 실행된다
+    void apply(List<ReservationRollupDelta> deltas);
+    // [from, to] 날짜 범위 집계 (cnt > 0 인 칸만)
+    List<ReservationDailyRollup> findByPartnerId(Long partnerId, LocalDate from, LocalDate to);
+    // 하루치 집계를 지우고 reservation(+아카이브) 원본 [start, end) 구간에서 다시 계산. 다시 쓴 칸 수를 반환
+    int rebuildDay(LocalDate day, OffsetDateTime start, OffsetDateTime end);
+}
@@ -0,0 +1,74 @@
+package com.example.pet.demo.reservation.infra.jpa;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.domain.ReservationArchive;
+import com.example.pet.demo.reservation.domain.ReservationSummary;
+
+// ReservationJpaRepository 조회 쿼리의 아카이브 버전 (같은 정렬/커서 규칙)
+public interface ReservationArchiveJpaRepository extends JpaRepository<ReservationArchive, Long> {
+    @Query(ReservationJpaRepository.SUMMARY + """
+            from ReservationArchive r
+            where r.userId = :userId
+              and (:category is null or r.serviceCategorical = :category)
+            """)
+    List<ReservationSummary> findSummaries(@Param("userId") Long userId,
+                                           @Param("category") ServiceCategorical category);
+
+    @Query(ReservationJpaRepository.SUMMARY + """
+            from ReservationArchive r
+            where r.userId = :userId
+              and (:category is null or r.serviceCategorical = :category)
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReservationSummary> findFirstPage(@Param("userId") Long userId,
+                                           @Param("category") ServiceCategorical category,
+                                           Limit limit);
+
+    @Query(ReservationJpaRepository.SUMMARY + """
+            from ReservationArchive r
+            where r.userId = :userId
+              and (:category is null or r.serviceCategorical = :category)
+              and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReservationSummary> findPageAfter(@Param("userId") Long userId,
+                                           @Param("category") ServiceCategorical category,
+                                           @Param("createdAt") OffsetDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    @Query("""
+            select r from ReservationArchive r
+            where r.partnerId = :partnerId
+              and (:status is null or r.status = :status)
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReservationArchive> findPartnerFirstPage(@Param("partnerId") Long partnerId,
+                                                  @Param("status") ReservationStatus status,
+                                                  Limit limit);
+
+    @Query("""
+            select r from ReservationArchive r
+            where r.partnerId = :partnerId
+              and (:status is null or r.status = :status)
+              and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReservationArchive> findPartnerPageAfter(@Param("partnerId") Long partnerId,
+                                                  @Param("status") ReservationStatus status,
+                                                  @Param("createdAt") OffsetDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Limit limit);
+
+    @Query("select r.reservationImageUrl from ReservationArchive r where r.reservationImageUrl like concat('%', :fragment, '%')")
+    List<String> findImageUrlsContaining(@Param("fragment") String fragment);
+}
@@ -1,32 +1,280 @@
 package com.example.pet.demo.reservation.infra.jpa;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.pet.demo.common.PetsitterWorkSetConverter;
+import com.example.pet.demo.common.VetSpecialtySetConverter;
+import com.example.pet.demo.reservation.domain.BookedSlot;
 import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.domain.ReservationArchive;
+import com.example.pet.demo.reservation.domain.ReservationSummary;
+import com.example.pet.demo.reservation.domain.ReservationTransition;
 import com.example.pet.demo.reservation.domain.port.ReservationPersistencePort;
 
-import lombok.RequiredArgsConstructor;
-
 @Repository
-@RequiredArgsConstructor
 public class ReservationJpaAdapter implements ReservationPersistencePort {
 
+    private static final EnumSet<ReservationStatus> CANCELLED =
+            EnumSet.of(ReservationStatus.CANCELLED_BY_USER, ReservationStatus.CANCELLED_BY_BIZ);
+    // 아카이브 대상 (이후 상태 전이가 없는 종료 상태)
+    private static final EnumSet<ReservationStatus> FINISHED = EnumSet.of(ReservationStatus.COMPLETED,
+            ReservationStatus.CANCELLED_BY_USER, ReservationStatus.CANCELLED_BY_BIZ);
+    private static final Comparator<Reservation> NEWEST_FIRST =
+            Comparator.comparing(Reservation::getCreatedAt, OffsetDateTime.timeLineOrder())
+                    .thenComparing(Reservation::getId)
+                    .reversed();
+    private static final Comparator<ReservationSummary> SUMMARY_NEWEST_FIRST =
+            Comparator.comparing(ReservationSummary::createdAt, OffsetDateTime.timeLineOrder())
+                    .thenComparing(ReservationSummary::id)
+                    .reversed();
+
+    // IDENTITY 키라 Hibernate가 INSERT를 배치로 묶지 못하므로 벌크 생성은 JDBC로 직접 보낸다
+    private static final String INSERT_SQL = """
+            insert into reservation
+              (user_id, partner_id, service_categorical, user_type, status, created_at,
+               resv_url, resv_content, pets_id, vet_specialty, petsitter_work,
+               vet_specialty_mask, petsitter_work_mask)
+            values
+              (:userId, :partnerId, :serviceCategorical, :userType, :status, :createdAt,
+               :imageUrl, :content, :petId, :vetSpecialty, :petsitterWork,
+               :vetSpecialtyMask, :petsitterWorkMask)
+            """;
+
+    private static final String SELECT_ARCHIVABLE_SQL = """
+            select id from reservation
+            where status in (:finished) and created_at < :cutoff
+            order by id
+            limit :limit
+            """;
+
+    private static final String COPY_TO_ARCHIVE_SQL = """
+            insert into reservation_archive
+              (id, user_id, partner_id, service_categorical, user_type, status, created_at, canceled_at,
+               resv_url, resv_content, pets_id, vet_specialty, petsitter_work,
+               vet_specialty_mask, petsitter_work_mask, archived_at)
+            select id, user_id, partner_id, service_categorical, user_type, status, created_at, canceled_at,
+                   resv_url, resv_content, pets_id, vet_specialty, petsitter_work,
+                   vet_specialty_mask, petsitter_work_mask, :archivedAt
+            from reservation
+            where id in (:ids)
+            """;
+
+    private static final String DELETE_ARCHIVED_SQL = """
+            delete from reservation where id in (:ids)
+            """;
+
     private final ReservationJpaRepository reservationJpaRepository;
+    private final ReservationArchiveJpaRepository archiveJpaRepository;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final Duration archiveAge;
+
+    public ReservationJpaAdapter(ReservationJpaRepository reservationJpaRepository,
+                                 ReservationArchiveJpaRepository archiveJpaRepository,
+                                 NamedParameterJdbcTemplate jdbc,
+                                 @Value("${app.reservation.archive.age:180d}") Duration archiveAge) {
+        this.reservationJpaRepository = reservationJpaRepository;
+        this.archiveJpaRepository = archiveJpaRepository;
+        this.jdbc = jdbc;
+        this.archiveAge = archiveAge;
+    }
 
     @Override
     public Reservation save(Reservation reservation) {
         return reservationJpaRepository.save(reservation);
     }
 
+    @Override
+    public List<Long> insertAll(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        SqlParameterSource[] batch = reservations.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("userId", r.getUserId())
+                        .addValue("partnerId", r.getPartnerId())
+                        .addValue("serviceCategorical", r.getServiceCategorical().name())
+                        .addValue("userType", r.getUserType().name())
+                        .addValue("status", r.getStatus().name())
+                        .addValue("createdAt", utc(r.getCreatedAt()))
+                        .addValue("imageUrl", r.getReservationImageUrl())
+                        .addValue("content", r.getReservationContent())
+                        .addValue("petId", r.getPetId())
+                        .addValue("vetSpecialty", r.getVetSpecialtyCsv())
+                        .addValue("petsitterWork", r.getPetsitterWorkCsv())
+                        .addValue("vetSpecialtyMask", VetSpecialtySetConverter.INSTANCE.convertToDatabaseColumn(r.getVetSpecialties()))
+                        .addValue("petsitterWorkMask", PetsitterWorkSetConverter.INSTANCE.convertToDatabaseColumn(r.getPetsitterWorks())))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.batchUpdate(INSERT_SQL, batch, keys, new String[] { "id" });
+
+        List<Long> ids = new ArrayList<>(reservations.size());
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        for (int i = 0; i < reservations.size(); i++) {
+            Long id = ((Number) keyList.get(i).values().iterator().next()).longValue();
+            reservations.get(i).setId(id);
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * OffsetDateTime 컬럼을 JDBC 로 직접 바인딩할 때 쓴다.
+     * Hibernate 는 MySQL 에서 UTC 벽시계 값으로 저장(NORMALIZE_UTC)하는데, 달력 없는 Timestamp 는
+     * 드라이버가 serverTimezone(Asia/Seoul) 벽시계로 바꿔 9시간 어긋난다 → UTC 벽시계 LocalDateTime 으로 넘긴다
+     */
+    static LocalDateTime utc(OffsetDateTime at) {
+        return at.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
     @Override
     public Optional<Reservation> findById(Long id) {
-        return reservationJpaRepository.findById(id);
+        Optional<Reservation> hot = reservationJpaRepository.findById(id);
+        return hot.isPresent() ? hot : archiveJpaRepository.findById(id).map(ReservationArchive::toReservation);
     }
 
-    @Override public List<Reservation> findByUserId(Long userId) { 
-        return reservationJpaRepository.findByUserId(userId); 
+    @Override
+    public List<ReservationSummary> findByUserId(Long userId, ServiceCategorical serviceCategorical) {
+        List<ReservationSummary> hot = reservationJpaRepository.findSummaries(userId, serviceCategorical);
+        List<ReservationSummary> cold = archiveJpaRepository.findSummaries(userId, serviceCategorical);
+        if (cold.isEmpty()) {
+            return hot;
+        }
+        // 오래 진행 중인 hot 예약이 아카이브 행보다 오래됐을 수 있어 이어 붙이지 않고 다시 정렬한다
+        List<ReservationSummary> all = new ArrayList<>(hot.size() + cold.size());
+        all.addAll(hot);
+        all.addAll(cold);
+        all.sort(SUMMARY_NEWEST_FIRST);
+        return all;
+    }
+
+    @Override
+    public List<ReservationSummary> findPageByUserId(Long userId, ServiceCategorical serviceCategorical,
+                                                     OffsetDateTime afterCreatedAt, Long afterId, int limit) {
+        boolean first = afterCreatedAt == null || afterId == null;
+        List<ReservationSummary> hot = first
+                ? reservationJpaRepository.findFirstPage(userId, serviceCategorical, Limit.of(limit))
+                : reservationJpaRepository.findPageAfter(userId, serviceCategorical, afterCreatedAt, afterId, Limit.of(limit));
+        if (!mayNeedArchive(hot, limit, ReservationSummary::createdAt)) {
+            return hot;
+        }
+        List<ReservationSummary> cold = first
+                ? archiveJpaRepository.findFirstPage(userId, serviceCategorical, Limit.of(limit))
+                : archiveJpaRepository.findPageAfter(userId, serviceCategorical, afterCreatedAt, afterId, Limit.of(limit));
+        return mergePage(hot, cold, limit, SUMMARY_NEWEST_FIRST);
+    }
+
+    @Override
+    public List<Reservation> findPageByPartnerId(Long partnerId, ReservationStatus status,
+                                                 OffsetDateTime afterCreatedAt, Long afterId, int limit) {
+        boolean first = afterCreatedAt == null || afterId == null;
+        List<Reservation> hot = first
+                ? reservationJpaRepository.findPartnerFirstPage(partnerId, status, Limit.of(limit))
+                : reservationJpaRepository.findPartnerPageAfter(partnerId, status, afterCreatedAt, afterId, Limit.of(limit));
+        // 진행 중 상태 필터면 아카이브에 있을 수 없다
+        if ((status != null && !FINISHED.contains(status)) || !mayNeedArchive(hot, limit, Reservation::getCreatedAt)) {
+            return hot;
+        }
+        List<Reservation> cold = (first
+                ? archiveJpaRepository.findPartnerFirstPage(partnerId, status, Limit.of(limit))
+                : archiveJpaRepository.findPartnerPageAfter(partnerId, status, afterCreatedAt, afterId, Limit.of(limit)))
+                .stream().map(ReservationArchive::toReservation).toList();
+        return mergePage(hot, cold, limit, NEWEST_FIRST);
+    }
+
+    /**
+     * 아카이브 행은 모두 (지금 - archiveAge)보다 오래된 것이므로,
+     * hot 페이지가 꽉 찼고 마지막 행이 그보다 최신이면 아카이브를 읽을 필요가 없다 (최근 이력 조회는 쿼리 1번).
+     */
+    private <T> boolean mayNeedArchive(List<T> hot, int limit, Function<T, OffsetDateTime> createdAt) {
+        if (hot.size() < limit) {
+            return true;
+        }
+        OffsetDateTime horizon = OffsetDateTime.now().minus(archiveAge);
+        return !createdAt.apply(hot.get(hot.size() - 1)).isAfter(horizon);
+    }
+
+    private static <T> List<T> mergePage(List<T> hot, List<T> cold, int limit, Comparator<T> order) {
+        if (cold.isEmpty()) {
+            return hot;
+        }
+        List<T> merged = new ArrayList<>(hot.size() + cold.size());
+        merged.addAll(hot);
+        merged.addAll(cold);
+        merged.sort(order);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    @Override
+    public List<BookedSlot> findActiveSlotsByPartnerIdFrom(Long partnerId, OffsetDateTime from) {
+        return reservationJpaRepository.findBookedSlotsFrom(partnerId, from, CANCELLED);
+    }
+
+    @Override
+    public boolean transition(Long id, Long actorId, ReservationTransition transition, LocalDateTime canceledAt) {
+        return transition(id, actorId, transition, transition.from(), canceledAt);
+    }
+
+    @Override
+    public boolean transition(Long id, Long actorId, ReservationTransition transition, ReservationStatus from,
+                              LocalDateTime canceledAt) {
+        if (!transition.allowedFrom(from)) {
+            throw new IllegalArgumentException("INVALID_TRANSITION");
+        }
+        return transition(id, actorId, transition, EnumSet.of(from), canceledAt);
+    }
+
+    private boolean transition(Long id, Long actorId, ReservationTransition transition,
+                               Collection<ReservationStatus> from, LocalDateTime canceledAt) {
+        int updated = transition.actor() == ReservationTransition.Actor.USER
+                ? reservationJpaRepository.transitionByUser(id, actorId, from, transition.target(), canceledAt)
+                : reservationJpaRepository.transitionByPartner(id, actorId, from, transition.target(), canceledAt);
+        return updated == 1;
+    }
+
+    @Override
+    public boolean updateImageUrl(Long id, String url) {
+        return reservationJpaRepository.updateImageUrl(id, url) == 1;
+    }
+
+    @Override
+    @Transactional
+    public int archiveFinishedBefore(OffsetDateTime cutoff, int limit) {
+        List<Long> ids = jdbc.queryForList(SELECT_ARCHIVABLE_SQL, new MapSqlParameterSource()
+                .addValue("finished", FINISHED.stream().map(Enum::name).toList())
+                .addValue("cutoff", utc(cutoff))
+                .addValue("limit", limit), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        jdbc.update(COPY_TO_ARCHIVE_SQL, params);
+        return jdbc.update(DELETE_ARCHIVED_SQL, params);
     }
 }
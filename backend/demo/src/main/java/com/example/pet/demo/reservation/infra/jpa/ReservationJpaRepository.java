@@ -1,11 +1,126 @@
 package com.example.pet.demo.reservation.infra.jpa;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.pet.demo.reservation.domain.BookedSlot;
 import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.domain.ReservationSummary;
 
 public interface ReservationJpaRepository extends JpaRepository<Reservation, Long> {
-    List<Reservation> findByUserId(Long userId);
+    // 내 예약 목록 프로젝션 (ReservationArchiveJpaRepository 와 공유)
+    String SUMMARY = """
+            select new com.example.pet.demo.reservation.domain.ReservationSummary(
+                r.id, r.partnerId, r.serviceCategorical, r.status, r.createdAt,
+                r.vetSpecialties, r.vetSpecialtyCsv, r.petsitterWorks, r.petsitterWorkCsv)
+            """;
+
+    @Query(SUMMARY + """
+            from Reservation r
+            where r.userId = :userId
+              and (:category is null or r.serviceCategorical = :category)
+            """)
+    List<ReservationSummary> findSummaries(@Param("userId") Long userId,
+                                           @Param("category") ServiceCategorical category);
+
+    // keyset 페이지네이션: idx_reservation_user_created (user_id, created_at, id) 역순 스캔
+    @Query(SUMMARY + """
+            from Reservation r
+            where r.userId = :userId
+              and (:category is null or r.serviceCategorical = :category)
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReservationSummary> findFirstPage(@Param("userId") Long userId,
+                                           @Param("category") ServiceCategorical category,
+                                           Limit limit);
+
+    @Query(SUMMARY + """
+            from Reservation r
+            where r.userId = :userId
+              and (:category is null or r.serviceCategorical = :category)
+              and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReservationSummary> findPageAfter(@Param("userId") Long userId,
+                                           @Param("category") ServiceCategorical category,
+                                           @Param("createdAt") OffsetDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    @Query("""
+            select new com.example.pet.demo.reservation.domain.BookedSlot(r.userId, r.createdAt)
+            from Reservation r
+            where r.partnerId = :partnerId
+              and r.createdAt >= :from
+              and r.status not in :excluded
+            """)
+    List<BookedSlot> findBookedSlotsFrom(@Param("partnerId") Long partnerId,
+                                         @Param("from") OffsetDateTime from,
+                                         @Param("excluded") Collection<ReservationStatus> excluded);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update Reservation r
+            set r.status = :to, r.canceledAt = coalesce(:canceledAt, r.canceledAt)
+            where r.id = :id and r.partnerId = :actorId and r.status in :from
+            """)
+    int transitionByPartner(@Param("id") Long id,
+                            @Param("actorId") Long actorId,
+                            @Param("from") Collection<ReservationStatus> from,
+                            @Param("to") ReservationStatus to,
+                            @Param("canceledAt") LocalDateTime canceledAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update Reservation r
+            set r.status = :to, r.canceledAt = coalesce(:canceledAt, r.canceledAt)
+            where r.id = :id and r.userId = :actorId and r.status in :from
+            """)
+    int transitionByUser(@Param("id") Long id,
+                         @Param("actorId") Long actorId,
+                         @Param("from") Collection<ReservationStatus> from,
+                         @Param("to") ReservationStatus to,
+                         @Param("canceledAt") LocalDateTime canceledAt);
+
+    // 파트너 수신함: idx_reservation_partner_created (partner_id, created_at, id) 역순 스캔
+    @Query("""
+            select r from Reservation r
+            where r.partnerId = :partnerId
+              and (:status is null or r.status = :status)
+            order by r.createdAt desc, r.id desc
+            """)
+    List<Reservation> findPartnerFirstPage(@Param("partnerId") Long partnerId,
+                                           @Param("status") ReservationStatus status,
+                                           Limit limit);
+
+    @Query("""
+            select r from Reservation r
+            where r.partnerId = :partnerId
+              and (:status is null or r.status = :status)
+              and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+            order by r.createdAt desc, r.id desc
+            """)
+    List<Reservation> findPartnerPageAfter(@Param("partnerId") Long partnerId,
+                                           @Param("status") ReservationStatus status,
+                                           @Param("createdAt") OffsetDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Reservation r set r.reservationImageUrl = :url where r.id = :id")
+    int updateImageUrl(@Param("id") Long id, @Param("url") String url);
+
+    // 업로드 파일 수거기용: 해당 조각을 포함하는 이미지 URL 컬럼 값 (CSV)
+    @Query("select r.reservationImageUrl from Reservation r where r.reservationImageUrl like concat('%', :fragment, '%')")
+    List<String> findImageUrlsContaining(@Param("fragment") String fragment);
 }
@@ -0,0 +1,27 @@
+package com.example.pet.demo.reservation.infra.jpa;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.pet.demo.media.domain.port.MediaReferencePort;
+
+import lombok.RequiredArgsConstructor;
+
+// reservation.resv_url + reservation_archive.resv_url (아카이브된 예약의 사진도 참조로 본다)
+@Repository
+@RequiredArgsConstructor
+public class ReservationMediaReferenceAdapter implements MediaReferencePort {
+    private final ReservationJpaRepository hot;
+    private final ReservationArchiveJpaRepository archive;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findUrlsContaining(String fragment) {
+        List<String> urls = new ArrayList<>(hot.findImageUrlsContaining(fragment));
+        urls.addAll(archive.findImageUrlsContaining(fragment));
+        return urls;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.pet.demo.reservation.infra.jpa;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.example.pet.demo.reservation.domain.ReservationDailyRollup;
+import com.example.pet.demo.reservation.domain.ReservationRollupDelta;
+import com.example.pet.demo.reservation.domain.port.ReservationRollupPort;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationRollupJpaAdapter implements ReservationRollupPort {
+
+    // 칸이 없으면 만들고 있으면 더한다 (uk_rollup_partner_date). 한 문장이라 동시 갱신에도 유실 없음
+    private static final String UPSERT_SQL = """
+            insert into reservation_daily_rollup (partner_id, stat_date, service_categorical, status, cnt)
+            values (:partnerId, :statDate, :category, :status, :delta)
+            on duplicate key update cnt = cnt + values(cnt)
+            """;
+
+    // idx_rollup_stat_date 로 그날 칸만 잠근다 (인덱스가 없으면 전체 스캔 + 테이블 전역 next-key 락으로 증분 upsert 가 막힌다)
+    private static final String DELETE_DAY_SQL = """
+            delete from reservation_daily_rollup where stat_date = :day
+            """;
+
+    private static final String REBUILD_DAY_SQL = """
+            insert into reservation_daily_rollup (partner_id, stat_date, service_categorical, status, cnt)
+            select partner_id, :day, service_categorical, status, count(*)
+            from (
+                select partner_id, service_categorical, status from reservation
+                where created_at >= :start and created_at < :end
+                union all
+                select partner_id, service_categorical, status from reservation_archive
+                where created_at >= :start and created_at < :end
+            ) r
+            group by partner_id, service_categorical, status
+            """;
+
+    // 여러 트랜잭션이 같은 칸들을 다른 순서로 잠가 교착되지 않도록 키 순서로 정렬해 보낸다
+    private static final Comparator<ReservationRollupDelta> KEY_ORDER =
+            Comparator.comparing(ReservationRollupDelta::partnerId)
+                    .thenComparing(ReservationRollupDelta::statDate)
+                    .thenComparing(ReservationRollupDelta::serviceCategorical)
+                    .thenComparing(ReservationRollupDelta::status);
+
+    private final ReservationRollupJpaRepository jpa;
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @Override
+    public void apply(List<ReservationRollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = deltas.stream()
+                .sorted(KEY_ORDER)
+                .map(d -> new MapSqlParameterSource()
+                        .addValue("partnerId", d.partnerId())
+                        .addValue("statDate", Date.valueOf(d.statDate()))
+                        .addValue("category", d.serviceCategorical().name())
+                        .addValue("status", d.status().name())
+                        .addValue("delta", d.delta()))
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate(UPSERT_SQL, batch);
+    }
+
+    @Override
+    public List<ReservationDailyRollup> findByPartnerId(Long partnerId, LocalDate from, LocalDate to) {
+        return jpa.findRange(partnerId, from, to);
+    }
+
+    @Override
+    public int rebuildDay(LocalDate day, OffsetDateTime start, OffsetDateTime end) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("day", Date.valueOf(day))
+                // created_at 은 UTC 벽시계로 저장되므로 KST 자정 경계도 UTC 로 바꿔 비교한다
+                .addValue("start", ReservationJpaAdapter.utc(start))
+                .addValue("end", ReservationJpaAdapter.utc(end));
+        // 삭제가 먼저 그날 칸들을 잠그므로, 재집계 중 들어온 증분은 커밋 뒤에 이어서 더해진다
+        jdbc.update(DELETE_DAY_SQL, params);
+        return jdbc.update(REBUILD_DAY_SQL, params);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.pet.demo.reservation.infra.jpa;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.pet.demo.reservation.domain.ReservationDailyRollup;
+
+public interface ReservationRollupJpaRepository extends JpaRepository<ReservationDailyRollup, Long> {
+
+    // uk_rollup_partner_date (partner_id, stat_date, ...) 범위 스캔
+    @Query("""
+            select r from ReservationDailyRollup r
+            where r.partnerId = :partnerId
+              and r.statDate between :from and :to
+              and r.count > 0
+            order by r.statDate, r.serviceCategorical, r.status
+            """)
+    List<ReservationDailyRollup> findRange(@Param("partnerId") Long partnerId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+}
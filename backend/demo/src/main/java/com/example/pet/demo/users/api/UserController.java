@@ -1,36 +1,45 @@
 package com.example.pet.demo.users.api;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.util.Arrays;
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.example.pet.demo.common.ApiResponse;
 import com.example.pet.demo.media.FileStorageService;
+import com.example.pet.demo.users.api.dto.PartnerScheduleReq;
+import com.example.pet.demo.users.api.dto.PartnerSearchRes;
+import com.example.pet.demo.users.api.dto.TokenRes;
 import com.example.pet.demo.users.api.dto.UserSignupReq;
 import com.example.pet.demo.users.api.dto.UserLoginReq;
 import com.example.pet.demo.users.api.dto.UserLoginRes;
+import com.example.pet.demo.users.app.PartnerDirectory;
+import com.example.pet.demo.users.app.PartnerSearchIndex;
 import com.example.pet.demo.users.app.UserService;
-import com.example.pet.demo.users.domain.User;
 import com.example.pet.demo.users.domain.User.UserType;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 @RestController
@@ -41,6 +50,8 @@ public class UserController {
 
         private final UserService userService;
         private final FileStorageService fileStorageService;
+        private final PartnerDirectory partnerDirectory;
+        private final PartnerSearchIndex partnerSearchIndex;
 
         @PostMapping
         public ResponseEntity<ApiResponse<Map<String, Long>>> signup(
@@ -57,17 +68,23 @@ public class UserController {
         }
 
         @PostMapping("/login")
-        public ResponseEntity<ApiResponse<UserLoginRes>> login(
+        public CompletableFuture<ResponseEntity<ApiResponse<UserLoginRes>>> login(
                         @Valid @RequestBody UserLoginReq req) {
-                // 1. 로그인 처리(이메일 로그인)
-                User user = userService.login(req.email(), req.password());
-
-                // 2. User 엔티티를 DTO로 변환
-                UserLoginRes response = UserLoginRes.from(user);
-
-                // 3. 200은 성공 ,400은 실패
-                return ResponseEntity.ok(ApiResponse.ok(response));
+                // 1. 로그인 처리(이메일 로그인) - 검증은 해시 전용 풀에서, 포화 시 429/503
+                return userService.login(req.email(), req.password())
+                                // 2. 사용자 정보 + access/refresh 토큰
+                                // 3. 200은 성공 ,400은 실패
+                                .thenApply(res -> ResponseEntity.ok(ApiResponse.ok(res)));
+        }
 
+        // access 토큰 재발급 (refresh 토큰 검증 + 계정 상태 확인)
+        @PostMapping("/token/refresh")
+        public ResponseEntity<ApiResponse<TokenRes>> refreshToken(@RequestBody Map<String, String> body) {
+                String refreshToken = body.get("refreshToken");
+                if (refreshToken == null || refreshToken.isBlank()) {
+                        throw new IllegalArgumentException("REFRESH_TOKEN_REQUIRED");
+                }
+                return ResponseEntity.ok(ApiResponse.ok(userService.refresh(refreshToken.trim())));
         }
 
         @GetMapping("/check-email")
@@ -78,9 +95,12 @@ public class UserController {
                                 .ok(ApiResponse.ok(Map.of("exists", exists)));
         }
 
-        @GetMapping("/partners")
-        public ResponseEntity<ApiResponse<Map<String, Object>>> getPartners(
-                        @RequestParam("user_type") String userType) {
+        // 파트너 목록: 전체 목록은 직렬화된 바이트 캐시 + ETag (If-None-Match 일치 시 304)
+        @GetMapping(value = "/partners", produces = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<byte[]> getPartners(
+                        @RequestParam("user_type") String userType,
+                        @RequestParam(value = "specialty", required = false) String specialty,
+                        WebRequest request) {
                 UserType type;
                 try {
                         type = UserType.valueOf(userType.toUpperCase());
@@ -91,50 +111,61 @@ public class UserController {
                         throw new IllegalArgumentException("UNSUPPORTED_USER_TYPE");
                 }
 
-                List<User> users = userService.findByUserType(type);
-                List<Map<String, Object>> result = users.stream().map(u -> {
-                        Map<String, Object> row = new LinkedHashMap<>();
-                        row.put("id", u.getId());
-                        row.put("username", u.getUsername());
-
-                        if (type == UserType.HOSPITAL) {
-                                row.put("vet_specialty", splitCsv(u.getVetSpecialtyCsv()));
-                                row.put("ca_categorical", u.getCaCategorical() == null
-                                                ? null
-                                                : u.getCaCategorical().name());
-                                row.put("image_url", u.getProfileUrl());
-                        } else {
-                                row.put("petsitter", splitCsv(u.getPetsitterWorkCsv()));
-                                row.put("image_url", u.getProfileUrl());
-                        }
-
-                        List<String> days = (u.getWorkingDays() == null || u.getWorkingDays().isBlank())
-                                        ? List.of()
-                                        : Arrays.stream(u.getWorkingDays().split(","))
-                                                        .map(String::trim)
-                                                        .filter(s -> !s.isEmpty())
-                                                        .toList();
-                        Map<String, Object> schedule = new LinkedHashMap<>();
-                        schedule.put("working_days", days);
-                        schedule.put("working_start_hours", u.getWorkingStartHours());
-                        schedule.put("working_end_hours", u.getWorkingEndHours());
-                        row.put("working_schedule", schedule);
-
-                        row.put("image_url", u.getProfileUrl());
-                        return row;
-                }).toList();
-                Map<String, Object> body = new LinkedHashMap<>();
-                body.put("user_type", type.name());
-                body.put("total", result.size());
-                body.put("result", result);
-
-                return ResponseEntity.ok(ApiResponse.ok(body));
+                PartnerDirectory.Snapshot snapshot = (specialty == null || specialty.isBlank())
+                                ? partnerDirectory.get(type)
+                                : partnerDirectory.find(type, specialty);
+                if (request.checkNotModified(snapshot.etag())) {
+                        return null; // 304
+                }
+                return ResponseEntity.ok()
+                                .eTag(snapshot.etag())
+                                .cacheControl(CacheControl.noCache())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(snapshot.body());
+        }
+
+        // 파트너 검색 (인메모리 역색인): 전문분야/업무/개·고양이/요일/시간대 필터 + 정렬/페이지
+        @GetMapping("/partners/search")
+        public ResponseEntity<ApiResponse<PartnerSearchRes>> searchPartners(
+                        @RequestParam(value = "user_type", required = false) String userType,
+                        @RequestParam(value = "vet_specialty", required = false) String vetSpecialty,
+                        @RequestParam(value = "petsitter_work", required = false) String petsitterWork,
+                        @RequestParam(value = "ca_categorical", required = false) String caCategorical,
+                        @RequestParam(value = "day", required = false) String day,
+                        @RequestParam(value = "from", required = false) String from,
+                        @RequestParam(value = "to", required = false) String to,
+                        @RequestParam(value = "sort", required = false) String sort,
+                        @RequestParam(value = "page", required = false) Integer page,
+                        @RequestParam(value = "size", required = false) Integer size) {
+                PartnerSearchIndex.Criteria criteria = PartnerSearchIndex.Criteria.parse(
+                                userType, vetSpecialty, petsitterWork, caCategorical, day, from, to, sort, page, size);
+                return ResponseEntity.ok(ApiResponse.ok(partnerSearchIndex.search(criteria)));
+        }
+
+        @PatchMapping("/{id}/schedule")
+        public ResponseEntity<ApiResponse<Map<String, Boolean>>> updateSchedule(
+                        @PathVariable("id") Long userId,
+                        @Valid @RequestBody PartnerScheduleReq req) {
+                userService.updateWorkingSchedule(userId, req);
+                return ResponseEntity.ok(ApiResponse.ok(Map.of("updated", true)));
         }
 
         @PostMapping(value = "/{id}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
         public ResponseEntity<ApiResponse<Map<String, String>>> uploadUserImage(@PathVariable("id") Long userId,
                         @RequestParam("file") MultipartFile file) throws Exception {
-                String relative = fileStorageService.saveUserImage(userId, file);
+                return profileImageSaved(userId, fileStorageService.saveUserImage(userId, file));
+        }
+
+        // 스트리밍 업로드: 본문이 이미지 바이트 그대로 (multipart 임시 파일 없이 최종 위치에 바로 기록)
+        @PostMapping(value = "/{id}/image",
+                consumes = { MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE })
+        public ResponseEntity<ApiResponse<Map<String, String>>> streamUserImage(@PathVariable("id") Long userId,
+                        @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+                        InputStream body) throws IOException {
+                return profileImageSaved(userId, fileStorageService.saveUserImage(userId, body, contentLength));
+        }
+
+        private ResponseEntity<ApiResponse<Map<String, String>>> profileImageSaved(Long userId, String relative) {
                 String imageUrl = ServletUriComponentsBuilder
                         .fromCurrentContextPath()
                         .path(relative)
@@ -156,13 +187,14 @@ public class UserController {
                 return ResponseEntity.ok(ApiResponse.ok(Map.of("updated", true)));
         }
 
-        private List<String> splitCsv(String csv) {
-                return (csv == null || csv.isBlank())
-                        ? List.of()
-                        : Arrays.stream(csv.split(","))
-                                .map(String::trim)
-                                .filter(s -> !s.isEmpty())
-                                .toList();
-                }
+        // 로그아웃 등으로 해당 기기에 더 이상 푸시를 보내지 않을 때
+        @DeleteMapping("/{id}/fcm-token")
+        public ResponseEntity<ApiResponse<Map<String, Boolean>>> removeFcmToken(
+                @PathVariable("id") Long userId,
+                @RequestBody Map<String, String> body
+        ) {
+                userService.removeFcmToken(userId, body.get("token"));
+                return ResponseEntity.ok(ApiResponse.ok(Map.of("removed", true)));
+        }
 
 }
@@ -0,0 +1,16 @@
+package com.example.pet.demo.users.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Pattern;
+
+// 파트너 근무 일정 변경 (병원/펫시터)
+public record PartnerScheduleReq(
+    List<String> workingDays,   // ["월","화"] 또는 ["MONDAY", ...]
+
+    @Pattern(regexp = "^\\d{2}:\\d{2}(:\\d{2})?$", message = "working_start_hours는 HH:mm 또는 HH:mm:ss 형식")
+    String workingStartHours,
+
+    @Pattern(regexp = "^\\d{2}:\\d{2}(:\\d{2})?$", message = "working_end_hours는 HH:mm 또는 HH:mm:ss 형식")
+    String workingEndHours
+) {}
@@ -0,0 +1,16 @@
+package com.example.pet.demo.users.api.dto;
+
+import java.util.List;
+
+public record PartnerSearchItem(
+    Long id,
+    String username,
+    String userType,              // HOSPITAL / SITTER
+    String caCategorical,         // DOG / CAT / BOTH (없으면 null)
+    List<String> vetSpecialty,    // 병원만
+    List<String> petsitterWork,   // 펫시터만
+    List<String> workingDays,
+    String workingStartHours,
+    String workingEndHours,
+    String imageUrl
+) {}
@@ -0,0 +1,10 @@
+package com.example.pet.demo.users.api.dto;
+
+import java.util.List;
+
+public record PartnerSearchRes(
+    long total,                   // 조건에 맞는 전체 파트너 수
+    int page,                     // 0부터
+    int size,
+    List<PartnerSearchItem> items
+) {}
@@ -0,0 +1,10 @@
+package com.example.pet.demo.users.api.dto;
+
+// Authorization: Bearer {accessToken}, 만료 전 refreshToken 으로 재발급
+public record TokenRes(
+    String accessToken,
+    String refreshToken,
+    String tokenType,
+    long expiresIn
+) {
+}
@@ -1,6 +1,6 @@
 package com.example.pet.demo.users.api.dto;
 
-import com.example.pet.demo.users.domain.User;
+import com.example.pet.demo.users.domain.port.UserLoginView;
 
 public record UserLoginRes(
     Long id,
@@ -8,17 +8,19 @@ public record UserLoginRes(
     String nickname,
     String email,
     String gender,
-    String userType
+    String userType,
+    TokenRes token
 ) {
-    // User 엔티티를 UserLoginRes로 변환하는 정적 팩토리 메서드
-    public static UserLoginRes from(User user){
+    // 로그인 프로젝션 + 발급 토큰을 UserLoginRes로 변환하는 정적 팩토리 메서드
+    public static UserLoginRes from(UserLoginView user, TokenRes token){
         return new UserLoginRes(
             user.getId(),
             user.getUsername(),
             user.getNickname(),
             user.getEmail(),
             user.getGender().name(),
-            user.getUserType().name()
+            user.getUserType().name(),
+            token
         );
     }
     
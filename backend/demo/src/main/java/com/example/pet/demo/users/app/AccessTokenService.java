@@ -0,0 +1,177 @@
+package com.example.pet.demo.users.app;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.example.pet.demo.users.api.dto.TokenRes;
+import com.example.pet.demo.users.domain.User.UserStatus;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * HS256 JWT 발급/검증. 서명과 만료만 보므로 요청마다 DB를 읽지 않는다.
+ * - access: 짧은 수명, 클레임에 사용자 id / UserType / 상태
+ * - refresh: 긴 수명, 재발급 때만 쓰이며 그때 DB에서 상태를 다시 확인한다
+ * 잠금/탈퇴 사용자의 남은 access 토큰은 TokenRevocationCache가 막는다.
+ */
+@Component
+public class AccessTokenService {
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenService.class);
+
+    static final String ACCESS = "access";
+    static final String REFRESH = "refresh";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String HEADER = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.US_ASCII));
+
+    private final SecretKeySpec key;
+    private final Duration accessTtl;
+    private final Duration refreshTtl;
+    // Mac 은 스레드 안전하지 않고 생성 비용이 있어 스레드마다 하나
+    private final ThreadLocal<Mac> macs;
+
+    public AccessTokenService(@Value("${app.security.token.secret:}") String secret,
+                              @Value("${app.security.token.access-ttl:15m}") Duration accessTtl,
+                              @Value("${app.security.token.refresh-ttl:14d}") Duration refreshTtl,
+                              Environment environment) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            // 임의 키는 재시작마다 모든 토큰이 풀리고 인스턴스끼리 서로의 토큰을 못 읽으므로 dev/test 에서만 허용
+            if (!environment.matchesProfiles("dev", "test")) {
+                throw new IllegalStateException("app.security.token.secret (APP_TOKEN_SECRET) must be set outside the dev/test profiles");
+            }
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("app.security.token.secret is not set; using a random key (tokens are invalid after restart)");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (keyBytes.length < 32) {
+                throw new IllegalStateException("app.security.token.secret must be at least 32 bytes");
+            }
+        }
+        this.key = new SecretKeySpec(keyBytes, "HmacSHA256");
+        this.accessTtl = accessTtl;
+        this.refreshTtl = refreshTtl;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public Duration accessTtl() {
+        return accessTtl;
+    }
+
+    public TokenRes issue(Long userId, UserType userType, UserStatus status) {
+        long now = Instant.now().getEpochSecond();
+        String access = sign(ACCESS, userId, userType, status, now, now + accessTtl.toSeconds(), null);
+        String refresh = sign(REFRESH, userId, userType, status, now, now + refreshTtl.toSeconds(),
+                UUID.randomUUID().toString());
+        return new TokenRes(access, refresh, "Bearer", accessTtl.toSeconds());
+    }
+
+    /** access 토큰 검증. 서명/형식/만료가 틀리면 IllegalArgumentException("INVALID_TOKEN"/"TOKEN_EXPIRED") */
+    public Claims verifyAccess(String token) {
+        return verify(token, ACCESS, Instant.now().getEpochSecond());
+    }
+
+    public Claims verifyRefresh(String token) {
+        return verify(token, REFRESH, Instant.now().getEpochSecond());
+    }
+
+    Claims verify(String token, String expectedType, long now) {
+        if (token == null) {
+            throw new IllegalArgumentException("INVALID_TOKEN");
+        }
+        int first = token.indexOf('.');
+        int second = token.indexOf('.', first + 1);
+        if (first <= 0 || second < 0 || token.indexOf('.', second + 1) >= 0
+                || !HEADER.equals(token.substring(0, first))) {
+            throw new IllegalArgumentException("INVALID_TOKEN");
+        }
+        byte[] expected = mac(token.substring(0, second));
+        byte[] actual;
+        try {
+            actual = Base64.getUrlDecoder().decode(token.substring(second + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("INVALID_TOKEN");
+        }
+        // 상수 시간 비교
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new IllegalArgumentException("INVALID_TOKEN");
+        }
+
+        Claims claims;
+        try {
+            JsonNode body = JSON.readTree(Base64.getUrlDecoder().decode(token.substring(first + 1, second)));
+            claims = new Claims(
+                    Long.parseLong(body.path("sub").asText()),
+                    UserType.valueOf(body.path("ut").asText()),
+                    UserStatus.valueOf(body.path("st").asText()),
+                    body.path("typ").asText(),
+                    body.path("iat").asLong(),
+                    body.path("exp").asLong());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("INVALID_TOKEN");
+        }
+        if (!expectedType.equals(claims.type())) {
+            throw new IllegalArgumentException("INVALID_TOKEN");
+        }
+        if (claims.expiresAt() <= now) {
+            throw new IllegalArgumentException("TOKEN_EXPIRED");
+        }
+        return claims;
+    }
+
+    String sign(String type, Long userId, UserType userType, UserStatus status, long iat, long exp, String jti) {
+        // 값이 숫자/enum 이름뿐이라 이스케이프가 필요 없다
+        StringBuilder json = new StringBuilder(128)
+                .append("{\"sub\":\"").append(userId)
+                .append("\",\"typ\":\"").append(type)
+                .append("\",\"ut\":\"").append(userType.name())
+                .append("\",\"st\":\"").append(status.name())
+                .append("\",\"iat\":").append(iat)
+                .append(",\"exp\":").append(exp);
+        if (jti != null) {
+            json.append(",\"jti\":\"").append(jti).append('"');
+        }
+        json.append('}');
+
+        String signingInput = HEADER + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(json.toString().getBytes(StandardCharsets.UTF_8));
+        return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(mac(signingInput));
+    }
+
+    private byte[] mac(String signingInput) {
+        return macs.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 검증된 토큰 클레임. 필터에서 인증 주체(principal)로 그대로 쓴다 */
+    public record Claims(long userId, UserType userType, UserStatus status, String type,
+                         long issuedAt, long expiresAt) {
+    }
+}
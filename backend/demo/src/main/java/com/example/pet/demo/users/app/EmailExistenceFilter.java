@@ -0,0 +1,176 @@
+package com.example.pet.demo.users.app;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.pet.demo.common.BloomFilter;
+import com.example.pet.demo.users.domain.port.UserEmailView;
+import com.example.pet.demo.users.domain.port.UserPersistencePort;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 가입된 이메일의 Bloom filter. "없음"이면 DB 조회 없이 바로 답한다.
+ * - 기동 후 users 테이블을 id 키셋으로 끊어 읽어 적재, 가입 시 추가
+ * - 적재 전/ASCII 아닌 이메일은 "있을 수도 있음"으로 답해 항상 DB로 간다
+ * - 다른 인스턴스에서 가입된 이메일은 주기적 재적재 때 반영된다
+ *   (그 사이 check-email은 "사용 가능"으로 보일 수 있어 signup은 계속 DB로 확인)
+ */
+@Component
+public class EmailExistenceFilter {
+    private static final Logger log = LoggerFactory.getLogger(EmailExistenceFilter.class);
+    private static final int LOAD_BATCH = 5_000;
+
+    private final UserPersistencePort users;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    // add()와 재적재 교체(filter/rebuilding)를 묶는 락. 재적재 전체가 아니라 교체 순간만 잡는다
+    private final Object swapLock = new Object();
+    private volatile boolean ready;
+    private final AtomicLong loaded = new AtomicLong();
+
+    private final Counter definitelyAbsent;
+    private final Counter maybePresent;
+    private final Counter falsePositives;
+
+    public EmailExistenceFilter(UserPersistencePort users,
+                                MeterRegistry meters,
+                                @Value("${app.users.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${app.users.email-filter.fpp:0.01}") double fpp) {
+        this.users = users;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.filter = BloomFilter.create(expectedInsertions, fpp);
+
+        this.definitelyAbsent = Counter.builder("users.email_filter.lookups").tag("result", "absent").register(meters);
+        this.maybePresent = Counter.builder("users.email_filter.lookups").tag("result", "maybe_present").register(meters);
+        this.falsePositives = Counter.builder("users.email_filter.false_positives").register(meters);
+        Gauge.builder("users.email_filter.false_positive_rate", this, EmailExistenceFilter::falsePositiveRate)
+                .description("maybe_present 중 DB에 없던 비율 (FP / (FP + TN))")
+                .register(meters);
+        Gauge.builder("users.email_filter.expected_fpp", this, f -> f.filter.expectedFpp())
+                .register(meters);
+        Gauge.builder("users.email_filter.size", loaded, AtomicLong::get).register(meters);
+    }
+
+    /** false 이면 가입된 이메일이 아님이 확실하다 */
+    public boolean mightContain(String email) {
+        String key = normalize(email);
+        if (!ready || key == null) {
+            return true;
+        }
+        if (filter.mightContain(key)) {
+            maybePresent.increment();
+            return true;
+        }
+        definitelyAbsent.increment();
+        return false;
+    }
+
+    /** mightContain=true 였던 이메일을 DB로 확인한 결과 (오탐률 집계용) */
+    public void recordLookup(boolean existsInDb) {
+        if (ready && !existsInDb) {
+            falsePositives.increment();
+        }
+    }
+
+    public void add(String email) {
+        String key = normalize(email);
+        if (key == null) {
+            return;
+        }
+        // 락 없이 읽으면 옛 filter에 넣은 직후 교체되고 rebuilding=null을 봐서 새 필터에서 빠질 수 있다
+        synchronized (swapLock) {
+            filter.put(key);
+            BloomFilter next = rebuilding;
+            if (next != null) {
+                next.put(key);
+            }
+        }
+        loaded.incrementAndGet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    // 다른 인스턴스 가입분 반영 + 예상 건수를 넘기면 더 큰 필터로 교체
+    @Scheduled(fixedDelayString = "${app.users.email-filter.reload-interval:1h}",
+               initialDelayString = "${app.users.email-filter.reload-interval:1h}")
+    public synchronized void reload() {
+        try {
+            long started = System.nanoTime();
+            BloomFilter next = BloomFilter.create(Math.max(expectedInsertions, loaded.get() * 2), fpp);
+            // 적재 중 들어온 가입은 add()가 양쪽에 넣어 준다
+            synchronized (swapLock) {
+                rebuilding = next;
+            }
+            long count = 0;
+            long afterId = 0;
+            List<UserEmailView> page;
+            do {
+                page = users.findEmailsAfter(afterId, LOAD_BATCH);
+                for (UserEmailView v : page) {
+                    String key = normalize(v.getEmail());
+                    if (key != null) {
+                        next.put(key);
+                        count++;
+                    }
+                    afterId = v.getId();
+                }
+            } while (page.size() == LOAD_BATCH);
+
+            synchronized (swapLock) {
+                filter = next;
+                rebuilding = null;
+            }
+            loaded.set(count);
+            ready = true;
+            log.info("email filter loaded {} emails in {} ms (bits={}, hashes={})",
+                    count, (System.nanoTime() - started) / 1_000_000, next.bitSize(), next.hashCount());
+        } catch (RuntimeException e) {
+            // 기존 필터(또는 미적재 상태 → DB 조회)로 계속 동작
+            log.warn("email filter reload failed", e);
+        } finally {
+            synchronized (swapLock) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    private double falsePositiveRate() {
+        double fp = falsePositives.count();
+        double negatives = fp + definitelyAbsent.count();
+        return negatives == 0 ? 0 : fp / negatives;
+    }
+
+    // MySQL 기본 콜레이션은 대소문자/뒤 공백을 무시하므로 같은 기준으로 정규화.
+    // 악센트 무시 비교까지 맞추긴 어려워 ASCII가 아니면 필터를 쓰지 않는다(null)
+    private static String normalize(String email) {
+        if (email == null) {
+            return null;
+        }
+        String s = email.trim();
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0x7F) {
+                return null;
+            }
+        }
+        return s.toLowerCase(Locale.ROOT);
+    }
+}
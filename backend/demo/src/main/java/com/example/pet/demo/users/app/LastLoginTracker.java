@@ -0,0 +1,72 @@
+package com.example.pet.demo.users.app;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.pet.demo.users.domain.port.UserPersistencePort;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 마지막 로그인 시각을 메모리에 모았다가 주기적으로 한 번의 배치 UPDATE로 반영한다.
+ * - 로그인 경로는 맵에 기록만 하므로 추가 쓰기가 없다
+ * - 같은 사용자의 여러 로그인은 가장 늦은 시각 하나로 합쳐진다
+ * - 반영 실패 시 다음 주기에 다시 시도, 종료 시 한 번 더 flush
+ */
+@Component
+public class LastLoginTracker {
+    private static final Logger log = LoggerFactory.getLogger(LastLoginTracker.class);
+
+    private final UserPersistencePort users;
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginTracker(UserPersistencePort users) {
+        this.users = users;
+    }
+
+    public void record(Long userId) {
+        pending.merge(userId, LocalDateTime.now(), LastLoginTracker::later);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.users.last-login.flush-interval:30s}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, LocalDateTime> drained = new HashMap<>();
+        for (Iterator<Map.Entry<Long, LocalDateTime>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, LocalDateTime> e = it.next();
+            // 순회 중 갱신된 값은 remove(key, value)가 실패해 다음 주기로 넘어간다
+            if (pending.remove(e.getKey(), e.getValue())) {
+                drained.put(e.getKey(), e.getValue());
+            }
+        }
+        try {
+            users.touchLastLogins(drained);
+        } catch (RuntimeException ex) {
+            drained.forEach((id, at) -> pending.merge(id, at, LastLoginTracker::later));
+            log.warn("last login flush failed, {} users re-queued", drained.size(), ex);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
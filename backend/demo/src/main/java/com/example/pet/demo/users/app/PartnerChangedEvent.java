@@ -0,0 +1,10 @@
+package com.example.pet.demo.users.app;
+
+import com.example.pet.demo.users.domain.User.UserType;
+
+/**
+ * 파트너 목록에 보이는 정보(가입/프로필 이미지/근무 일정)가 바뀌었음을 알리는 이벤트.
+ * 커밋 이후 파트너 디렉터리 캐시와 예약 가능 슬롯 캐시가 받아서 무효화한다.
+ * userType이 null이면 어떤 타입인지 모르는 변경 → 전체 무효화.
+ */
+public record PartnerChangedEvent(Long userId, UserType userType) {}
@@ -0,0 +1,147 @@
+package com.example.pet.demo.users.app;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.pet.demo.common.ApiResponse;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.port.PartnerView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * GET /api/v1/users/partners 응답 캐시 (UserType별).
+ * 응답 JSON을 바이트로 직렬화해 ETag와 함께 들고 있어서, 히트 시 DB 조회도 Jackson 직렬화도 없다.
+ * 파트너 가입/프로필 이미지/근무 일정 변경이 커밋되면 PartnerChangedEvent로 비운다.
+ * 이벤트는 같은 인스턴스에서만 받으므로, 다른 인스턴스의 변경은 TTL(app.partner-directory.ttl)이 지나 다시 적재할 때 반영된다.
+ */
+@Component
+public class PartnerDirectory {
+
+    public record Snapshot(byte[] body, String etag) {}
+
+    private record Entry(Snapshot snapshot, long expiresAt) {}
+
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+    private final Map<UserType, Entry> cache = new EnumMap<>(UserType.class);
+    // 무효화 세대. 적재 도중 무효화가 끼면 오래된 스냅샷을 넣지 않는다
+    private long generation;
+
+    public PartnerDirectory(UserService userService, ObjectMapper objectMapper,
+                            @Value("${app.partner-directory.ttl:1m}") Duration ttl) {
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /** 타입별 전체 목록 (캐시) */
+    public Snapshot get(UserType type) {
+        long gen;
+        synchronized (this) {
+            Entry cached = cache.get(type);
+            if (cached != null && System.nanoTime() - cached.expiresAt() < 0) {
+                return cached.snapshot();
+            }
+            gen = generation;
+        }
+        // DB 조회/직렬화는 락 밖에서. 동시에 미스가 나면 중복 적재될 수 있지만 결과는 같다
+        Snapshot fresh = render(type, userService.findByUserType(type));
+        synchronized (this) {
+            if (gen == generation) {
+                cache.put(type, new Entry(fresh, System.nanoTime() + ttlNanos));
+            }
+        }
+        return fresh;
+    }
+
+    /** 전문분야 필터 조회 (조합이 많아 캐시하지 않음) */
+    public Snapshot find(UserType type, String specialtyCsv) {
+        return render(type, userService.findPartners(type, specialtyCsv));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPartnerChanged(PartnerChangedEvent event) {
+        invalidate(event.userType());
+    }
+
+    public synchronized void invalidate(UserType type) {
+        generation++;
+        if (type == null) {
+            cache.clear();
+        } else {
+            cache.remove(type);
+        }
+    }
+
+    private Snapshot render(UserType type, List<PartnerView> users) {
+        List<Map<String, Object>> result = users.stream().map(u -> toRow(type, u)).toList();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("user_type", type.name());
+        body.put("total", result.size());
+        body.put("result", result);
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(ApiResponse.ok(body));
+            return new Snapshot(bytes, etag(bytes));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("PARTNER_DIRECTORY_SERIALIZE_FAILED", e);
+        }
+    }
+
+    private Map<String, Object> toRow(UserType type, PartnerView u) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", u.getId());
+        row.put("username", u.getUsername());
+
+        if (type == UserType.HOSPITAL) {
+            row.put("vet_specialty", names(u.vetSpecialtySet()));
+            row.put("ca_categorical", u.getCaCategorical() == null
+                    ? null
+                    : u.getCaCategorical().name());
+        } else {
+            row.put("petsitter", names(u.petsitterWorkSet()));
+        }
+        row.put("image_url", u.getProfileUrl());
+
+        List<String> days = (u.getWorkingDays() == null || u.getWorkingDays().isBlank())
+                ? List.of()
+                : Arrays.stream(u.getWorkingDays().split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .toList();
+        Map<String, Object> schedule = new LinkedHashMap<>();
+        schedule.put("working_days", days);
+        schedule.put("working_start_hours", u.getWorkingStartHours());
+        schedule.put("working_end_hours", u.getWorkingEndHours());
+        row.put("working_schedule", schedule);
+        return row;
+    }
+
+    private static List<String> names(EnumSet<? extends Enum<?>> values) {
+        return values.stream().map(Enum::name).toList();
+    }
+
+    // 본문 SHA-256 앞 16바이트 (strong ETag)
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
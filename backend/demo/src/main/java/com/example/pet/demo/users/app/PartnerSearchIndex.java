@@ -0,0 +1,492 @@
+package com.example.pet.demo.users.app;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.pet.demo.users.api.dto.PartnerSearchItem;
+import com.example.pet.demo.users.api.dto.PartnerSearchRes;
+import com.example.pet.demo.users.domain.User.CaCategorical;
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+import com.example.pet.demo.users.domain.WorkingSchedule;
+import com.example.pet.demo.users.domain.port.PartnerView;
+
+/**
+ * 파트너 검색용 인메모리 역색인.
+ *
+ * 파트너를 id 순으로 0..n-1 문서 번호에 놓고, 속성 값마다 BitSet(포스팅 리스트)을 둔다.
+ * - 타입, 진료과목, 펫시터 업무, 개/고양이, 근무 요일(7개), 30분 근무 슬롯(48개)
+ * 검색은 조건별 BitSet AND 몇 번이면 끝나고, 정렬은 미리 계산한 순서를 따라 걸러 페이지만 꺼낸다.
+ *
+ * 스냅샷은 불변이며 쓰기(PartnerChangedEvent) 때마다 바뀐 문서만 반영한 복사본으로 교체한다(copy-on-write).
+ * 읽기 경로에는 락이 없다.
+ */
+@Component
+public class PartnerSearchIndex {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public enum Sort { ID, ID_DESC, NAME }
+
+    /** 검색 조건. null인 항목은 필터하지 않음 */
+    public record Criteria(
+        UserType userType,
+        EnumSet<VetSpecialty> vetSpecialties,   // 모두 가진 파트너
+        EnumSet<PetsitterWork> petsitterWorks,  // 모두 가진 파트너
+        CaCategorical caCategorical,            // DOG/CAT 은 BOTH 포함
+        DayOfWeek day,
+        LocalTime from,                         // [from, to) 동안 근무
+        LocalTime to,
+        Sort sort,
+        int page,
+        int size
+    ) {
+        /** 요청 파라미터(문자열) → 조건. 잘못된 값은 IllegalArgumentException(코드) */
+        public static Criteria parse(String userType, String vetSpecialty, String petsitterWork,
+                                     String caCategorical, String day, String from, String to,
+                                     String sort, Integer page, Integer size) {
+            UserType type = userType == null ? null : parseEnum(UserType.class, userType, "INVALID_USER_TYPE");
+            if (type != null && type != UserType.HOSPITAL && type != UserType.SITTER) {
+                throw new IllegalArgumentException("UNSUPPORTED_USER_TYPE");
+            }
+            DayOfWeek dayOfWeek = null;
+            if (day != null && !day.isBlank()) {
+                dayOfWeek = WorkingSchedule.toDayOfWeek(day.trim());
+                if (dayOfWeek == null) {
+                    throw new IllegalArgumentException("INVALID_DAY");
+                }
+            }
+            LocalTime fromTime = parseTime(from);
+            LocalTime toTime = parseTime(to);
+            if ((fromTime == null) != (toTime == null)
+                    || (fromTime != null && !toTime.equals(LocalTime.MIDNIGHT) && !fromTime.isBefore(toTime))) {
+                throw new IllegalArgumentException("INVALID_TIME_WINDOW");
+            }
+            return new Criteria(type,
+                    parseSet(VetSpecialty.class, vetSpecialty, "INVALID_SPECIALTY"),
+                    parseSet(PetsitterWork.class, petsitterWork, "INVALID_PETSITTER_WORK"),
+                    caCategorical == null ? null : parseEnum(CaCategorical.class, caCategorical, "INVALID_CA_CATEGORICAL"),
+                    dayOfWeek, fromTime, toTime,
+                    sort == null ? Sort.ID : parseEnum(Sort.class, sort.replace('-', '_'), "INVALID_SORT"),
+                    page == null || page < 0 ? 0 : page,
+                    size == null || size <= 0 ? 20 : Math.min(size, MAX_PAGE_SIZE));
+        }
+
+        private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String error) {
+            try {
+                return Enum.valueOf(type, value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(error);
+            }
+        }
+
+        private static <E extends Enum<E>> EnumSet<E> parseSet(Class<E> type, String csv, String error) {
+            if (csv == null || csv.isBlank()) {
+                return null;
+            }
+            EnumSet<E> set = EnumSet.noneOf(type);
+            for (String token : csv.split(",")) {
+                if (!token.isBlank()) {
+                    set.add(parseEnum(type, token, error));
+                }
+            }
+            return set;
+        }
+
+        private static LocalTime parseTime(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return LocalTime.parse(value.trim());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("INVALID_TIME_WINDOW");
+            }
+        }
+    }
+
+    private final UserService userService;
+    private final Map<Long, Doc> docs = new HashMap<>(); // guarded by this
+    private volatile Snapshot snapshot;                  // null = 아직 적재 전
+    private long generation;                             // guarded by this
+    private long ticket;                                 // guarded by this. DB 읽기 시작 순번
+    private long reloadedTicket;                         // guarded by this. 마지막 전체 적재의 순번
+    private final Map<Long, Long> appliedTicket = new HashMap<>(); // guarded by this. id별 마지막 반영 순번
+
+    public PartnerSearchIndex(UserService userService) {
+        this.userService = userService;
+    }
+
+    public PartnerSearchRes search(Criteria c) {
+        Snapshot s = snapshot();
+        BitSet hits = s.match(c);
+        int total = hits.cardinality();
+        int offset = c.page() * c.size();
+        List<PartnerSearchItem> items = new ArrayList<>(Math.min(c.size(), Math.max(total - offset, 0)));
+        if (offset < total) {
+            s.collect(hits, c.sort(), offset, c.size(), items);
+        }
+        return new PartnerSearchRes(total, c.page(), c.size(), items);
+    }
+
+    public int size() {
+        return snapshot().docs.length;
+    }
+
+    /**
+     * 쓰기 커밋 후: 해당 파트너 한 명만 DB에서 다시 읽어 반영 (id를 모르면 전체 재적재).
+     * 같은 파트너의 커밋 두 건이 동시에 들어오면 먼저 읽은 옛 값이 나중에 반영될 수 있어,
+     * 읽기 전에 순번을 받고 그보다 늦게 읽은 값(개별 갱신이나 전체 적재)이 이미 반영됐으면 버린다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPartnerChanged(PartnerChangedEvent event) {
+        if (event.userId() == null) {
+            reload();
+            return;
+        }
+        long readTicket;
+        synchronized (this) {
+            readTicket = ++ticket;
+        }
+        PartnerView user = userService.findPartner(event.userId()).orElse(null);
+        synchronized (this) {
+            if (snapshot == null) {
+                return; // 아직 적재 전이면 첫 검색 때 전부 읽는다
+            }
+            if (readTicket < Math.max(reloadedTicket, appliedTicket.getOrDefault(event.userId(), 0L))) {
+                return; // 더 나중에 읽은 값이 이미 들어가 있다
+            }
+            appliedTicket.put(event.userId(), readTicket);
+            generation++;
+            if (user == null || !user.isPartner()) {
+                if (docs.remove(event.userId()) != null) {
+                    snapshot = Snapshot.build(docs.values());
+                }
+            } else {
+                Doc doc = Doc.of(user);
+                docs.put(doc.id(), doc);
+                snapshot = snapshot.with(doc, docs.values());
+            }
+        }
+    }
+
+    /** 다른 인스턴스에서 일어난 변경 등 이벤트로 못 받은 변경을 주기적으로 맞춘다 */
+    @Scheduled(fixedDelayString = "${app.partner-search.refresh-interval:10m}",
+               initialDelayString = "${app.partner-search.refresh-interval:10m}")
+    public void reload() {
+        long gen;
+        long readTicket;
+        synchronized (this) {
+            gen = generation;
+            readTicket = ++ticket;
+        }
+        List<PartnerView> partners = new ArrayList<>(userService.findByUserType(UserType.HOSPITAL));
+        partners.addAll(userService.findByUserType(UserType.SITTER));
+        synchronized (this) {
+            if (gen != generation) {
+                return; // 적재 중 개별 갱신이 끼었으면 이번 결과는 버리고 다음 주기에
+            }
+            docs.clear();
+            partners.forEach(u -> docs.put(u.getId(), Doc.of(u)));
+            generation++;
+            reloadedTicket = readTicket;
+            appliedTicket.clear(); // 이보다 먼저 읽은 개별 갱신은 reloadedTicket 으로 걸러진다
+            snapshot = Snapshot.build(docs.values());
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            reload(); // 동시에 여러 번 불려도 먼저 끝난 적재가 스냅샷을 채운다
+            s = snapshot;
+        }
+        return s;
+    }
+
+    /** 색인 단위 문서: 필터용 속성 + 미리 만들어 둔 응답 항목 */
+    record Doc(long id, String username, UserType type, CaCategorical ca,
+               EnumSet<VetSpecialty> vets, EnumSet<PetsitterWork> works,
+               int dayMask, long slotMask, PartnerSearchItem item) {
+
+        static Doc of(PartnerView u) {
+            EnumSet<VetSpecialty> vets = u.getUserType() == UserType.HOSPITAL
+                    ? u.vetSpecialtySet() : EnumSet.noneOf(VetSpecialty.class);
+            EnumSet<PetsitterWork> works = u.getUserType() == UserType.SITTER
+                    ? u.petsitterWorkSet() : EnumSet.noneOf(PetsitterWork.class);
+            List<String> days = (u.getWorkingDays() == null || u.getWorkingDays().isBlank())
+                    ? List.of()
+                    : Arrays.stream(u.getWorkingDays().split(","))
+                            .map(String::trim)
+                            .filter(d -> !d.isEmpty())
+                            .toList();
+            PartnerSearchItem item = new PartnerSearchItem(
+                    u.getId(),
+                    u.getUsername(),
+                    u.getUserType().name(),
+                    u.getCaCategorical() == null ? null : u.getCaCategorical().name(),
+                    u.getUserType() == UserType.HOSPITAL ? vets.stream().map(Enum::name).toList() : null,
+                    u.getUserType() == UserType.SITTER ? works.stream().map(Enum::name).toList() : null,
+                    days,
+                    u.getWorkingStartHours(),
+                    u.getWorkingEndHours(),
+                    u.getProfileUrl());
+            return new Doc(u.getId(), u.getUsername(), u.getUserType(), u.getCaCategorical(), vets, works,
+                    WorkingSchedule.parseDays(u.getWorkingDays()),
+                    WorkingSchedule.parseSlots(u.getWorkingStartHours(), u.getWorkingEndHours()),
+                    item);
+        }
+    }
+
+    /** 불변 색인 스냅샷. 문서 번호 = id 오름차순 위치 */
+    static final class Snapshot {
+        private static final Comparator<Doc> NAME_ORDER = Comparator
+                .comparing(Snapshot::nameKey)
+                .thenComparingLong(Doc::id);
+
+        private final Doc[] docs;
+        private final BitSet all;
+        private final Map<UserType, BitSet> byType;
+        private final BitSet[] byVet;
+        private final BitSet[] byWork;
+        private final BitSet[] byCa;   // DOG/CAT 칸에는 BOTH도 포함
+        private final BitSet[] byDay;
+        private final BitSet[] bySlot;
+        private final int[] byName;
+
+        private Snapshot(Doc[] docs, BitSet all, Map<UserType, BitSet> byType, BitSet[] byVet, BitSet[] byWork,
+                         BitSet[] byCa, BitSet[] byDay, BitSet[] bySlot, int[] byName) {
+            this.docs = docs;
+            this.all = all;
+            this.byType = byType;
+            this.byVet = byVet;
+            this.byWork = byWork;
+            this.byCa = byCa;
+            this.byDay = byDay;
+            this.bySlot = bySlot;
+            this.byName = byName;
+        }
+
+        static Snapshot build(Collection<Doc> source) {
+            Doc[] docs = source.toArray(Doc[]::new);
+            Arrays.sort(docs, Comparator.comparingLong(Doc::id));
+            int n = docs.length;
+            Map<UserType, BitSet> byType = new HashMap<>();
+            byType.put(UserType.HOSPITAL, new BitSet(n));
+            byType.put(UserType.SITTER, new BitSet(n));
+            Snapshot s = new Snapshot(docs, new BitSet(n), byType,
+                    empty(VetSpecialty.values().length, n), empty(PetsitterWork.values().length, n),
+                    empty(CaCategorical.values().length, n), empty(7, n),
+                    empty(WorkingSchedule.SLOTS_PER_DAY, n), sortByName(docs));
+            for (int i = 0; i < n; i++) {
+                s.setBits(i, docs[i]);
+            }
+            return s;
+        }
+
+        /**
+         * 문서 하나만 바뀐 새 스냅샷. 기존 id 교체나 맨 뒤 추가(신규 가입, id 증가)는 BitSet 복사 + 비트 몇 개로 끝내고,
+         * 그 밖(중간 삽입)은 전체 재구성.
+         */
+        Snapshot with(Doc doc, Collection<Doc> allDocs) {
+            int pos = Arrays.binarySearch(docs, doc, Comparator.comparingLong(Doc::id));
+            boolean replace = pos >= 0;
+            if (!replace && -pos - 1 != docs.length) {
+                return build(allDocs);
+            }
+            int i = replace ? pos : docs.length;
+            Doc[] nextDocs = Arrays.copyOf(docs, replace ? docs.length : docs.length + 1);
+            nextDocs[i] = doc;
+
+            int[] nextByName;
+            if (replace && Objects.equals(docs[i].username(), doc.username())) {
+                nextByName = byName;
+            } else {
+                nextByName = insertByName(replace ? removeFromByName(i) : byName, i, nextDocs);
+            }
+
+            Map<UserType, BitSet> nextByType = new HashMap<>();
+            byType.forEach((type, bits) -> nextByType.put(type, (BitSet) bits.clone()));
+            Snapshot next = new Snapshot(nextDocs, (BitSet) all.clone(), nextByType, copy(byVet), copy(byWork),
+                    copy(byCa), copy(byDay), copy(bySlot), nextByName);
+            if (replace) {
+                next.clearBits(i);
+            }
+            next.setBits(i, doc);
+            return next;
+        }
+
+        private void setBits(int i, Doc d) {
+            all.set(i);
+            byType.get(d.type()).set(i);
+            for (VetSpecialty v : d.vets()) {
+                byVet[v.ordinal()].set(i);
+            }
+            for (PetsitterWork w : d.works()) {
+                byWork[w.ordinal()].set(i);
+            }
+            if (d.ca() != null) {
+                byCa[d.ca().ordinal()].set(i);
+                if (d.ca() == CaCategorical.BOTH) {
+                    byCa[CaCategorical.DOG.ordinal()].set(i);
+                    byCa[CaCategorical.CAT.ordinal()].set(i);
+                }
+            }
+            for (int day = 0; day < 7; day++) {
+                if ((d.dayMask() & (1 << day)) != 0) {
+                    byDay[day].set(i);
+                }
+            }
+            for (long m = d.slotMask(); m != 0; m &= m - 1) {
+                bySlot[Long.numberOfTrailingZeros(m)].set(i);
+            }
+        }
+
+        private void clearBits(int i) {
+            byType.values().forEach(bits -> bits.clear(i));
+            for (BitSet[] group : List.of(byVet, byWork, byCa, byDay, bySlot)) {
+                for (BitSet bits : group) {
+                    bits.clear(i);
+                }
+            }
+        }
+
+        private int[] removeFromByName(int doc) {
+            int[] next = new int[byName.length - 1];
+            int k = 0;
+            for (int d : byName) {
+                if (d != doc) {
+                    next[k++] = d;
+                }
+            }
+            return next;
+        }
+
+        // 이름 순서 배열에 doc을 이진 탐색 위치로 끼워 넣는다
+        private static int[] insertByName(int[] order, int doc, Doc[] docs) {
+            int lo = 0;
+            int hi = order.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (NAME_ORDER.compare(docs[order[mid]], docs[doc]) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            int[] next = new int[order.length + 1];
+            System.arraycopy(order, 0, next, 0, lo);
+            next[lo] = doc;
+            System.arraycopy(order, lo, next, lo + 1, order.length - lo);
+            return next;
+        }
+
+        private static int[] sortByName(Doc[] docs) {
+            String[] keys = new String[docs.length];
+            Integer[] order = new Integer[docs.length];
+            for (int i = 0; i < docs.length; i++) {
+                keys[i] = nameKey(docs[i]);
+                order[i] = i;
+            }
+            // docs가 id 순이라 같은 이름이면 번호 순 = id 순 (NAME_ORDER와 같은 결과)
+            Arrays.sort(order, (x, y) -> {
+                int c = keys[x].compareTo(keys[y]);
+                return c != 0 ? c : Integer.compare(x, y);
+            });
+            return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+        }
+
+        // 대소문자 무시, 이름 없는 파트너는 맨 뒤
+        private static String nameKey(Doc d) {
+            return d.username() == null ? "\uffff" : d.username().toLowerCase();
+        }
+
+        private static BitSet[] empty(int count, int n) {
+            BitSet[] sets = new BitSet[count];
+            for (int i = 0; i < count; i++) {
+                sets[i] = new BitSet(n);
+            }
+            return sets;
+        }
+
+        private static BitSet[] copy(BitSet[] sets) {
+            BitSet[] next = new BitSet[sets.length];
+            for (int i = 0; i < sets.length; i++) {
+                next[i] = (BitSet) sets[i].clone();
+            }
+            return next;
+        }
+
+        BitSet match(Criteria c) {
+            BitSet hits = (BitSet) (c.userType() == null ? all : byType.get(c.userType())).clone();
+            if (c.vetSpecialties() != null) {
+                c.vetSpecialties().forEach(v -> hits.and(byVet[v.ordinal()]));
+            }
+            if (c.petsitterWorks() != null) {
+                c.petsitterWorks().forEach(w -> hits.and(byWork[w.ordinal()]));
+            }
+            if (c.caCategorical() != null) {
+                hits.and(byCa[c.caCategorical().ordinal()]);
+            }
+            if (c.day() != null) {
+                hits.and(byDay[c.day().getValue() - 1]);
+            }
+            if (c.from() != null) {
+                int first = WorkingSchedule.slotOf(c.from());
+                int end = c.to().equals(LocalTime.MIDNIGHT)
+                        ? WorkingSchedule.SLOTS_PER_DAY
+                        : (c.to().getHour() * 60 + c.to().getMinute() + WorkingSchedule.SLOT_MINUTES - 1)
+                                / WorkingSchedule.SLOT_MINUTES; // 걸치는 슬롯까지 올림
+                for (int slot = first; slot < end && !hits.isEmpty(); slot++) {
+                    hits.and(bySlot[slot]);
+                }
+            }
+            return hits;
+        }
+
+        void collect(BitSet hits, Sort sort, int offset, int size, List<PartnerSearchItem> out) {
+            int skipped = 0;
+            switch (sort) {
+                case ID -> {
+                    for (int i = hits.nextSetBit(0); i >= 0 && out.size() < size; i = hits.nextSetBit(i + 1)) {
+                        if (skipped++ >= offset) {
+                            out.add(docs[i].item());
+                        }
+                    }
+                }
+                case ID_DESC -> {
+                    for (int i = hits.previousSetBit(docs.length - 1); i >= 0 && out.size() < size;
+                         i = hits.previousSetBit(i - 1)) {
+                        if (skipped++ >= offset) {
+                            out.add(docs[i].item());
+                        }
+                    }
+                }
+                case NAME -> {
+                    for (int k = 0; k < byName.length && out.size() < size; k++) {
+                        int i = byName[k];
+                        if (hits.get(i) && skipped++ >= offset) {
+                            out.add(docs[i].item());
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.pet.demo.users.app;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.example.pet.demo.common.TooBusyException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * BCrypt 검증/재해시 전용 풀.
+ * - 스레드 수는 코어 수 기준(CPU 작업), 대기열은 고정 크기
+ * - 대기열이 차면 바로 429, 대기열에서 max-queue-wait 넘게 기다린 작업은 해시 없이 503
+ *   → 몰려도 요청 스레드/CPU가 로그인에 잠기지 않는다
+ * - 재해시 결과 저장(DB UPDATE)은 별도 단일 스레드에서 → bcrypt 스레드가 DB 커넥션을 기다리지 않는다
+ */
+@Component
+public class PasswordHashingExecutor {
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final ThreadPoolExecutor pool;
+    private final ThreadPoolExecutor writer;
+    private final long maxQueueWaitNanos;
+    private final Duration retryAfter;
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong droppedWrites = new AtomicLong();
+
+    public PasswordHashingExecutor(@Value("${app.security.password-hashing.threads:0}") int threads,
+                                   @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${app.security.password-hashing.max-queue-wait:2s}") Duration maxQueueWait,
+                                   @Value("${app.security.password-hashing.retry-after:1s}") Duration retryAfter) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.retryAfter = retryAfter;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-rehash-write");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** 작업을 풀에 넣고 결과 future를 반환. 포화 시 TooBusyException으로 완료된다 */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long deadline = System.nanoTime() + maxQueueWaitNanos;
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            pool.execute(() -> {
+                // 너무 오래 기다린 요청은 클라이언트가 이미 포기했을 가능성이 크니 해시하지 않고 버린다
+                if (System.nanoTime() - deadline > 0) {
+                    expired.incrementAndGet();
+                    result.completeExceptionally(
+                            new TooBusyException(HttpStatus.SERVICE_UNAVAILABLE, "LOGIN_UNAVAILABLE", retryAfter));
+                    return;
+                }
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            result.completeExceptionally(
+                    new TooBusyException(HttpStatus.TOO_MANY_REQUESTS, "LOGIN_BUSY", retryAfter));
+        }
+        return result;
+    }
+
+    /**
+     * 검증 후 DB 쓰기(재해시 저장)를 해시 풀 밖에서 실행. 응답은 기다리지 않는다.
+     * 대기열이 차면 버리고 false - 재해시는 다음 로그인 때 다시 시도된다
+     */
+    public boolean persist(Runnable write) {
+        try {
+            writer.execute(write);
+            return true;
+        } catch (RejectedExecutionException e) {
+            droppedWrites.incrementAndGet();
+            return false;
+        }
+    }
+
+    public int queued() {
+        return pool.getQueue().size();
+    }
+
+    public int active() {
+        return pool.getActiveCount();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    public long expiredCount() {
+        return expired.get();
+    }
+
+    public long droppedWriteCount() {
+        return droppedWrites.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 해시 작업이 끝나야 마지막 재해시 저장이 writer 에 들어오므로 순서대로 닫는다
+        awaitTermination(pool, "password hashing pool");
+        awaitTermination(writer, "password rehash writer");
+    }
+
+    private static void awaitTermination(ThreadPoolExecutor executor, String name) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("{} did not terminate, {} queued", name, executor.getQueue().size());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
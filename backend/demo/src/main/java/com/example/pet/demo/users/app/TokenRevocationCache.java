@@ -0,0 +1,46 @@
+package com.example.pet.demo.users.app;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잠금/탈퇴된 사용자의 토큰 무효화 목록 (userId -> 무효화 시각).
+ * 무효화 시각 이전에 발급된 access 토큰을 거부한다. access 토큰 수명이 지나면 그 이전 토큰은
+ * 어차피 만료되므로 항목을 지운다 → 최근 access-ttl 동안 상태가 바뀐 사용자 수만큼만 유지.
+ */
+@Component
+public class TokenRevocationCache {
+    private final ConcurrentHashMap<Long, Long> revokedAt = new ConcurrentHashMap<>();
+    private final long retainSeconds;
+
+    public TokenRevocationCache(AccessTokenService tokens) {
+        this.retainSeconds = tokens.accessTtl().toSeconds();
+    }
+
+    public void revoke(Long userId) {
+        revokedAt.merge(userId, Instant.now().getEpochSecond(), Math::max);
+    }
+
+    /** 발급 시각이 무효화 시각과 같거나 이전이면 true (iat 는 초 단위) */
+    public boolean isRevoked(long userId, long issuedAt) {
+        Long at = revokedAt.get(userId);
+        return at != null && issuedAt <= at;
+    }
+
+    public int size() {
+        return revokedAt.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.token.revocation-prune-interval:1m}")
+    public void prune() {
+        prune(Instant.now().getEpochSecond());
+    }
+
+    void prune(long now) {
+        long cutoff = now - retainSeconds;
+        revokedAt.values().removeIf(at -> at < cutoff);
+    }
+}
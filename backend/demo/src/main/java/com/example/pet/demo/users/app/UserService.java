@@ -1,15 +1,33 @@
 package com.example.pet.demo.users.app;
 
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.pet.demo.common.EnumSetMaskConverter;
+import com.example.pet.demo.notification.NotificationService;
+import com.example.pet.demo.users.api.dto.PartnerScheduleReq;
+import com.example.pet.demo.users.api.dto.TokenRes;
+import com.example.pet.demo.users.api.dto.UserLoginRes;
 import com.example.pet.demo.users.api.dto.UserSignupReq;
 import com.example.pet.demo.users.domain.User.UserStatus;
 import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.port.PartnerView;
+import com.example.pet.demo.users.domain.port.UserLoginView;
+import com.example.pet.demo.users.domain.port.UserNameView;
 import com.example.pet.demo.users.domain.port.UserPersistencePort;
 import com.example.pet.demo.users.domain.User;
 
@@ -19,8 +37,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Transactional
 public class UserService {
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
     private final UserPersistencePort users;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher events;
+    private final PasswordHashingExecutor hashing;
+    private final EmailExistenceFilter emailFilter;
+    private final LastLoginTracker lastLogins;
+    private final NotificationService notificationService;
+    private final AccessTokenService tokens;
+    private final TokenRevocationCache revocations;
+    private volatile String dummyHash;
 
     public Long signup(UserSignupReq req) {
         // 1) 중복 검사
@@ -45,8 +73,8 @@ public class UserService {
         User.CaCategorical caCat = null;
         // User.VetSpecialty vet = null;
         // User.PetsitterWork sitterWork = null;
-        String vetCsv = null;
-        String sitterCsv = null;
+        EnumSet<User.VetSpecialty> vets = EnumSet.noneOf(User.VetSpecialty.class);
+        EnumSet<User.PetsitterWork> sitterWorks = EnumSet.noneOf(User.PetsitterWork.class);
 
         String start = null;
         String end = null;
@@ -59,14 +87,14 @@ public class UserService {
             case HOSPITAL -> {
                 tin = req.tin();
                 caCat = req.caCategorical();           // 단일 enum 그대로
-                vetCsv = toCsv(req.vetSpecialty());    // List<String> -> CSV
+                vets = EnumSetMaskConverter.copyOf(req.vetSpecialty(), User.VetSpecialty.class);
                 start = req.workingStartHours();
                 end = req.workingEndHours();
             }
             case SITTER -> {
                 tin = req.tin();
                 caCat = req.caCategorical();
-                sitterCsv = toCsv(req.petsitterWork()); // List<String> -> CSV
+                sitterWorks = EnumSetMaskConverter.copyOf(req.petsitterWork(), User.PetsitterWork.class);
                 start = req.workingStartHours();
                 end = req.workingEndHours();
             }
@@ -89,8 +117,10 @@ public class UserService {
                 .status(UserStatus.ACTIVE)       // 기본 활성
                 .tin(tin)        
                 .caCategorical(caCat)
-                .vetSpecialtyCsv(vetCsv)       
-                .petsitterWorkCsv(sitterCsv) 
+                .vetSpecialties(vets)            // 비트마스크 컬럼
+                .petsitterWorks(sitterWorks)
+                .vetSpecialtyCsv(EnumSetMaskConverter.toCsv(vets))       // 레거시 CSV (롤백 호환)
+                .petsitterWorkCsv(EnumSetMaskConverter.toCsv(sitterWorks))
                 .workingDays(workingDaysCsv)
                 .workingStartHours(req.workingStartHours())
                 .workingEndHours(req.workingEndHours())
@@ -99,59 +129,214 @@ public class UserService {
         // (선택) 근무시간 논리 검증이 필요하면 여기서 수행(HH:mm[:ss] 비교)
 
         // 6) 저장 및 ID 반환
-        return users.save(user).getId();
-    }
-    public User login(String email, String password){
-        //1. email로 사용자 찾기
-        User user = users.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호가 일치하지 않습니다."));
-        // 2. 비밀번호 확인
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new IllegalArgumentException("이메일 또는 비밀번호가 일치하지 않습니다.");
+        User saved = users.save(user);
+        emailFilter.add(saved.getEmail());
+        if (type == UserType.HOSPITAL || type == UserType.SITTER) {
+            events.publishEvent(new PartnerChangedEvent(saved.getId(), type));
         }
+        return saved.getId();
+    }
+    /**
+     * 로그인. 조회는 요청 스레드, BCrypt 검증(+필요 시 재해시)은 전용 풀에서 수행한다.
+     * 재해시 저장은 해시 풀 밖의 쓰기 스레드에서 하고 응답은 기다리지 않는다.
+     * 풀이 포화되면 future가 TooBusyException(429/503)으로 완료된다.
+     * 성공 시 access/refresh 토큰을 함께 발급한다.
+     */
+    public CompletableFuture<UserLoginRes> login(String email, String password){
+        //1. email로 사용자 찾기 (없어도 더미 해시로 같은 비용을 써서 가입 여부가 응답 시간으로 드러나지 않게)
+        //   검증/응답에 필요한 컬럼만 읽는다
+        UserLoginView user = users.findLoginByEmail(email).orElse(null);
+        String stored = user != null ? user.getPassword() : dummyHash();
+
+        // 2. 비밀번호 확인 + cost가 바뀐 해시면 같은 작업에서 새로 해시
+        return hashing.submit(() -> verify(password, stored))
+                .thenApply(upgraded -> {
+                    if (user == null || upgraded == null) {
+                        throw new IllegalArgumentException("이메일 또는 비밀번호가 일치하지 않습니다.");
+                    }
+                    // 3. 계정 상태 확인 (선택사항)
+                    if (user.getStatus() != UserStatus.ACTIVE) {
+                        revocations.revoke(user.getId()); // 이전에 발급된 토큰도 막는다
+                        throw new IllegalArgumentException("비활성화된 계정입니다.");
+                    }
+                    if (!upgraded.equals(stored)) {
+                        // DB UPDATE 는 bcrypt 스레드에서 하지 않는다 (커넥션 대기로 해시 풀이 막히지 않게)
+                        if (!hashing.persist(() -> rehash(user, stored, upgraded))) {
+                            log.debug("password rehash deferred userId={} (writer busy)", user.getId());
+                        }
+                    }
+                    lastLogins.record(user.getId()); // 주기적으로 모아서 반영
+                    // 4. 로그인 성공 + 토큰 발급
+                    return UserLoginRes.from(user, tokens.issue(user.getId(), user.getUserType(), user.getStatus()));
+                });
+    }
 
-        // 3. 계정 상태 확인 (선택사항)
+    /** refresh 토큰으로 재발급. 여기서만 DB에서 상태를 다시 확인한다 (access 검증은 DB 조회 없음) */
+    @Transactional(readOnly = true)
+    public TokenRes refresh(String refreshToken) {
+        AccessTokenService.Claims claims = tokens.verifyRefresh(refreshToken);
+        if (revocations.isRevoked(claims.userId(), claims.issuedAt())) {
+            throw new IllegalArgumentException("TOKEN_REVOKED");
+        }
+        UserLoginView user = users.findLoginById(claims.userId())
+                .orElseThrow(() -> new IllegalArgumentException("USER_NOT_FOUND"));
         if (user.getStatus() != UserStatus.ACTIVE) {
-            throw new IllegalArgumentException("비활성화된 계정입니다.");
+            revocations.revoke(user.getId());
+            throw new IllegalArgumentException("TOKEN_REVOKED");
         }
+        return tokens.issue(user.getId(), user.getUserType(), user.getStatus());
+    }
 
-        // 4. 로그인 성공 - User 엔티티 반환
-        return user;
+    /**
+     * 계정 상태 변경. LOCKED/DELETED 면 이미 발급된 토큰을 즉시 무효화한다.
+     * 관리자 권한이 아직 없어 HTTP 로는 열지 않는다 (운영 도구/배치에서만 호출)
+     */
+    @Transactional
+    public void changeStatus(Long userId, UserStatus status) {
+        if (!users.updateStatus(userId, status)) {
+            throw new IllegalArgumentException("USER_NOT_FOUND");
+        }
+        if (status != UserStatus.ACTIVE) {
+            revocations.revoke(userId);
+        }
+    }
+
+    /** 일치하면 저장할 해시(재해시 불필요 시 기존 값), 불일치면 null */
+    private String verify(String raw, String stored) {
+        if (!passwordEncoder.matches(raw, stored)) {
+            return null;
+        }
+        return passwordEncoder.upgradeEncoding(stored) ? passwordEncoder.encode(raw) : stored;
     }
 
+    private void rehash(UserLoginView user, String oldHash, String newHash) {
+        try {
+            // 동시에 비밀번호가 바뀌었으면 조건부 UPDATE가 0건이라 덮어쓰지 않는다
+            users.updatePasswordHash(user.getId(), oldHash, newHash);
+        } catch (RuntimeException e) {
+            // 재해시는 다음 로그인 때 다시 시도하면 되므로 로그인 자체는 성공 처리
+            log.warn("password rehash failed userId={}", user.getId(), e);
+        }
+    }
+
+    private String dummyHash() {
+        String h = dummyHash;
+        if (h == null) {
+            h = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyHash = h;
+        }
+        return h;
+    }
+
+    /**
+     * 기기 토큰 등록. 사용자당 여러 기기를 user_device_token에 upsert 하고,
+     * users.fcm_token(구 단일 컬럼)은 마지막 기기로 직접 UPDATE - 엔티티 조회/저장 없이 두 문장.
+     */
     @Transactional
     public void updateFcmToken(Long userId, String token) {
         if (token == null || token.isBlank()) {
             throw new IllegalArgumentException("FCM_TOKEN_REQUIRED");
         }
-        User user = users.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("USER_NOT_FOUND"));
-        user.setFcmToken(token.trim());
-        users.save(user);
+        String trimmed = token.trim();
+        if (!users.updateFcmToken(userId, trimmed)) {
+            throw new IllegalArgumentException("USER_NOT_FOUND");
+        }
+        notificationService.registerDevice(userId, trimmed);
+    }
+
+    @Transactional
+    public void removeFcmToken(Long userId, String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("FCM_TOKEN_REQUIRED");
+        }
+        notificationService.unregisterDevice(userId, token.trim());
     }
 
     @Transactional(readOnly = true)
-    public User get(Long userId) {
-        return users.findById(userId)
+    public PartnerView getPartner(Long userId) {
+        return users.findPartnerById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("USER_NOT_FOUND"));
     }
 
+    @Transactional(readOnly = true)
+    public Optional<PartnerView> findPartner(Long userId) {
+        return users.findPartnerById(userId);
+    }
+
+    // id -> username, 한 번의 쿼리로 조회 (없는 id는 결과에서 빠짐)
+    @Transactional(readOnly = true)
+    public Map<Long, String> getUsernames(Collection<Long> userIds) {
+        Map<Long, String> names = new HashMap<>();
+        for (UserNameView v : users.findUsernamesByIds(userIds)) {
+            names.put(v.getId(), v.getUsername());
+        }
+        return names;
+    }
+
     // private String toCsv(List<String> days) {
     //     return (days == null || days.isEmpty()) ? null : String.join(",", days);
     // }
 
+    // 가입 폼에서 입력마다 호출되므로 필터가 "없음"이라 하면 DB를 건너뛴다
+    @Transactional(readOnly = true)
     public boolean checkEmailExists(String email) {
-        return users.existsByEmail(email);
+        if (!emailFilter.mightContain(email)) {
+            return false;
+        }
+        boolean exists = users.existsByEmail(email);
+        emailFilter.recordLookup(exists);
+        return exists;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PartnerView> findByUserType(UserType type){
+        return users.findPartnersByUserType(type);
     }
 
+    // specialtyCsv 의 항목을 모두 가진 파트너만 조회. 비어 있으면 전체
     @Transactional(readOnly = true)
-    public List<User> findByUserType(UserType type){
-        return users.findByUserType(type);
+    public List<PartnerView> findPartners(UserType type, String specialtyCsv) {
+        if (specialtyCsv == null || specialtyCsv.isBlank()) {
+            return users.findPartnersByUserType(type);
+        }
+        try {
+            if (type == UserType.HOSPITAL) {
+                return users.findHospitalsBySpecialties(parseSet(specialtyCsv, User.VetSpecialty.class));
+            }
+            return users.findSittersByWorks(parseSet(specialtyCsv, User.PetsitterWork.class));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("INVALID_SPECIALTY");
+        }
+    }
+
+    private static <E extends Enum<E>> EnumSet<E> parseSet(String csv, Class<E> type) {
+        EnumSet<E> set = EnumSet.noneOf(type);
+        for (String token : csv.split(",")) {
+            if (!token.isBlank()) {
+                set.add(Enum.valueOf(type, token.trim().toUpperCase()));
+            }
+        }
+        return set;
     }
 
     @Transactional
     public void updateProfileUrl(Long userId, String imageUrl) {
         users.updateProfileUrl(userId, imageUrl);
+        events.publishEvent(new PartnerChangedEvent(userId, null)); // 타입 조회 없이 디렉터리 전체 무효화
+    }
+
+    @Transactional
+    public void updateWorkingSchedule(Long userId, PartnerScheduleReq req) {
+        User user = users.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("USER_NOT_FOUND"));
+        if (user.getUserType() != UserType.HOSPITAL && user.getUserType() != UserType.SITTER) {
+            throw new IllegalArgumentException("NOT_PARTNER");
+        }
+        user.setWorkingDays(toCsv(req.workingDays()));
+        user.setWorkingStartHours(req.workingStartHours());
+        user.setWorkingEndHours(req.workingEndHours());
+        users.save(user);
+        events.publishEvent(new PartnerChangedEvent(userId, user.getUserType()));
     }
 
     private String toCsv(Collection<?> values) {
@@ -162,7 +347,7 @@ public class UserService {
                         .map(String::trim)
                         .filter(s -> !s.isEmpty())
                         .map(String::toUpperCase)
-                        .reduce((a, b) -> a + "," + b)
-                        .orElse(null);
+                        .collect(Collectors.collectingAndThen(Collectors.joining(","),
+                                csv -> csv.isEmpty() ? null : csv));
     }
 }
@@ -2,12 +2,15 @@ package com.example.pet.demo.users.domain;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.example.pet.demo.common.GenderConverter;
+import com.example.pet.demo.common.PetsitterWorkSetConverter;
+import com.example.pet.demo.common.VetSpecialtySetConverter;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -90,12 +93,22 @@ public class User {
     // @Column(name = "petsitter_work", length = 20)
     // private PetsitterWork petsitterWork;
 
+    // (레거시) CSV 컬럼: 마스크 컬럼으로 이전 중, 롤백 호환을 위해 계속 기록
     @Column(name = "vet_specialty", length = 255)
     private String vetSpecialtyCsv;      // 예: "SURGERY,DERMATOLOGY"
 
     @Column(name = "petsitter_work", length = 255)
     private String petsitterWorkCsv;  
 
+    // 비트마스크 컬럼 (bit = 1 << ordinal). NULL이면 아직 마이그레이션 전 → CSV로 대체
+    @Convert(converter = VetSpecialtySetConverter.class)
+    @Column(name = "vet_specialty_mask")
+    private EnumSet<VetSpecialty> vetSpecialties;
+
+    @Convert(converter = PetsitterWorkSetConverter.class)
+    @Column(name = "petsitter_work_mask")
+    private EnumSet<PetsitterWork> petsitterWorks;
+
     @Column(name = "working_days")
     private String workingDays;
 
@@ -128,6 +141,14 @@ public class User {
     @Column(name = "fcm_token", length = 255)
     private String fcmToken;
 
+    public EnumSet<VetSpecialty> vetSpecialtySet() {
+        return vetSpecialties != null ? vetSpecialties : VetSpecialtySetConverter.INSTANCE.fromCsv(vetSpecialtyCsv);
+    }
+
+    public EnumSet<PetsitterWork> petsitterWorkSet() {
+        return petsitterWorks != null ? petsitterWorks : PetsitterWorkSetConverter.INSTANCE.fromCsv(petsitterWorkCsv);
+    }
+
     public boolean isActive() { return this.status == UserStatus.ACTIVE; }
     public void markLastLoginNow() { this.lastLoginAt = LocalDateTime.now(); }
     public void lockUntil(LocalDateTime until) { this.status = UserStatus.LOCKED; this.lockedUntil = until; }
@@ -0,0 +1,104 @@
+package com.example.pet.demo.users.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * 파트너 근무 요일/시간 파싱 공통 규칙 (예약 가능 슬롯 엔진, 파트너 검색 인덱스에서 사용).
+ * 하루는 30분 단위 48칸, 요일은 bit0 = 월 ... bit6 = 일.
+ */
+public final class WorkingSchedule {
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES; // 48
+    public static final long ALL_SLOTS = (1L << SLOTS_PER_DAY) - 1;
+    public static final int ALL_DAYS = 0b111_1111;
+
+    private WorkingSchedule() {}
+
+    public static int slotOf(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    public static int dayBit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+
+    // "월,화,수" / "MON,TUE" / "MONDAY" 모두 허용. 값이 없으면 매일 근무로 간주
+    public static int parseDays(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return ALL_DAYS;
+        }
+        int mask = 0;
+        for (String token : csv.split(",")) {
+            DayOfWeek day = toDayOfWeek(token.trim());
+            if (day != null) {
+                mask |= dayBit(day);
+            }
+        }
+        return mask == 0 ? ALL_DAYS : mask;
+    }
+
+    public static DayOfWeek toDayOfWeek(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        switch (token.charAt(0)) {
+            case '월': return DayOfWeek.MONDAY;
+            case '화': return DayOfWeek.TUESDAY;
+            case '수': return DayOfWeek.WEDNESDAY;
+            case '목': return DayOfWeek.THURSDAY;
+            case '금': return DayOfWeek.FRIDAY;
+            case '토': return DayOfWeek.SATURDAY;
+            case '일': return DayOfWeek.SUNDAY;
+            default:
+        }
+        String upper = token.toUpperCase();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(upper.length() >= 3 ? upper.substring(0, 3) : upper)) {
+                return day;
+            }
+        }
+        return null;
+    }
+
+    // "09:00" ~ "18:00" → [09:00, 18:00) 슬롯. 값이 없거나 잘못되면 하루 전체
+    public static long parseSlots(String start, String end) {
+        int from = minutesOf(start);
+        int endMinutes = minutesOf(end);
+        if (from < 0 || endMinutes < 0) {
+            return ALL_SLOTS;
+        }
+        int first = from / SLOT_MINUTES;
+        int to = endMinutes == 0 ? SLOTS_PER_DAY : endMinutes / SLOT_MINUTES; // 00:00 종료 = 자정까지
+        if (to <= first) {
+            return ALL_SLOTS;
+        }
+        return (ALL_SLOTS >>> (SLOTS_PER_DAY - (to - first))) << first;
+    }
+
+    // "HH:mm" / "HH:mm:ss" → 자정부터 분. 형식이 틀리면 -1 (색인 적재 시 호출이 많아 LocalTime.parse 대신 직접 파싱)
+    static int minutesOf(String value) {
+        if (value == null) {
+            return -1;
+        }
+        String v = value.trim();
+        if ((v.length() != 5 && v.length() != 8) || v.charAt(2) != ':') {
+            return -1;
+        }
+        int h = twoDigits(v, 0);
+        int m = twoDigits(v, 3);
+        if (h < 0 || h > 23 || m < 0 || m > 59) {
+            return -1;
+        }
+        return h * 60 + m;
+    }
+
+    private static int twoDigits(String s, int at) {
+        char a = s.charAt(at);
+        char b = s.charAt(at + 1);
+        if (a < '0' || a > '9' || b < '0' || b > '9') {
+            return -1;
+        }
+        return (a - '0') * 10 + (b - '0');
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.pet.demo.users.domain.port;
+
+import java.util.EnumSet;
+
+import com.example.pet.demo.common.PetsitterWorkSetConverter;
+import com.example.pet.demo.common.VetSpecialtySetConverter;
+import com.example.pet.demo.users.domain.User.CaCategorical;
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+
+import lombok.Getter;
+
+// 파트너 목록/검색/가용 슬롯용 프로젝션 - 비밀번호, tin, 주소, fcm_token 등은 읽지 않는다
+// 네이티브 쿼리 결과를 생성자로 바로 받는다 (인터페이스 프로젝션은 행마다 프록시 + Map 을 만들어 엔티티보다 무겁다)
+@Getter
+public class PartnerView {
+    private final Long id;
+    private final String username;
+    private final UserType userType;
+    private final CaCategorical caCategorical;
+    private final Integer vetSpecialtyMask;
+    private final String vetSpecialtyCsv;
+    private final Integer petsitterWorkMask;
+    private final String petsitterWorkCsv;
+    private final String profileUrl;
+    private final String workingDays;
+    private final String workingStartHours;
+    private final String workingEndHours;
+
+    public PartnerView(Long id, String username, String userType, String caCategorical,
+                       Integer vetSpecialtyMask, String vetSpecialtyCsv,
+                       Integer petsitterWorkMask, String petsitterWorkCsv,
+                       String profileUrl, String workingDays, String workingStartHours, String workingEndHours) {
+        this.id = id;
+        this.username = username;
+        this.userType = userType != null ? UserType.valueOf(userType) : null;
+        this.caCategorical = caCategorical != null ? CaCategorical.valueOf(caCategorical) : null;
+        this.vetSpecialtyMask = vetSpecialtyMask;
+        this.vetSpecialtyCsv = vetSpecialtyCsv;
+        this.petsitterWorkMask = petsitterWorkMask;
+        this.petsitterWorkCsv = petsitterWorkCsv;
+        this.profileUrl = profileUrl;
+        this.workingDays = workingDays;
+        this.workingStartHours = workingStartHours;
+        this.workingEndHours = workingEndHours;
+    }
+
+    // User.vetSpecialtySet()과 같은 규칙: 마스크가 NULL(미이관)이면 CSV
+    public EnumSet<VetSpecialty> vetSpecialtySet() {
+        return vetSpecialtyMask != null ? VetSpecialtySetConverter.INSTANCE.fromMask(vetSpecialtyMask)
+                : VetSpecialtySetConverter.INSTANCE.fromCsv(vetSpecialtyCsv);
+    }
+
+    public EnumSet<PetsitterWork> petsitterWorkSet() {
+        return petsitterWorkMask != null ? PetsitterWorkSetConverter.INSTANCE.fromMask(petsitterWorkMask)
+                : PetsitterWorkSetConverter.INSTANCE.fromCsv(petsitterWorkCsv);
+    }
+
+    public boolean isPartner() {
+        return userType == UserType.HOSPITAL || userType == UserType.SITTER;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.pet.demo.users.domain.port;
+
+// 이메일 필터 적재용 경량 프로젝션 (id, email) - id 키셋으로 끊어 읽는다
+public interface UserEmailView {
+    Long getId();
+    String getEmail();
+}
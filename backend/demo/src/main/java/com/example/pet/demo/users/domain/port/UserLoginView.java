@@ -0,0 +1,17 @@
+package com.example.pet.demo.users.domain.port;
+
+import com.example.pet.demo.users.domain.User.Gender;
+import com.example.pet.demo.users.domain.User.UserStatus;
+import com.example.pet.demo.users.domain.User.UserType;
+
+// 로그인 검증 + 응답에 필요한 컬럼만 (id, 이름, 이메일, 해시, 상태)
+public interface UserLoginView {
+    Long getId();
+    String getUsername();
+    String getNickname();
+    String getEmail();
+    String getPassword();
+    Gender getGender();
+    UserType getUserType();
+    UserStatus getStatus();
+}
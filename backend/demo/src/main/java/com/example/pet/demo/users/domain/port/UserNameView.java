@@ -0,0 +1,7 @@
+package com.example.pet.demo.users.domain.port;
+
+// 예약 목록 등에서 파트너 이름만 필요할 때 쓰는 경량 프로젝션 (id, username)
+public interface UserNameView {
+    Long getId();
+    String getUsername();
+}
@@ -1,18 +1,34 @@
 package com.example.pet.demo.users.domain.port;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.example.pet.demo.users.domain.User;
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+import com.example.pet.demo.users.domain.User.UserStatus;
 import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
 
 public interface UserPersistencePort {
     boolean existsByEmail(String email);
-    Optional<User> findByEmail(String email);
+    Optional<UserLoginView> findLoginByEmail(String email);   // 로그인용 컬럼만
+    Optional<UserLoginView> findLoginById(Long id);           // 토큰 재발급 시 상태 확인
     Optional<User> findById(Long id); 
     User save(User user);
     void touchLastLogin(Long id); // 선택
-    List<User> findByUserType(UserType type);
+    void touchLastLogins(Map<Long, LocalDateTime> lastLogins); // 배치 반영 (더 늦은 시각만 덮어씀)
+    List<PartnerView> findPartnersByUserType(UserType type);  // 파트너 목록/인덱스용 컬럼만
+    Optional<PartnerView> findPartnerById(Long id);
     void updateProfileUrl(Long id, String url);
-    void updateFcmToken(Long id, String token); 
+    boolean updateFcmToken(Long id, String token); // 대상 사용자가 없으면 false
+    boolean updateStatus(Long id, UserStatus status); // 대상 사용자가 없으면 false
+    boolean updatePasswordHash(Long id, String oldHash, String newHash); // 기존 해시가 그대로일 때만 교체
+    List<UserEmailView> findEmailsAfter(long afterId, int limit); // id 키셋 순회 (이메일 필터 적재)
+    List<UserNameView> findUsernamesByIds(Collection<Long> ids); // N+1 방지용 일괄 조회
+    List<PartnerView> findHospitalsBySpecialties(EnumSet<VetSpecialty> required);  // 모두 포함
+    List<PartnerView> findSittersByWorks(EnumSet<PetsitterWork> required);         // 모두 포함
 }
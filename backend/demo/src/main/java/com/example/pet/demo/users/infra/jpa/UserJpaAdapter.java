@@ -1,12 +1,32 @@
 package com.example.pet.demo.users.infra.jpa;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.pet.demo.common.EnumSetMaskConverter;
 import com.example.pet.demo.users.domain.User;
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+import com.example.pet.demo.users.domain.User.UserStatus;
 import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+import com.example.pet.demo.users.domain.port.PartnerView;
+import com.example.pet.demo.users.domain.port.UserEmailView;
+import com.example.pet.demo.users.domain.port.UserLoginView;
+import com.example.pet.demo.users.domain.port.UserNameView;
 import com.example.pet.demo.users.domain.port.UserPersistencePort;
 
 import lombok.RequiredArgsConstructor;
@@ -14,14 +34,61 @@ import lombok.RequiredArgsConstructor;
 @Repository
 @RequiredArgsConstructor
 public class UserJpaAdapter implements UserPersistencePort  {
+    // 기존 값보다 늦을 때만 갱신 (여러 인스턴스가 flush 해도 시각이 뒤로 가지 않게)
+    private static final String TOUCH_LAST_LOGIN_SQL = """
+            update users set last_login_at = :at
+            where id = :id and (last_login_at is null or last_login_at < :at)
+            """;
+    private static final int TOUCH_BATCH = 500;
+
     private final UserJpaRepository jpa;
+    private final NamedParameterJdbcTemplate jdbc;
 
     @Override public boolean existsByEmail(String email) { return jpa.existsByEmail(email); }
-    @Override public Optional<User> findByEmail(String email) { return jpa.findByEmail(email); }
+    @Override public Optional<UserLoginView> findLoginByEmail(String email) { return jpa.findLoginByEmail(email); }
+    @Override public Optional<UserLoginView> findLoginById(Long id) { return jpa.findLoginById(id); }
     @Override public Optional<User> findById(Long id) { return jpa.findById(id); } 
     @Override public User save(User user) { return jpa.save(user); }
     @Override public void touchLastLogin(Long id) { jpa.touchLastLogin(id); }
-    @Override public List<User> findByUserType(UserType type) { return jpa.findByUserType(type); }
+    @Override @Transactional
+    public void touchLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        // id 순으로 보내 동시 flush 간 행 잠금 순서를 맞춘다
+        SqlParameterSource[] batch = new TreeMap<>(lastLogins).entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("id", e.getKey())
+                        .addValue("at", Timestamp.valueOf(e.getValue())))
+                .toArray(SqlParameterSource[]::new);
+        for (int i = 0; i < batch.length; i += TOUCH_BATCH) {
+            jdbc.batchUpdate(TOUCH_LAST_LOGIN_SQL, Arrays.copyOfRange(batch, i, Math.min(i + TOUCH_BATCH, batch.length)));
+        }
+    }
+    @Override public List<PartnerView> findPartnersByUserType(UserType type) { return jpa.findPartnersByUserType(type.name()); }
+    @Override public Optional<PartnerView> findPartnerById(Long id) { return jpa.findPartnerById(id); }
     @Override public void updateProfileUrl(Long id, String url) {jpa.updateProfileUrl(id, url);}
-    @Override public void updateFcmToken(Long id, String token) { jpa.updateFcmToken(id, token); }
+    @Override public boolean updateFcmToken(Long id, String token) { return jpa.updateFcmToken(id, token) == 1; }
+    @Override @Transactional
+    public boolean updateStatus(Long id, UserStatus status) {
+        return jpa.updateStatus(id, status) == 1;
+    }
+    @Override @Transactional
+    public boolean updatePasswordHash(Long id, String oldHash, String newHash) {
+        return jpa.updatePasswordHash(id, oldHash, newHash) == 1;
+    }
+    @Override public List<UserEmailView> findEmailsAfter(long afterId, int limit) {
+        return jpa.findEmailsAfter(afterId, PageRequest.of(0, limit));
+    }
+    @Override public List<UserNameView> findUsernamesByIds(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : jpa.findUsernamesByIdIn(ids);
+    }
+    // mask 로 걸러진 행은 그대로, mask NULL 행은 CSV 기준으로 다시 거른다
+    @Override public List<PartnerView> findHospitalsBySpecialties(EnumSet<VetSpecialty> required) {
+        return jpa.findHospitalsByVetSpecialtyMask(EnumSetMaskConverter.toMask(required)).stream()
+                .filter(p -> p.getVetSpecialtyMask() != null || p.vetSpecialtySet().containsAll(required))
+                .toList();
+    }
+    @Override public List<PartnerView> findSittersByWorks(EnumSet<PetsitterWork> required) {
+        return jpa.findSittersByPetsitterWorkMask(EnumSetMaskConverter.toMask(required)).stream()
+                .filter(p -> p.getPetsitterWorkMask() != null || p.petsitterWorkSet().containsAll(required))
+                .toList();
+    }
 }
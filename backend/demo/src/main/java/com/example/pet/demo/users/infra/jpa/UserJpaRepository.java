@@ -1,27 +1,30 @@
 package com.example.pet.demo.users.infra.jpa;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.example.pet.demo.users.domain.User;
-import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.User.UserStatus;
+import com.example.pet.demo.users.domain.port.PartnerView;
+import com.example.pet.demo.users.domain.port.UserEmailView;
+import com.example.pet.demo.users.domain.port.UserLoginView;
+import com.example.pet.demo.users.domain.port.UserNameView;
 
 public interface UserJpaRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
-    Optional<User> findByEmail(String email);
     
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update User u set u.lastLoginAt = CURRENT_TIMESTAMP where u.id = :id")
     int touchLastLogin(Long id);
 
-    List<User> findByUserType(UserType type);
-
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update User u set u.profileUrl = :url where u.id = :id")
     int updateProfileUrl(@Param("id")Long id, @Param("url") String url);
@@ -29,4 +32,66 @@ public interface UserJpaRepository extends JpaRepository<User, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update User u set u.fcmToken = :token where u.id = :id")
     int updateFcmToken(Long id, String token);
-}
\ No newline at end of file
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update User u set u.status = :status where u.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") UserStatus status);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update User u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    @Query("select u.id as id, u.username as username from User u where u.id in :ids")
+    List<UserNameView> findUsernamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select u.id as id, u.email as email from User u where u.id > :afterId order by u.id")
+    List<UserEmailView> findEmailsAfter(@Param("afterId") long afterId, Pageable page);
+
+    @Query("""
+            select u.id as id, u.username as username, u.nickname as nickname, u.email as email,
+                   u.password as password, u.gender as gender, u.userType as userType, u.status as status
+            from User u where u.email = :email
+            """)
+    Optional<UserLoginView> findLoginByEmail(@Param("email") String email);
+
+    @Query("""
+            select u.id as id, u.username as username, u.nickname as nickname, u.email as email,
+                   u.password as password, u.gender as gender, u.userType as userType, u.status as status
+            from User u where u.id = :id
+            """)
+    Optional<UserLoginView> findLoginById(@Param("id") Long id);
+
+    // 파트너 프로젝션 컬럼 (PartnerView 게터 이름으로 별칭)
+    String PARTNER_COLUMNS = """
+            select id, username, user_type as userType, ca_categorical as caCategorical,
+                   vet_specialty_mask as vetSpecialtyMask, vet_specialty as vetSpecialtyCsv,
+                   petsitter_work_mask as petsitterWorkMask, petsitter_work as petsitterWorkCsv,
+                   profileurl as profileUrl, working_days as workingDays,
+                   working_start_hours as workingStartHours, working_end_hours as workingEndHours
+            from users
+            """;
+
+    @Query(value = PARTNER_COLUMNS + "where user_type = :type", nativeQuery = true)
+    List<PartnerView> findPartnersByUserType(@Param("type") String type);
+
+    @Query(value = PARTNER_COLUMNS + "where id = :id", nativeQuery = true)
+    Optional<PartnerView> findPartnerById(@Param("id") Long id);
+
+    // 비트마스크 포함 검색: 요청한 비트를 모두 가진 파트너만 (CSV LIKE 스캔 대체)
+    // mask NULL(미이관) 행도 함께 읽어 어댑터에서 CSV 로 거른다 (백필 전에도 결과에서 빠지지 않도록)
+    @Query(value = PARTNER_COLUMNS + """
+            where user_type = 'HOSPITAL'
+              and (vet_specialty_mask is null or (vet_specialty_mask & :mask) = :mask)
+            """, nativeQuery = true)
+    List<PartnerView> findHospitalsByVetSpecialtyMask(@Param("mask") int mask);
+
+    @Query(value = PARTNER_COLUMNS + """
+            where user_type = 'SITTER'
+              and (petsitter_work_mask is null or (petsitter_work_mask & :mask) = :mask)
+            """, nativeQuery = true)
+    List<PartnerView> findSittersByPetsitterWorkMask(@Param("mask") int mask);
+
+    // 업로드 파일 수거기용: 해당 조각을 포함하는 프로필 URL (탈퇴 회원 포함)
+    @Query("select u.profileUrl from User u where u.profileUrl like concat('%', :fragment, '%')")
+    List<String> findProfileUrlsContaining(@Param("fragment") String fragment);
+}
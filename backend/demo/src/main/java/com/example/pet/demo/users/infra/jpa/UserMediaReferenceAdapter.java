@@ -0,0 +1,23 @@
+package com.example.pet.demo.users.infra.jpa;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.pet.demo.media.domain.port.MediaReferencePort;
+
+import lombok.RequiredArgsConstructor;
+
+// users.profileurl
+@Repository
+@RequiredArgsConstructor
+public class UserMediaReferenceAdapter implements MediaReferencePort {
+    private final UserJpaRepository jpa;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findUrlsContaining(String fragment) {
+        return jpa.findProfileUrlsContaining(fragment);
+    }
+}
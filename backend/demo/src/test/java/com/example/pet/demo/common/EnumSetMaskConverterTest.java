@@ -0,0 +1,96 @@
+package com.example.pet.demo.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+
+class EnumSetMaskConverterTest {
+    private static final Path SCHEMA = Path.of("../../DB/SQL.SQL");
+
+    private final VetSpecialtySetConverter vets = VetSpecialtySetConverter.INSTANCE;
+    private final PetsitterWorkSetConverter works = PetsitterWorkSetConverter.INSTANCE;
+
+    @Test
+    void everySubsetSurvivesARoundTrip() {
+        for (int mask = 0; mask < 1 << VetSpecialty.values().length; mask++) {
+            EnumSet<VetSpecialty> set = vets.convertToEntityAttribute(mask);
+            assertThat(vets.convertToDatabaseColumn(set)).isEqualTo(mask);
+        }
+        for (int mask = 0; mask < 1 << PetsitterWork.values().length; mask++) {
+            EnumSet<PetsitterWork> set = works.convertToEntityAttribute(mask);
+            assertThat(works.convertToDatabaseColumn(set)).isEqualTo(mask);
+        }
+    }
+
+    @Test
+    void bitIsOneShiftedByOrdinal() {
+        assertThat(vets.convertToDatabaseColumn(EnumSet.of(VetSpecialty.INTERNAL_MEDICINE))).isEqualTo(1);
+        assertThat(vets.convertToDatabaseColumn(EnumSet.of(VetSpecialty.SURGERY, VetSpecialty.GENERAL)))
+                .isEqualTo(0b1000_0010);
+        assertThat(works.convertToEntityAttribute(0b1001)).containsExactly(PetsitterWork.WALK, PetsitterWork.ALL);
+        // 알 수 없는 상위 비트는 무시
+        assertThat(works.convertToEntityAttribute(1 << 20)).isEmpty();
+    }
+
+    @Test
+    void nullMeansNotMigratedAndEmptyIsZero() {
+        assertThat(vets.convertToDatabaseColumn(null)).isNull();
+        assertThat(vets.convertToEntityAttribute(null)).isNull();
+        assertThat(vets.convertToDatabaseColumn(EnumSet.noneOf(VetSpecialty.class))).isZero();
+    }
+
+    @Test
+    void legacyCsvIsParsedAndWrittenInDeclarationOrder() {
+        assertThat(vets.fromCsv(" dermatology,SURGERY,,UNKNOWN "))
+                .containsExactly(VetSpecialty.SURGERY, VetSpecialty.DERMATOLOGY);
+        assertThat(vets.fromCsv(null)).isEmpty();
+        assertThat(EnumSetMaskConverter.toCsv(EnumSet.of(PetsitterWork.HYGIENE, PetsitterWork.WALK)))
+                .isEqualTo("WALK,HYGIENE");
+        assertThat(EnumSetMaskConverter.toCsv(EnumSet.noneOf(PetsitterWork.class))).isNull();
+    }
+
+    @Test
+    void schemaBackfillUsesTheSameBitsAsTheConverters() throws IOException {
+        // FIND_IN_SET 백필의 "<< n" 이 enum 선언 순서와 어긋나면 이관된 행의 의미가 바뀐다
+        String sql = Files.readString(SCHEMA);
+        assertThat(backfillBits(sql, "vet_specialty")).hasSize(2).allSatisfy(bits -> {
+            assertThat(bits).hasSize(VetSpecialty.values().length);
+            bits.forEach((name, bit) -> assertThat(VetSpecialty.valueOf(name).ordinal()).as(name).isEqualTo(bit));
+        });
+        assertThat(backfillBits(sql, "petsitter_work")).hasSize(2).allSatisfy(bits -> {
+            assertThat(bits).hasSize(PetsitterWork.values().length);
+            bits.forEach((name, bit) -> assertThat(PetsitterWork.valueOf(name).ordinal()).as(name).isEqualTo(bit));
+        });
+    }
+
+    // "`column_mask` = (FIND_IN_SET('NAME', `column`) > 0) << n | ..." 식 하나당 {NAME → n}
+    private static List<Map<String, Integer>> backfillBits(String sql, String column) {
+        Pattern assignment = Pattern.compile("`" + column + "_mask` =((?:\\s*\\|?\\s*\\(FIND_IN_SET\\([^)]*\\) > 0\\) << \\d+)+)");
+        Pattern term = Pattern.compile("FIND_IN_SET\\('(\\w+)',\\s*`" + column + "`\\) > 0\\) << (\\d+)");
+        List<Map<String, Integer>> result = new ArrayList<>();
+        Matcher m = assignment.matcher(sql);
+        while (m.find()) {
+            Map<String, Integer> bits = new LinkedHashMap<>();
+            Matcher t = term.matcher(m.group(1));
+            while (t.find()) {
+                bits.put(t.group(1), Integer.parseInt(t.group(2)));
+            }
+            result.add(bits);
+        }
+        return result;
+    }
+}
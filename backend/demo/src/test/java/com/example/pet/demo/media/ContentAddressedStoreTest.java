@@ -0,0 +1,200 @@
+package com.example.pet.demo.media;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.example.pet.demo.media.FileStorageService.ImageCategory;
+import com.example.pet.demo.media.domain.port.MediaBlobPort;
+import com.example.pet.demo.media.domain.port.MediaReferencePort;
+
+class ContentAddressedStoreTest {
+
+    @TempDir Path base;
+
+    private final InMemoryBlobs blobs = new InMemoryBlobs();
+    private final List<String> petRows = new CopyOnWriteArrayList<>();
+    private final List<String> reservationRows = new CopyOnWriteArrayList<>();
+    private final ImageVariantService variants = mock(ImageVariantService.class);
+    private ContentAddressedStore store;
+    private FileStorageService files;
+
+    @BeforeEach
+    void setUp() {
+        List<MediaReferencePort> references = List.of(
+                fragment -> petRows.stream().filter(v -> v.contains(fragment)).toList(),
+                fragment -> reservationRows.stream().filter(v -> v.contains(fragment)).toList());
+        store = new ContentAddressedStore(base.toString(), blobs, variants, references, Duration.ofDays(1));
+        files = new FileStorageService(variants, store);
+        ReflectionTestUtils.setField(files, "basePath", base.toString());
+        ReflectionTestUtils.setField(files, "contentAddressed", true);
+        ReflectionTestUtils.setField(files, "maxUploadSize", DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void samePhotoForDifferentOwnersIsStoredOnce() throws Exception {
+        String reservation = files.save(ImageCategory.RESERVATION, 1L, upload("a.jpg", "same-photo"));
+        String pet = files.save(ImageCategory.PETS, 2L, upload("b.jpg", "same-photo"));
+        String profile = files.save(ImageCategory.USERS, 3L, upload("c.JPG", "same-photo"));
+        String other = files.save(ImageCategory.PETS, 2L, upload("d.jpg", "other-photo"));
+
+        assertThat(reservation).isEqualTo(pet).isEqualTo(profile)
+                .matches("/media/blobs/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.jpg");
+        assertThat(other).isNotEqualTo(pet);
+        assertThat(storedFiles()).hasSize(2);
+        assertThat(blobs.uploadedAt).hasSize(2);
+        verify(variants, times(2)).submit(any());
+        assertThat(base.resolve(".tmp")).doesNotExist();
+        try (Stream<Path> tmp = Files.list(base.resolve("blobs/.tmp"))) {
+            assertThat(tmp).isEmpty();
+        }
+    }
+
+    @Test
+    void deletingOneOfSeveralRowsSharingAUrlKeepsTheFile() throws Exception {
+        String url = files.save(ImageCategory.PETS, 1L, upload("a.png", "shared"));
+        petRows.add(url); // 일괄 등록이 같은 URL 을 두 행에 저장
+        petRows.add(url);
+        Path blob = base.resolve(url.substring("/media/".length()));
+        LocalDateTime afterGrace = LocalDateTime.now().plusDays(2);
+
+        petRows.remove(url);
+        assertThat(files.deleteByUrl(url)).isFalse();
+        assertThat(store.sweepOnce(afterGrace)).isZero();
+        assertThat(blob).exists();
+
+        petRows.remove(url);
+        assertThat(store.sweepOnce(afterGrace)).isEqualTo(1);
+        assertThat(blob).doesNotExist();
+        verify(variants).deleteVariants(blob);
+        assertThat(blobs.uploadedAt).isEmpty();
+    }
+
+    @Test
+    void uploadThatNoRowEverReferencesIsSweptAfterGrace() throws Exception {
+        String url = files.save(ImageCategory.PETS, 1L, upload("a.jpg", "abandoned"));
+        Path blob = base.resolve(url.substring("/media/".length()));
+
+        // 아직 행 저장 전일 수 있는 최근 업로드는 건드리지 않는다
+        assertThat(store.sweepOnce(LocalDateTime.now().minusDays(1))).isZero();
+        assertThat(blob).exists();
+
+        assertThat(store.sweepOnce(LocalDateTime.now().plusSeconds(1))).isEqualTo(1);
+        assertThat(blob).doesNotExist();
+    }
+
+    @Test
+    void reuploadRestartsGraceAndCsvReferencesCount() throws Exception {
+        String kept = files.save(ImageCategory.RESERVATION, 1L, upload("a.jpg", "in-csv"));
+        String other = files.save(ImageCategory.RESERVATION, 1L, upload("b.jpg", "also-in-csv"));
+        reservationRows.add(kept + "," + other);
+        String again = files.save(ImageCategory.PETS, 1L, upload("c.jpg", "again"));
+        LocalDateTime cutoff = LocalDateTime.now().plusNanos(1_000);
+        Thread.sleep(5);
+        files.save(ImageCategory.PETS, 2L, upload("d.jpg", "again")); // 같은 사진 재업로드 → uploaded_at 갱신
+
+        assertThat(store.sweepOnce(cutoff)).isZero();
+        assertThat(storedFiles()).hasSize(3);
+        assertThat(again).startsWith(ContentAddressedStore.URL_PREFIX);
+        verify(variants, never()).deleteVariants(any());
+    }
+
+    @Test
+    void concurrentUploadsOfSamePhotoKeepOneFile() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                long owner = i;
+                results.add(pool.submit(() -> files.save(ImageCategory.PETS, owner, upload("p.jpg", "burst"))));
+            }
+            for (Future<String> r : results) {
+                assertThat(r.get()).isEqualTo(results.get(0).get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(storedFiles()).hasSize(1);
+        assertThat(blobs.uploadedAt).hasSize(1);
+    }
+
+    @Test
+    void legacyUuidModeStillWritesPerUpload() throws Exception {
+        ReflectionTestUtils.setField(files, "contentAddressed", false);
+
+        String a = files.save(ImageCategory.PETS, 1L, upload("a.png", "same"));
+        String b = files.save(ImageCategory.PETS, 1L, upload("b.png", "same"));
+
+        assertThat(a).startsWith("/media/pets/1/").isNotEqualTo(b);
+        assertThat(files.deleteByUrl(a)).isTrue();
+        assertThat(blobs.uploadedAt).isEmpty();
+    }
+
+    private List<Path> storedFiles() throws Exception {
+        try (Stream<Path> walk = Files.walk(base.resolve("blobs"))) {
+            return walk.filter(Files::isRegularFile).filter(p -> !p.startsWith(base.resolve("blobs/.tmp"))).toList();
+        }
+    }
+
+    // 형식은 첫 바이트로 판단하므로 확장자에 맞는 매직 넘버를 앞에 붙인다
+    private static MockMultipartFile upload(String name, String content) {
+        byte[] magic = name.endsWith(".png")
+                ? new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' }
+                : new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0 };
+        byte[] body = content.getBytes();
+        byte[] bytes = Arrays.copyOf(magic, magic.length + body.length);
+        System.arraycopy(body, 0, bytes, magic.length, body.length);
+        return new MockMultipartFile("file", name, "application/octet-stream", bytes);
+    }
+
+    // media_blob 의 upsert / keyset 조회 / 조건부 삭제와 같은 의미
+    private static final class InMemoryBlobs implements MediaBlobPort {
+        final Map<String, LocalDateTime> uploadedAt = new ConcurrentHashMap<>();
+
+        @Override
+        public void touch(String blobKey, long sizeBytes, LocalDateTime now) {
+            uploadedAt.put(blobKey, now);
+        }
+
+        @Override
+        public List<String> findUploadedBefore(LocalDateTime cutoff, String afterKey, int limit) {
+            return uploadedAt.entrySet().stream()
+                    .filter(e -> e.getValue().isBefore(cutoff) && e.getKey().compareTo(afterKey) > 0)
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public boolean deleteIfUploadedBefore(String blobKey, LocalDateTime cutoff) {
+            LocalDateTime at = uploadedAt.get(blobKey);
+            return at != null && at.isBefore(cutoff) && uploadedAt.remove(blobKey, at);
+        }
+    }
+}
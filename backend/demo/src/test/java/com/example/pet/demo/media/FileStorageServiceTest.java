@@ -0,0 +1,107 @@
+package com.example.pet.demo.media;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.example.pet.demo.media.FileStorageService.ImageCategory;
+
+class FileStorageServiceTest {
+    private static final byte[] JPEG = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0 };
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+    @TempDir Path base;
+
+    private final ImageVariantService variants = mock(ImageVariantService.class);
+    private FileStorageService files;
+
+    @BeforeEach
+    void setUp() {
+        files = new FileStorageService(variants, mock(ContentAddressedStore.class));
+        ReflectionTestUtils.setField(files, "basePath", base.toString());
+        ReflectionTestUtils.setField(files, "maxUploadSize", DataSize.ofKilobytes(64));
+    }
+
+    @Test
+    void streamedBodyIsWrittenOnceToItsFinalLocation() throws Exception {
+        byte[] body = image(PNG, 40_000);
+
+        String url = files.savePetImage(7L, new ByteArrayInputStream(body), (long) body.length);
+
+        assertThat(url).matches("/media/pets/7/[0-9a-f-]{36}\\.png");
+        Path stored = base.resolve(url.substring("/media/".length()));
+        assertThat(Files.readAllBytes(stored)).isEqualTo(body);
+        assertThat(filesUnder(base)).containsExactly(stored); // 임시 파일 없음
+        verify(variants).submit(stored);
+    }
+
+    @Test
+    void typeComesFromMagicBytesNotFileName() throws Exception {
+        MockMultipartFile jpegNamedPng = new MockMultipartFile("file", "photo.png", "image/png", image(JPEG, 100));
+        MockMultipartFile textNamedJpg = new MockMultipartFile("file", "photo.jpg", "image/jpeg",
+                "<?php echo 1; ?>".getBytes());
+
+        assertThat(files.save(ImageCategory.USERS, 1L, jpegNamedPng)).endsWith(".jpg");
+        assertThatThrownBy(() -> files.save(ImageCategory.USERS, 1L, textNamedJpg))
+                .hasMessage("UNSUPPORTED_IMAGE_TYPE");
+        assertThatThrownBy(() -> files.saveUserImage(1L, new ByteArrayInputStream("GIF89a..".getBytes()), 8L))
+                .hasMessage("UNSUPPORTED_IMAGE_TYPE");
+        assertThatThrownBy(() -> files.saveUserImage(1L, InputStream.nullInputStream(), 0L))
+                .hasMessage("file is empty");
+    }
+
+    @Test
+    void declaredOversizeBodyIsRejectedBeforeReading() {
+        InputStream unread = mock(InputStream.class);
+
+        assertThatThrownBy(() -> files.saveReservationImage(3L, unread, 65L * 1024 + 1))
+                .hasMessage("FILE_TOO_LARGE");
+        verify(variants, never()).submit(any());
+        assertThat(base.resolve("reservation")).doesNotExist();
+    }
+
+    @Test
+    void undeclaredOversizeBodyIsCutOffWhileStreamingAndLeavesNoFile() throws Exception {
+        byte[] body = image(JPEG, 64 * 1024 + 1);
+
+        assertThatThrownBy(() -> files.saveReservationImage(3L, new ByteArrayInputStream(body), null))
+                .hasMessage("FILE_TOO_LARGE");
+        assertThat(filesUnder(base)).isEmpty();
+        verify(variants, never()).submit(any());
+
+        byte[] exact = image(JPEG, 64 * 1024);
+        assertThat(files.saveReservationImage(3L, new ByteArrayInputStream(exact), null)).endsWith(".jpg");
+    }
+
+    private static byte[] image(byte[] magic, int size) {
+        byte[] bytes = Arrays.copyOf(magic, size);
+        for (int i = magic.length; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static List<Path> filesUnder(Path dir) throws Exception {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            return walk.filter(Files::isRegularFile).toList();
+        }
+    }
+}
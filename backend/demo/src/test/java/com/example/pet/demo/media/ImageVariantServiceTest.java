@@ -0,0 +1,219 @@
+package com.example.pet.demo.media;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageVariantServiceTest {
+
+    @TempDir Path base;
+
+    private final ImageVariantService service = new ImageVariantService(1, 4, 0.8f);
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.shutdown();
+    }
+
+    @Test
+    void thumbIsSquareCropAndMediumKeepsAspectWithoutExif() throws Exception {
+        Path original = Files.createDirectories(base.resolve("pets/1")).resolve("a.png");
+        ImageIO.write(solid(1600, 1000, Color.GREEN), "png", original.toFile());
+
+        service.generate(original);
+
+        BufferedImage thumb = ImageIO.read(base.resolve("pets/1/a_thumb.jpg").toFile());
+        BufferedImage medium = ImageIO.read(base.resolve("pets/1/a_medium.jpg").toFile());
+        assertThat(thumb.getWidth()).isEqualTo(200);
+        assertThat(thumb.getHeight()).isEqualTo(200);
+        assertThat(medium.getWidth()).isEqualTo(800);
+        assertThat(medium.getHeight()).isEqualTo(500);
+        assertThat(ImageVariantService.readExifOrientation(Files.newInputStream(base.resolve("pets/1/a_medium.jpg"))))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void smallImagesAreNotUpscaled() throws Exception {
+        Path original = Files.createDirectories(base.resolve("users/2")).resolve("b.jpg");
+        ImageIO.write(solid(120, 90, Color.GRAY), "jpg", original.toFile());
+
+        service.generate(original);
+
+        BufferedImage medium = ImageIO.read(base.resolve("users/2/b_medium.jpg").toFile());
+        BufferedImage thumb = ImageIO.read(base.resolve("users/2/b_thumb.jpg").toFile());
+        assertThat(medium.getWidth()).isEqualTo(120);
+        assertThat(thumb.getWidth()).isEqualTo(90);
+        assertThat(thumb.getHeight()).isEqualTo(90);
+    }
+
+    @Test
+    void exifOrientationIsReadAndApplied() throws Exception {
+        // 가로 100x50: 왼쪽 빨강, 오른쪽 파랑. Orientation 6(시계 90도) → 세로 50x100, 위 빨강 / 아래 파랑
+        BufferedImage src = new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = src.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 50, 50);
+        g.setColor(Color.BLUE);
+        g.fillRect(50, 0, 50, 50);
+        g.dispose();
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(src, "jpg", jpeg);
+        byte[] withExif = insertExifOrientation(jpeg.toByteArray(), 6);
+
+        assertThat(ImageVariantService.readExifOrientation(new ByteArrayInputStream(withExif))).isEqualTo(6);
+        assertThat(ImageVariantService.readExifOrientation(new ByteArrayInputStream(jpeg.toByteArray()))).isEqualTo(1);
+
+        Path original = Files.createDirectories(base.resolve("pets/3")).resolve("c.jpg");
+        Files.write(original, withExif);
+        service.generate(original);
+
+        BufferedImage medium = ImageIO.read(base.resolve("pets/3/c_medium.jpg").toFile());
+        assertThat(medium.getWidth()).isEqualTo(50);
+        assertThat(medium.getHeight()).isEqualTo(100);
+        assertThat(new Color(medium.getRGB(25, 10)).getRed()).isGreaterThan(200);
+        assertThat(new Color(medium.getRGB(25, 90)).getBlue()).isGreaterThan(200);
+    }
+
+    @Test
+    void submitGeneratesInBackground() throws Exception {
+        Path original = Files.createDirectories(base.resolve("article/4")).resolve("d.png");
+        ImageIO.write(solid(400, 400, Color.WHITE), "png", original.toFile());
+
+        assertThat(service.submit(original)).isTrue();
+        for (int i = 0; i < 100 && service.generatedCount() < 1; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(base.resolve("article/4/d_thumb.jpg")).exists();
+
+        service.deleteVariants(original);
+        assertThat(base.resolve("article/4/d_thumb.jpg")).doesNotExist();
+        assertThat(base.resolve("article/4/d_medium.jpg")).doesNotExist();
+    }
+
+    @Test
+    void variantSkippedOnAFullQueueIsGeneratedWhenRequestedAgain() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Set<Path> started = ConcurrentHashMap.newKeySet();
+        // 생성 스레드 1개 + 대기열 1칸, 첫 작업은 풀어줄 때까지 붙잡는다
+        ImageVariantService busy = new ImageVariantService(1, 1, 0.8f) {
+            @Override
+            void generate(Path original) throws IOException {
+                started.add(original);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.generate(original);
+            }
+        };
+        try {
+            Path dir = Files.createDirectories(base.resolve("pets/5"));
+            Path[] originals = new Path[3];
+            for (int i = 0; i < originals.length; i++) {
+                originals[i] = dir.resolve("e" + i + ".png");
+                ImageIO.write(solid(300, 300, Color.BLUE), "png", originals[i].toFile());
+            }
+            assertThat(busy.submit(originals[0])).isTrue();
+            for (int i = 0; i < 250 && started.isEmpty(); i++) {
+                Thread.sleep(20);
+            }
+            assertThat(busy.submit(originals[1])).isTrue();
+            assertThat(busy.submit(originals[2])).isFalse();   // 건너뜀
+            assertThat(busy.regenerate(originals[1])).isTrue(); // 이미 대기 중 → 중복으로 넣지 않음
+            assertThat(busy.rejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            for (int i = 0; i < 250 && busy.generatedCount() < 2; i++) {
+                Thread.sleep(20);
+            }
+            assertThat(busy.generatedCount()).isEqualTo(2);
+            assertThat(base.resolve("pets/5/e2_thumb.jpg")).doesNotExist();
+
+            // 원본이 대신 서빙되면 다시 요청된다
+            assertThat(busy.regenerate(originals[2])).isTrue();
+            for (int i = 0; i < 250 && busy.generatedCount() < 3; i++) {
+                Thread.sleep(20);
+            }
+            assertThat(base.resolve("pets/5/e2_thumb.jpg")).exists();
+        } finally {
+            release.countDown();
+            busy.shutdown();
+        }
+    }
+
+    @Test
+    void corruptOriginalIsNotRequeuedAfterItFailsToDecode() throws Exception {
+        // PNG 시그니처만 맞고 내용은 깨진 업로드 (형식 검사는 통과)
+        Path original = Files.createDirectories(base.resolve("pets/6")).resolve("broken.png");
+        byte[] bytes = new byte[64];
+        System.arraycopy(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' }, 0, bytes, 0, 8);
+        Files.write(original, bytes);
+
+        assertThat(service.regenerate(original)).isTrue();
+        for (int i = 0; i < 250 && service.failedCount() < 1; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(service.failedCount()).isEqualTo(1);
+        assertThat(service.undecodableCount()).isEqualTo(1);
+
+        // 이후 요청은 다시 디코딩하지 않는다
+        for (int i = 0; i < 5; i++) {
+            assertThat(service.regenerate(original)).isFalse();
+        }
+        assertThat(service.queued()).isZero();
+        Thread.sleep(50);
+        assertThat(service.failedCount()).isEqualTo(1);
+
+        // 원본을 지우면 기록도 지운다
+        service.deleteVariants(original);
+        assertThat(service.undecodableCount()).isZero();
+    }
+
+    private static BufferedImage solid(int w, int h, Color color) {
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, w, h);
+        g.dispose();
+        return image;
+    }
+
+    // SOI 바로 뒤에 Orientation 한 개짜리 APP1(Exif, big-endian TIFF) 삽입
+    private static byte[] insertExifOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,          // 헤더, IFD0 오프셋 8
+                0, 1,                                  // 엔트리 1개
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, // Orientation SHORT
+                0, 0, 0, 0                             // 다음 IFD 없음
+        };
+        int length = 2 + 6 + tiff.length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(new byte[] { 'E', 'x', 'i', 'f', 0, 0 });
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.pet.demo.media;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class MediaFileServerTest {
+    private static final String UUID_NAME = "3f2b8c1e-1111-4a2b-9c3d-0123456789ab";
+
+    @TempDir Path base;
+
+    private final ImageVariantService variants = mock(ImageVariantService.class);
+    private MediaFileServer server;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MediaFileServer(base.toString(), variants);
+        content = new byte[100_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Files.write(Files.createDirectories(base.resolve("pets/1")).resolve(UUID_NAME + ".png"), content);
+    }
+
+    @Test
+    void uuidFileIsServedWithStrongEtagAndImmutableCaching() throws Exception {
+        MockHttpServletResponse res = get("pets/1/" + UUID_NAME + ".png", null);
+
+        assertThat(res.getStatus()).isEqualTo(200);
+        assertThat(res.getContentAsByteArray()).isEqualTo(content);
+        assertThat(res.getContentType()).isEqualTo("image/png");
+        assertThat(res.getHeader("Cache-Control")).isEqualTo("public, max-age=31536000, immutable");
+        assertThat(res.getHeader("ETag")).matches("\"[0-9a-f]+-[0-9a-f]+\"");
+        assertThat(res.getHeader("Accept-Ranges")).isEqualTo("bytes");
+
+        MockHttpServletRequest again = request("pets/1/" + UUID_NAME + ".png");
+        again.addHeader("If-None-Match", "\"other\", " + res.getHeader("ETag"));
+        MockHttpServletResponse revalidated = serve(again);
+        assertThat(revalidated.getStatus()).isEqualTo(304);
+        assertThat(revalidated.getContentLength()).isZero();
+        assertThat(revalidated.getHeader("ETag")).isEqualTo(res.getHeader("ETag"));
+    }
+
+    @Test
+    void blobEtagIsItsContentHashAndSharedFilesRevalidate() throws Exception {
+        String hash = "ab".repeat(32);
+        Files.write(Files.createDirectories(base.resolve("blobs/ab/ab")).resolve(hash + ".jpg"), new byte[] { 1 });
+        Files.write(Files.createDirectories(base.resolve("default")).resolve("pet-placeholder.png"), new byte[] { 2 });
+
+        assertThat(get("blobs/ab/ab/" + hash + ".jpg", null).getHeader("ETag")).isEqualTo("\"" + hash + "\"");
+        assertThat(get("default/pet-placeholder.png", null).getHeader("Cache-Control")).isEqualTo("public, no-cache");
+    }
+
+    @Test
+    void singleRangesAreServedAsPartialContent() throws Exception {
+        String path = "pets/1/" + UUID_NAME + ".png";
+
+        MockHttpServletResponse middle = get(path, "bytes=10-19");
+        assertThat(middle.getStatus()).isEqualTo(206);
+        assertThat(middle.getHeader("Content-Range")).isEqualTo("bytes 10-19/100000");
+        assertThat(middle.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 10, 20));
+
+        MockHttpServletResponse tail = get(path, "bytes=-5");
+        assertThat(tail.getHeader("Content-Range")).isEqualTo("bytes 99995-99999/100000");
+        assertThat(tail.getContentAsByteArray()).hasSize(5);
+
+        MockHttpServletResponse open = get(path, "bytes=99990-");
+        assertThat(open.getContentLength()).isEqualTo(10);
+
+        MockHttpServletResponse beyond = get(path, "bytes=200000-");
+        assertThat(beyond.getStatus()).isEqualTo(416);
+        assertThat(beyond.getHeader("Content-Range")).isEqualTo("bytes */100000");
+
+        assertThat(get(path, "bytes=0-1,5-6").getStatus()).isEqualTo(200); // 여러 구간은 전체로
+    }
+
+    @Test
+    void staleIfRangeFallsBackToFullBody() throws Exception {
+        MockHttpServletRequest req = request("pets/1/" + UUID_NAME + ".png");
+        req.addHeader("Range", "bytes=0-9");
+        req.addHeader("If-Range", "\"stale\"");
+
+        MockHttpServletResponse res = serve(req);
+
+        assertThat(res.getStatus()).isEqualTo(200);
+        assertThat(res.getContentAsByteArray()).hasSize(content.length);
+    }
+
+    @Test
+    void largeBodiesAreHandedToTomcatSendfile() throws Exception {
+        MockHttpServletRequest req = request("pets/1/" + UUID_NAME + ".png");
+        req.setAttribute(MediaFileServer.SENDFILE_SUPPORT, Boolean.TRUE);
+        req.addHeader("Range", "bytes=100-60099");
+
+        MockHttpServletResponse res = serve(req);
+
+        assertThat(res.getStatus()).isEqualTo(206);
+        assertThat(res.getContentAsByteArray()).isEmpty(); // 본문은 서블릿이 아니라 커넥터가 보낸다
+        assertThat(res.getContentLengthLong()).isEqualTo(60_000);
+        assertThat(req.getAttribute(MediaFileServer.SENDFILE_FILENAME))
+                .isEqualTo(base.resolve("pets/1/" + UUID_NAME + ".png").toFile().getCanonicalPath());
+        assertThat(req.getAttribute(MediaFileServer.SENDFILE_START)).isEqualTo(100L);
+        assertThat(req.getAttribute(MediaFileServer.SENDFILE_END)).isEqualTo(60_100L);
+    }
+
+    @Test
+    void variantIsServedWhenReadyAndOriginalUntilThen() throws Exception {
+        String original = "pets/1/" + UUID_NAME + ".png";
+        MockHttpServletRequest thumb = request(original);
+        thumb.setParameter("variant", "thumb");
+
+        MockHttpServletResponse pending = serve(thumb);
+        assertThat(pending.getContentAsByteArray()).isEqualTo(content);
+        assertThat(pending.getHeader("Cache-Control")).isEqualTo("public, no-cache"); // 곧 축소본으로 바뀜
+        assertThat(get("pets/1/" + UUID_NAME + "_thumb.jpg", null).getContentAsByteArray()).isEqualTo(content);
+        // 원본이 대신 나가는 동안은 축소본 생성을 다시 요청한다 (업로드 때 대기열이 차서 건너뛴 경우)
+        verify(variants, times(2)).regenerate(base.resolve(original));
+
+        Files.write(base.resolve("pets/1/" + UUID_NAME + "_thumb.jpg"), new byte[] { 9 });
+        MockHttpServletResponse ready = serve(thumb);
+        assertThat(ready.getContentAsByteArray()).containsExactly(9);
+        assertThat(ready.getContentType()).isEqualTo("image/jpeg");
+        assertThat(ready.getHeader("Cache-Control")).isEqualTo("public, max-age=31536000, immutable");
+        assertThat(get("pets/1/missing_thumb.jpg", null).getStatus()).isEqualTo(404);
+        verify(variants, times(2)).regenerate(any());
+
+        // 업로드 원본이 아닌 공용 이미지는 축소본을 만들지 않는다
+        Files.write(Files.createDirectories(base.resolve("default")).resolve("pet-placeholder.png"), new byte[] { 2 });
+        MockHttpServletRequest placeholder = request("default/pet-placeholder.png");
+        placeholder.setParameter("variant", "medium");
+        assertThat(serve(placeholder).getContentAsByteArray()).containsExactly(2);
+        verify(variants, times(2)).regenerate(any());
+    }
+
+    @Test
+    void pathsOutsideBaseOrHiddenAreNotFound() throws Exception {
+        Files.write(Files.createDirectories(base.resolve("blobs/.tmp")).resolve("upload-1.part"), new byte[] { 1 });
+
+        assertThat(get("../secret.txt", null).getStatus()).isEqualTo(404);
+        assertThat(get("blobs/.tmp/upload-1.part", null).getStatus()).isEqualTo(404);
+        assertThat(get("pets/1", null).getStatus()).isEqualTo(404);
+
+        MockHttpServletRequest post = request("pets/1/" + UUID_NAME + ".png");
+        post.setMethod("POST");
+        assertThat(serve(post).getStatus()).isEqualTo(405);
+    }
+
+    @Test
+    void headReturnsHeadersOnly() throws Exception {
+        MockHttpServletRequest head = request("pets/1/" + UUID_NAME + ".png");
+        head.setMethod("HEAD");
+
+        MockHttpServletResponse res = serve(head);
+
+        assertThat(res.getStatus()).isEqualTo(200);
+        assertThat(res.getContentLengthLong()).isEqualTo(content.length);
+        assertThat(res.getContentAsByteArray()).isEmpty();
+    }
+
+    private MockHttpServletResponse get(String path, String range) throws Exception {
+        MockHttpServletRequest req = request(path);
+        if (range != null) {
+            req.addHeader("Range", range);
+        }
+        return serve(req);
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", "/media/" + path);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest req) throws Exception {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        server.serve(req, res, req.getRequestURI().substring("/media/".length()));
+        return res;
+    }
+}
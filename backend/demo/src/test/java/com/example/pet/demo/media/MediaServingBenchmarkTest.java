@@ -0,0 +1,197 @@
+package com.example.pet.demo.media;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 기존 정적 리소스 핸들러(/legacy) vs MediaFileServer(/media) - 실제 Tomcat 소켓 위에서.
+ * 1) 큰 파일 동시 다운로드 처리량  2) 같은 화면 재방문(썸네일 50장): 기존은 매번 전체, 새 핸들러는 ETag 재검증(304)
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class MediaServingBenchmarkTest {
+    private static final int LARGE_BYTES = 8 * 1024 * 1024;
+    private static final int THREADS = 4;
+    private static final int DOWNLOADS = 48;
+    private static final int THUMBS = 50;
+    private static final int THUMB_BYTES = 30 * 1024;
+    private static final int VISITS = 20;
+
+    @TempDir Path base;
+    @TempDir Path tomcatDir;
+
+    private Tomcat tomcat;
+    private HttpClient client;
+    private String origin;
+    private String large;
+    private final List<String> thumbs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Random random = new Random(42);
+        Path dir = Files.createDirectories(base.resolve("pets/1"));
+        byte[] bytes = new byte[LARGE_BYTES];
+        random.nextBytes(bytes);
+        large = "pets/1/" + UUID.randomUUID() + ".png";
+        Files.write(base.resolve(large), bytes);
+        for (int i = 0; i < THUMBS; i++) {
+            byte[] thumb = new byte[THUMB_BYTES];
+            random.nextBytes(thumb);
+            String name = UUID.randomUUID() + "_thumb.jpg";
+            Files.write(dir.resolve(name), thumb);
+            thumbs.add("pets/1/" + name);
+        }
+
+        ResourceHttpRequestHandler legacy = new ResourceHttpRequestHandler();
+        legacy.setLocations(List.of(new FileSystemResource(base.toString() + "/")));
+        legacy.afterPropertiesSet();
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(tomcatDir.toString());
+        tomcat.setPort(0);
+        Context ctx = tomcat.addContext("", null);
+        Tomcat.addServlet(ctx, "legacy", new HandlerServlet(legacy));
+        ctx.addServletMappingDecoded("/legacy/*", "legacy");
+        Tomcat.addServlet(ctx, "media", new HandlerServlet(new MediaFileServer(base.toString(), mock(ImageVariantService.class))));
+        ctx.addServletMappingDecoded("/media/*", "media");
+        tomcat.getConnector(); // 기본 NIO 커넥터 (sendfile 지원)
+        tomcat.start();
+        origin = "http://localhost:" + tomcat.getConnector().getLocalPort();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Test
+    void legacyHandlerVersusMediaFileServer() throws Exception {
+        // 워밍업
+        download("legacy", 8);
+        download("media", 8);
+        revisit("legacy", 2);
+        revisit("media", 2);
+
+        long legacyNanos = download("legacy", DOWNLOADS);
+        long mediaNanos = download("media", DOWNLOADS);
+        double mb = (double) LARGE_BYTES * DOWNLOADS / (1024 * 1024);
+        System.out.printf("[benchmark] %d x 8 MB downloads, %d threads: legacy %.0f MB/s, media %.0f MB/s (x%.2f)%n",
+                DOWNLOADS, THREADS, mb / (legacyNanos / 1e9), mb / (mediaNanos / 1e9),
+                (double) legacyNanos / mediaNanos);
+
+        long[] legacyVisit = revisit("legacy", VISITS);
+        long[] mediaVisit = revisit("media", VISITS);
+        System.out.printf("[benchmark] %d repeat visits x %d thumbs: legacy %.2f ms/visit %d KB, "
+                        + "media %.2f ms/visit %d KB (x%.1f)%n",
+                VISITS, THUMBS,
+                legacyVisit[0] / 1e6 / VISITS, legacyVisit[1] / 1024,
+                mediaVisit[0] / 1e6 / VISITS, mediaVisit[1] / 1024,
+                (double) legacyVisit[0] / mediaVisit[0]);
+        assertThat(legacyVisit[1]).isEqualTo((long) THUMB_BYTES * THUMBS * VISITS);
+        assertThat(mediaVisit[1]).isZero();
+    }
+
+    private long download(String prefix, int count) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            long t0 = System.nanoTime();
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                results.add(pool.submit(() -> fetch(prefix, large, null)[1]));
+            }
+            for (Future<Long> r : results) {
+                assertThat(r.get()).isEqualTo(LARGE_BYTES);
+            }
+            return System.nanoTime() - t0;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // 첫 방문으로 검증자를 받아 두고, 이후 방문은 브라우저처럼 조건부 요청 → {걸린 시간, 받은 본문 바이트}
+    private long[] revisit(String prefix, int visits) throws Exception {
+        List<String> etags = new ArrayList<>();
+        for (String thumb : thumbs) {
+            etags.add(client.send(request(prefix, thumb, null), HttpResponse.BodyHandlers.discarding())
+                    .headers().firstValue("ETag").orElse(null));
+        }
+        long bytes = 0;
+        long t0 = System.nanoTime();
+        for (int v = 0; v < visits; v++) {
+            for (int i = 0; i < thumbs.size(); i++) {
+                bytes += fetch(prefix, thumbs.get(i), etags.get(i))[1];
+            }
+        }
+        return new long[] { System.nanoTime() - t0, bytes };
+    }
+
+    private long[] fetch(String prefix, String path, String etag) throws IOException, InterruptedException {
+        HttpResponse<InputStream> res = client.send(request(prefix, path, etag), HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream in = res.body()) {
+            return new long[] { res.statusCode(), in.transferTo(OutputStream.nullOutputStream()) };
+        }
+    }
+
+    private HttpRequest request(String prefix, String path, String etag) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(origin + "/" + prefix + "/" + path));
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        return builder.build();
+    }
+
+    // DispatcherServlet 없이 핸들러만: 매핑이 넣어 주는 경로 속성만 채운다
+    private static final class HandlerServlet extends HttpServlet {
+        private final transient HttpRequestHandler handler;
+
+        HandlerServlet(HttpRequestHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            req.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, req.getPathInfo().substring(1));
+            try {
+                handler.handleRequest(req, resp);
+            } catch (ServletException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
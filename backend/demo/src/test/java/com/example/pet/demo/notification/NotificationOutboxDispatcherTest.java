@@ -0,0 +1,144 @@
+package com.example.pet.demo.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.example.pet.demo.notification.domain.NotificationOutbox;
+import com.example.pet.demo.notification.domain.NotificationOutbox.EventType;
+import com.example.pet.demo.notification.domain.port.DeviceTokenPort;
+import com.example.pet.demo.notification.domain.port.NotificationOutboxPort;
+
+class NotificationOutboxDispatcherTest {
+
+    private NotificationOutboxPort outbox;
+    private DeviceTokenPort deviceTokens;
+    private FakePushSender sender;
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outbox = mock(NotificationOutboxPort.class);
+        deviceTokens = mock(DeviceTokenPort.class);
+        sender = new FakePushSender();
+        dispatcher = new NotificationOutboxDispatcher(outbox, sender, deviceTokens,
+                500, 2, 2, 3, Duration.ofSeconds(5), Duration.ofMinutes(1), Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void sendsDueMessagesInChunksAndMarksThemSentTogether() {
+        List<NotificationOutbox> due = List.of(message(1L, "t1", 0), message(2L, "t2", 0), message(3L, "t3", 0));
+        when(outbox.claimDue(any(), any(), anyInt())).thenReturn(due);
+
+        assertThat(dispatcher.drainOnce()).isEqualTo(3);
+
+        assertThat(sender.batchSizes).containsExactlyInAnyOrder(2, 1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(outbox).markSent(ids.capture(), any());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void retriesTransientFailuresWithBackoffAndDeadLettersPermanentOnes() {
+        sender.failures.put("flaky", PushResult.retryable("UNAVAILABLE", "try later"));
+        sender.failures.put("gone", PushResult.permanent("UNREGISTERED", "not registered"));
+        when(outbox.claimDue(any(), any(), anyInt()))
+                .thenReturn(List.of(message(1L, "flaky", 0), message(2L, "gone", 0)));
+
+        dispatcher.drainOnce();
+
+        ArgumentCaptor<LocalDateTime> next = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outbox).markRetry(eq(1L), eq(1), next.capture(), anyString());
+        assertThat(next.getValue()).isAfter(LocalDateTime.now().plusSeconds(3));
+        verify(outbox).markDead(eq(2L), eq(1), anyString());
+    }
+
+    @Test
+    void deadLettersAfterMaxAttempts() {
+        sender.failures.put("flaky", PushResult.retryable("UNAVAILABLE", "try later"));
+        when(outbox.claimDue(any(), any(), anyInt())).thenReturn(List.of(message(1L, "flaky", 2)));
+
+        dispatcher.drainOnce();
+
+        verify(outbox).markDead(eq(1L), eq(3), anyString());
+        verify(outbox, never()).markRetry(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void prunesTokensReportedUnregisteredOrInvalid() {
+        sender.failures.put("gone", PushResult.invalidToken("UNREGISTERED", "not registered"));
+        sender.failures.put("bad", PushResult.invalidToken("INVALID_ARGUMENT", "invalid token"));
+        sender.failures.put("auth", PushResult.permanent("THIRD_PARTY_AUTH_ERROR", "apns"));
+        when(outbox.claimDue(any(), any(), anyInt())).thenReturn(List.of(
+                message(1L, "gone", 0), message(2L, "bad", 0), message(3L, "auth", 0), message(4L, "ok", 0)));
+
+        dispatcher.drainOnce();
+
+        ArgumentCaptor<Collection<String>> pruned = ArgumentCaptor.forClass(Collection.class);
+        verify(deviceTokens).deleteByTokens(pruned.capture());
+        assertThat(pruned.getValue()).containsExactlyInAnyOrder("gone", "bad");
+        verify(outbox).markDead(eq(1L), eq(1), anyString());
+    }
+
+    @Test
+    void backoffGrowsExponentiallyUpToMax() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(dispatcher.backoff(10)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    private NotificationOutbox message(Long id, String token, int attempts) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .eventType(EventType.RESERVATION_ACCEPTED)
+                .userId(10L)
+                .targetToken(token)
+                .refId(100L + id)
+                .title("title")
+                .body("body")
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /** FCM 대신 쓰는 가짜 발송기: 토큰별로 미리 정한 실패를 돌려준다 */
+    static class FakePushSender implements PushSender {
+        final Map<String, PushResult> failures = new ConcurrentHashMap<>();
+        final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public synchronized List<PushResult> sendEach(List<PushMessage> messages) {
+            batchSizes.add(messages.size());
+            return messages.stream()
+                    .map(m -> failures.getOrDefault(m.token(), PushResult.ok()))
+                    .toList();
+        }
+    }
+}
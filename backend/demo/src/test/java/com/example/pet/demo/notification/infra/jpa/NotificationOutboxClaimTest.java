@@ -0,0 +1,108 @@
+package com.example.pet.demo.notification.infra.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.pet.demo.notification.domain.NotificationOutbox;
+import com.example.pet.demo.notification.domain.NotificationOutbox.EventType;
+
+@DataJpaTest
+@Import(NotificationOutboxJpaAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 디스패처마다 자기 트랜잭션으로 선점해야 경합이 재현된다
+class NotificationOutboxClaimTest {
+    private static final int MESSAGES = 60;
+    private static final int DISPATCHERS = 6;
+
+    @Autowired NotificationOutboxJpaAdapter adapter;
+    @Autowired NotificationOutboxJpaRepository repository;
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void concurrentDispatchersNeverClaimTheSameMessage() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < MESSAGES; i++) {
+            adapter.save(message(now.minusSeconds(1)));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(DISPATCHERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Long> claimed = new ArrayList<>();
+        try {
+            List<Future<List<NotificationOutbox>>> futures = new ArrayList<>();
+            for (int i = 0; i < DISPATCHERS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    List<NotificationOutbox> mine = new ArrayList<>();
+                    List<NotificationOutbox> batch;
+                    while (!(batch = adapter.claimDue(now, now.plusMinutes(5), 7)).isEmpty()) {
+                        mine.addAll(batch);
+                    }
+                    return mine;
+                }));
+            }
+            start.countDown();
+            for (Future<List<NotificationOutbox>> f : futures) {
+                f.get().forEach(m -> claimed.add(m.getId()));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(claimed).hasSize(MESSAGES).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void claimedMessageIsLeasedUntilItExpiresOrIsRescheduled() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Long id = adapter.save(message(now.minusSeconds(1))).getId();
+        Long later = adapter.save(message(now.plusMinutes(1))).getId();
+
+        List<NotificationOutbox> first = adapter.claimDue(now, now.plusMinutes(5), 10);
+        assertThat(first).extracting(NotificationOutbox::getId).containsExactly(id);
+        assertThat(first.get(0).getNextAttemptAt()).isEqualTo(now.plusMinutes(5));
+        assertThat(adapter.claimDue(now, now.plusMinutes(5), 10)).isEmpty();
+
+        // 선점한 인스턴스가 결과를 못 남기고 죽으면 lease 만료 후 다시 대상
+        LocalDateTime afterLease = now.plusMinutes(6);
+        assertThat(adapter.claimDue(afterLease, afterLease.plusMinutes(5), 10))
+                .extracting(NotificationOutbox::getId).containsExactly(id, later);
+
+        adapter.markSent(List.of(id), afterLease);
+        adapter.markRetry(later, 1, afterLease, "UNAVAILABLE");
+        assertThat(adapter.claimDue(afterLease, afterLease.plusMinutes(5), 10))
+                .extracting(NotificationOutbox::getId).containsExactly(later);
+    }
+
+    private static NotificationOutbox message(LocalDateTime nextAttemptAt) {
+        return NotificationOutbox.builder()
+                .eventType(EventType.RESERVATION_ACCEPTED)
+                .userId(10L)
+                .targetToken("token")
+                .refId(1L)
+                .title("title")
+                .body("body")
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(nextAttemptAt)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.pet.demo.pets.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.pet.demo.common.BoundedTtlCache;
+import com.example.pet.demo.pets.domain.Pet.AbitTypeCode;
+import com.example.pet.demo.pets.domain.Pet.Gender;
+import com.example.pet.demo.pets.domain.Pet.Species;
+import com.example.pet.demo.pets.domain.port.PetPersistencePort;
+import com.example.pet.demo.pets.domain.port.PetView;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OwnerPetCacheTest {
+
+    private final PetPersistencePort pets = mock(PetPersistencePort.class);
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+
+    @Test
+    void servesRepeatedReadsFromMemoryUntilInvalidated() {
+        OwnerPetCache cache = new OwnerPetCache(pets, meters, 100, 100, Duration.ofMinutes(5));
+        when(pets.findByOwnerId(1L)).thenReturn(List.of(pet(10L, 1L)));
+        when(pets.findById(10L)).thenReturn(Optional.of(pet(10L, 1L)));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.getByOwner(1L)).extracting(PetView::id).containsExactly(10L);
+            assertThat(cache.getById(10L)).isPresent();
+        }
+        verify(pets, times(1)).findByOwnerId(1L);
+        verify(pets, times(1)).findById(10L);
+        assertThat(count("owner", "hit")).isEqualTo(4);
+        assertThat(count("owner", "miss")).isEqualTo(1);
+
+        // 삭제 커밋 → 목록/단건 모두 다시 조회
+        cache.onPetChanged(new PetChangedEvent(1L, 10L));
+        when(pets.findByOwnerId(1L)).thenReturn(List.of());
+        when(pets.findById(10L)).thenReturn(Optional.empty());
+
+        assertThat(cache.getByOwner(1L)).isEmpty();
+        assertThat(cache.getById(10L)).isEmpty();
+        assertThat(cache.getById(10L)).isEmpty(); // 없는 펫은 캐시하지 않음
+        verify(pets, times(3)).findById(10L);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOwnersBeyondMaxSize() {
+        OwnerPetCache cache = new OwnerPetCache(pets, meters, 2, 2, Duration.ofMinutes(5));
+        when(pets.findByOwnerId(anyLong())).thenReturn(List.of());
+
+        cache.getByOwner(1L);
+        cache.getByOwner(2L);
+        cache.getByOwner(1L); // 1 이 최근 사용
+        cache.getByOwner(3L); // 2 가 밀려남
+        cache.getByOwner(1L);
+        cache.getByOwner(2L);
+
+        verify(pets, times(1)).findByOwnerId(1L);
+        verify(pets, times(2)).findByOwnerId(2L);
+        assertThat(meters.get("pets.cache.evictions").tags("cache", "owner", "cause", "size")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meters.get("pets.cache.size").tag("cache", "owner").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredEntriesAreReloadedAndPurged() throws Exception {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, Duration.ofMillis(30));
+        cache.get(1L, k -> "a");
+        cache.get(2L, k -> "b");
+        Thread.sleep(60);
+
+        assertThat(cache.get(1L, k -> "a2")).isEqualTo("a2");
+        assertThat(cache.purgeExpired()).isEqualTo(1); // 2 는 접근 없이 정리
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.expirationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void loadRacingWithInvalidationIsNotCached() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, Duration.ofMinutes(5));
+
+        // 로딩 도중 커밋된 변경이 무효화하면, 옛 값은 반환만 하고 넣지 않는다
+        assertThat(cache.get(1L, k -> {
+            cache.invalidate(1L);
+            return "stale";
+        })).isEqualTo("stale");
+        assertThat(cache.get(1L, k -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.get(1L, k -> "unused")).isEqualTo("fresh");
+    }
+
+    private double count(String cache, String result) {
+        return meters.get("pets.cache.requests").tags("cache", cache, "result", result).functionCounter().count();
+    }
+
+    private static PetView pet(Long id, Long ownerId) {
+        return new PetView(id, ownerId, Species.DOG, LocalDate.of(2020, 1, 1), null, AbitTypeCode.ENFP,
+                "/img.png", "coco", LocalDateTime.now(), LocalDateTime.now(), Gender.MALE, null);
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.pet.demo.pets.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.pet.demo.media.ContentAddressedStore;
+import com.example.pet.demo.media.FileStorageService;
+import com.example.pet.demo.media.ImageVariantService;
+import com.example.pet.demo.media.MediaCleanupQueue;
+import com.example.pet.demo.media.domain.port.MediaReferencePort;
+import com.example.pet.demo.pets.domain.Pet.AbitTypeCode;
+import com.example.pet.demo.pets.domain.Pet.Gender;
+import com.example.pet.demo.pets.domain.Pet.Species;
+import com.example.pet.demo.pets.domain.port.PetPersistencePort;
+import com.example.pet.demo.pets.domain.port.PetView;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PetDeletionTest {
+
+    @TempDir Path base;
+
+    private final PetPersistencePort pets = mock(PetPersistencePort.class);
+    private final MediaReferencePort references = mock(MediaReferencePort.class);
+    private MediaCleanupQueue cleanup;
+    private PetService service;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageService files = new FileStorageService(mock(ImageVariantService.class), mock(ContentAddressedStore.class));
+        ReflectionTestUtils.setField(files, "basePath", base.toString());
+        cleanup = new MediaCleanupQueue(files, List.of(references));
+        OwnerPetCache cache = new OwnerPetCache(pets, new SimpleMeterRegistry(), 10, 10, Duration.ofMinutes(5));
+        service = new PetService(pets, cache, mock(ApplicationEventPublisher.class), cleanup);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        cleanup.shutdown();
+    }
+
+    @Test
+    void cachedPetIsDeletedWithOneStatementAndImageRemovedAfterCommit() throws Exception {
+        Path image = Files.createDirectories(base.resolve("pets/1")).resolve("a.png");
+        Files.write(image, new byte[] { 1, 2, 3 });
+        when(pets.findById(5L)).thenReturn(Optional.of(pet(5L, 1L, "/media/pets/1/a.png")));
+        when(pets.delete(5L, 1L)).thenReturn(true);
+        service.getPetById(5L); // 상세 화면에서 이미 읽어 캐시됨
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.delete(5L);
+            Thread.sleep(100);
+            assertThat(image).exists(); // 커밋 전에는 지우지 않음
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(pets, times(1)).findById(5L);
+        verify(pets, times(1)).delete(5L, 1L);
+        awaitDeleted(1);
+        assertThat(image).doesNotExist();
+    }
+
+    @Test
+    void sharedPlaceholderAndOutsidePathsAreKept() throws Exception {
+        Path placeholder = Files.createDirectories(base.resolve("default")).resolve("pet-placeholder.png");
+        Files.write(placeholder, new byte[] { 1 });
+        when(pets.findById(6L)).thenReturn(Optional.of(pet(6L, 1L, "/media/default/pet-placeholder.png")));
+        when(pets.findById(7L)).thenReturn(Optional.of(pet(7L, 1L, "/media/../outside.png")));
+        when(pets.delete(6L, 1L)).thenReturn(true);
+        when(pets.delete(7L, 1L)).thenReturn(true);
+
+        service.delete(6L);
+        service.delete(7L);
+        cleanup.shutdown();
+
+        assertThat(placeholder).exists();
+        assertThat(cleanup.deletedCount()).isZero();
+    }
+
+    @Test
+    void imageSharedByAnotherRowIsKept() throws Exception {
+        // 일괄 등록은 한 URL 을 여러 펫이 같이 쓴다
+        Path image = Files.createDirectories(base.resolve("pets/1")).resolve("shared.png");
+        Files.write(image, new byte[] { 1 });
+        when(pets.findById(9L)).thenReturn(Optional.of(pet(9L, 1L, "/media/pets/1/shared.png")));
+        when(pets.delete(9L, 1L)).thenReturn(true);
+        when(references.findUrlsContaining("/media/pets/1/shared.png")).thenReturn(List.of("/media/pets/1/shared.png"));
+
+        service.delete(9L);
+        cleanup.shutdown();
+
+        assertThat(image).exists();
+        assertThat(cleanup.stillReferencedCount()).isEqualTo(1);
+        assertThat(cleanup.deletedCount()).isZero();
+    }
+
+    @Test
+    void filesOutsideTheOwnersPetFolderAreNeverDeleted() throws Exception {
+        Path otherUser = Files.createDirectories(base.resolve("users/2")).resolve("me.png");
+        Path otherOwnersPet = Files.createDirectories(base.resolve("pets/2")).resolve("b.png");
+        Files.write(otherUser, new byte[] { 1 });
+        Files.write(otherOwnersPet, new byte[] { 1 });
+        when(pets.findById(10L)).thenReturn(Optional.of(pet(10L, 1L, "/media/users/2/me.png")));
+        when(pets.findById(11L)).thenReturn(Optional.of(pet(11L, 1L, "/media/pets/2/b.png")));
+        when(pets.findById(12L)).thenReturn(Optional.of(pet(12L, 1L, "/media/pets/1/../../users/2/me.png")));
+        when(pets.delete(10L, 1L)).thenReturn(true);
+        when(pets.delete(11L, 1L)).thenReturn(true);
+        when(pets.delete(12L, 1L)).thenReturn(true);
+
+        service.delete(10L);
+        service.delete(11L);
+        service.delete(12L);
+        cleanup.shutdown();
+
+        assertThat(otherUser).exists();
+        assertThat(otherOwnersPet).exists();
+        assertThat(cleanup.deletedCount()).isZero();
+        verifyNoInteractions(references);
+    }
+
+    @Test
+    void deleteOfAlreadyRemovedPetFailsAndDropsCachedView() {
+        when(pets.findById(8L)).thenReturn(Optional.of(pet(8L, 1L, null)));
+        when(pets.delete(8L, 1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.delete(8L)).isInstanceOf(IllegalArgumentException.class);
+
+        when(pets.findById(8L)).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> service.getPetById(8L)).isInstanceOf(IllegalArgumentException.class);
+        verify(pets, times(2)).findById(8L);
+    }
+
+    private void awaitDeleted(long expected) throws InterruptedException {
+        for (int i = 0; i < 100 && cleanup.deletedCount() < expected; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(cleanup.deletedCount()).isEqualTo(expected);
+    }
+
+    private static PetView pet(Long id, Long ownerId, String imageUrl) {
+        return new PetView(id, ownerId, Species.CAT, LocalDate.of(2021, 5, 1), null, AbitTypeCode.INTP,
+                imageUrl, "nabi", LocalDateTime.now(), LocalDateTime.now(), Gender.FEMALE, null);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.pet.demo.pets.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.pet.demo.pets.api.dto.PetImportRes;
+import com.example.pet.demo.pets.infra.jpa.PetJpaAdapter;
+import com.example.pet.demo.pets.infra.jpa.PetJpaRepository;
+import com.example.pet.demo.users.domain.User;
+import com.example.pet.demo.users.domain.User.Gender;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.infra.jpa.UserJpaRepository;
+
+/**
+ * N마리 단건 등록(요청마다 트랜잭션 + getReference + IDENTITY INSERT) vs 일괄 등록 1회(NDJSON + JDBC 배치).
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({ PetImportService.class, PetJpaAdapter.class })
+@ImportAutoConfiguration({ JacksonAutoConfiguration.class, ValidationAutoConfiguration.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PetImportBenchmarkTest {
+    private static final int PETS = 500;
+    private static final int ROUNDS = 5;
+
+    @Autowired PetImportService importService;
+    @Autowired PetJpaAdapter adapter;
+    @Autowired PetJpaRepository petRepository;
+    @Autowired UserJpaRepository userRepository;
+    @Autowired PlatformTransactionManager txManager;
+
+    @Test
+    void singleCreatesVersusOneImport() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+
+        // 워밍업
+        runSingles(tx, newOwner(), 50);
+        runImport(newOwner(), 50);
+
+        long singleNanos = 0;
+        long importNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            Long a = newOwner();
+            Long b = newOwner();
+            long t0 = System.nanoTime();
+            runSingles(tx, a, PETS);
+            long t1 = System.nanoTime();
+            runImport(b, PETS);
+            long t2 = System.nanoTime();
+            singleNanos += t1 - t0;
+            importNanos += t2 - t1;
+        }
+
+        System.out.printf("[benchmark] %d pets x %d rounds: singles %.2f ms/op, import %.2f ms/op (x%.1f)%n",
+                PETS, ROUNDS,
+                singleNanos / 1e6 / ROUNDS, importNanos / 1e6 / ROUNDS,
+                (double) singleNanos / importNanos);
+        assertThat(petRepository.count()).isEqualTo(100L + (long) PETS * ROUNDS * 2);
+    }
+
+    private void runSingles(TransactionTemplate tx, Long ownerId, int count) {
+        for (int i = 0; i < count; i++) {
+            String name = "pet" + i;
+            tx.executeWithoutResult(s -> adapter.create(ownerId, "DOG", LocalDate.of(2020, 1, 1),
+                    new BigDecimal("4.5"), "ENFP", "/media/default/pet-placeholder.png", name, "MALE", null));
+        }
+    }
+
+    private void runImport(Long ownerId, int count) throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            ndjson.append("""
+                    {"userId":%d,"species":"DOG","birthdate":"2020-01-01","weight":4.5,\
+                    "abitTypeCode":"ENFP","name":"pet%d","gender":"MALE"}
+                    """.formatted(ownerId, i));
+        }
+        PetImportRes res = importService.importNdjson(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+        assertThat(res.created()).isEqualTo(count);
+    }
+
+    private Long newOwner() {
+        long n = userRepository.count() + 1;
+        return userRepository.save(User.builder()
+                .username("shelter" + n).nickname("shelter" + n).email("shelter" + n + "@example.com")
+                .password("hash").gender(Gender.MALE).birthdate(LocalDate.of(1990, 1, 1)).address("Seoul")
+                .userType(UserType.CAFE).build()).getId();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.pet.demo.pets.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.pet.demo.pets.api.dto.PetImportRes;
+import com.example.pet.demo.pets.infra.jpa.PetJpaAdapter;
+import com.example.pet.demo.pets.infra.jpa.PetJpaRepository;
+import com.example.pet.demo.users.domain.User;
+import com.example.pet.demo.users.domain.User.Gender;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.infra.jpa.UserJpaRepository;
+
+@DataJpaTest
+@Import({ PetImportService.class, PetJpaAdapter.class })
+@ImportAutoConfiguration({ JacksonAutoConfiguration.class, ValidationAutoConfiguration.class })
+@TestPropertySource(properties = "app.pets.import.batch-size=3")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 배치마다 실제 커밋/롤백
+class PetImportServiceTest {
+
+    @Autowired PetImportService importService;
+    @Autowired PetJpaRepository petRepository;
+    @Autowired UserJpaRepository userRepository;
+
+    private Long shelter;
+
+    @BeforeEach
+    void setUp() {
+        shelter = userRepository.save(User.builder()
+                .username("shelter").nickname("shelter").email("shelter@example.com").password("hash")
+                .gender(Gender.MALE).birthdate(LocalDate.of(1990, 1, 1)).address("Seoul")
+                .userType(UserType.CAFE).build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        petRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void ndjsonImportReportsEveryRow() throws Exception {
+        importService.importNdjson(ndjson(row(shelter, "Coco")));
+
+        PetImportRes res = importService.importNdjson(ndjson(
+                row(shelter, "Bori"),
+                "{not json",
+                row(shelter, "Coco"),                                 // DB 에 이미 있음
+                row(shelter, "Nabi"),
+                row(shelter, "Nabi"),                                 // 배치 안 중복
+                row(shelter, "Toto").replace("\"DOG\"", "\"BIRD\""),  // 검증 실패
+                row(999_999L, "Ghost"),                               // 없는 보호자 → 그 배치만 한 행씩
+                row(shelter, "Dubu"),
+                row(shelter, "Mimi")));
+
+        assertThat(res.total()).isEqualTo(9);
+        assertThat(res.created()).isEqualTo(4);
+        assertThat(res.failed()).isEqualTo(5);
+        assertThat(res.rows()).extracting(PetImportRes.Row::error).containsExactly(
+                null, "INVALID_JSON", "DUPLICATE_NAME", null, "DUPLICATE_NAME_IN_BATCH",
+                "species는 DOG 또는 CAT 이어야 합니다.", "CONSTRAINT_VIOLATION", null, null);
+        assertThat(res.rows()).filteredOn(r -> r.id() != null).hasSize(4);
+        assertThat(petRepository.count()).isEqualTo(5);
+        assertThat(petRepository.findViewsByOwnerId(shelter)).extracting(v -> v.name())
+                .containsExactlyInAnyOrder("Coco", "Bori", "Nabi", "Dubu", "Mimi");
+    }
+
+    @Test
+    void jsonArrayImportInsertsInBatches() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 10; i++) {
+            json.append(i == 0 ? "" : ",").append(row(shelter, "pet" + i));
+        }
+        json.append(']');
+
+        PetImportRes res = importService.importJsonArray(stream(json.toString()));
+
+        assertThat(res.created()).isEqualTo(10);
+        assertThat(res.rows()).extracting(PetImportRes.Row::index).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(res.rows()).extracting(PetImportRes.Row::id).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(petRepository.findViewsByOwnerId(shelter)).hasSize(10)
+                .allSatisfy(v -> assertThat(v.imageUrl()).isEqualTo("/media/default/pet-placeholder.png"));
+    }
+
+    @Test
+    void nullAndNonObjectRowsAreReportedNotFatal() throws Exception {
+        PetImportRes array = importService.importJsonArray(stream(
+                "[" + row(shelter, "Bori") + ", null, 3, [], \"text\", " + row(shelter, "Nabi") + "]"));
+        assertThat(array.rows()).extracting(PetImportRes.Row::error)
+                .containsExactly(null, "INVALID_JSON", "INVALID_JSON", "INVALID_JSON", "INVALID_JSON", null);
+
+        PetImportRes lines = importService.importNdjson(ndjson(row(shelter, "Dubu"), "null", "42", row(shelter, "Mimi")));
+        assertThat(lines.rows()).extracting(PetImportRes.Row::error)
+                .containsExactly(null, "INVALID_JSON", "INVALID_JSON", null);
+        assertThat(petRepository.findViewsByOwnerId(shelter)).hasSize(4);
+    }
+
+    @Test
+    void rejectsNonArrayAndOversizedPayloads() {
+        assertThatThrownBy(() -> importService.importJsonArray(stream(row(shelter, "a"))))
+                .hasMessage("JSON_ARRAY_REQUIRED");
+        assertThatThrownBy(() -> importService.importNdjson(stream("\n\n")))
+                .hasMessage("EMPTY_BULK");
+    }
+
+    private static String row(Long ownerId, String name) {
+        return """
+                {"userId":%d,"species":"DOG","birthdate":"2020-03-01","weight":4.5,\
+                "abitTypeCode":"ENFP","name":"%s","gender":"MALE"}""".formatted(ownerId, name);
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return stream(String.join("\n", List.of(lines)) + "\n");
+    }
+
+    private static InputStream stream(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+}
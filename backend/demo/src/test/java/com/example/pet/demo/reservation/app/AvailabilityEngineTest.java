@@ -0,0 +1,142 @@
+package com.example.pet.demo.reservation.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.pet.demo.reservation.domain.BookedSlot;
+import com.example.pet.demo.reservation.domain.port.ReservationPersistencePort;
+import com.example.pet.demo.users.app.PartnerChangedEvent;
+import com.example.pet.demo.users.app.UserService;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.port.PartnerView;
+
+class AvailabilityEngineTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long PARTNER = 1L;
+    private static final long OWNER = 10L;
+    private static final long OTHER = 20L;
+
+    private final UserService userService = mock(UserService.class);
+    private final ReservationPersistencePort reservations = mock(ReservationPersistencePort.class);
+    private final LocalDate tomorrow = LocalDate.now(ZONE).plusDays(1);
+    private AvailabilityEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        when(userService.getPartner(PARTNER)).thenReturn(partner("09:00", "18:00"));
+        engine = new AvailabilityEngine(userService, reservations, ZONE.getId());
+    }
+
+    @Test
+    void slotBelongsToOneHouseholdForSingleAndBulkCreate() {
+        engine.reserve(PARTNER, OWNER, at("10:00"));
+        engine.reserve(PARTNER, OWNER, at("10:10")); // 같은 예약자의 두 번째 반려동물 → 같은 방문
+        engine.reserveAll(PARTNER, OWNER, List.of(at("10:00"), at("10:20")));
+
+        assertThatThrownBy(() -> engine.reserve(PARTNER, OTHER, at("10:15")))
+                .hasMessage("SLOT_ALREADY_BOOKED");
+        assertThatThrownBy(() -> engine.reserveAll(PARTNER, OTHER, List.of(at("10:00"))))
+                .hasMessage("SLOT_ALREADY_BOOKED");
+        assertThat(engine.freeSlots(PARTNER, tomorrow)).doesNotContain(LocalTime.of(10, 0)).hasSize(17);
+    }
+
+    @Test
+    void cancellingOneOfSeveralReservationsKeepsTheSlot() {
+        engine.reserveAll(PARTNER, OWNER, List.of(at("11:00"), at("11:00"), at("11:00")));
+
+        engine.release(PARTNER, at("11:00"));
+        engine.releaseAll(PARTNER, List.of(at("11:00")));
+        assertThatThrownBy(() -> engine.reserve(PARTNER, OTHER, at("11:00")))
+                .hasMessage("SLOT_ALREADY_BOOKED");
+        assertThat(engine.freeSlots(PARTNER, tomorrow)).doesNotContain(LocalTime.of(11, 0));
+
+        engine.release(PARTNER, at("11:00"));
+        assertThat(engine.freeSlots(PARTNER, tomorrow)).contains(LocalTime.of(11, 0));
+        engine.reserve(PARTNER, OTHER, at("11:00"));
+    }
+
+    @Test
+    void reserveAllRollsBackEverySlotWhenOneIsTaken() {
+        engine.reserve(PARTNER, OTHER, at("14:00"));
+
+        assertThatThrownBy(() -> engine.reserveAll(PARTNER, OWNER,
+                List.of(at("09:00"), at("09:00"), at("14:00"), at("15:00"))))
+                .hasMessage("SLOT_ALREADY_BOOKED");
+        assertThat(engine.freeSlots(PARTNER, tomorrow))
+                .contains(LocalTime.of(9, 0), LocalTime.of(15, 0))
+                .doesNotContain(LocalTime.of(14, 0));
+
+        // 실패한 일괄 선점이 다른 예약자의 건수를 건드리지 않았다
+        engine.release(PARTNER, at("14:00"));
+        assertThat(engine.freeSlots(PARTNER, tomorrow)).contains(LocalTime.of(14, 0));
+    }
+
+    @Test
+    void rejectsOutsideWorkingHoursAndPastSlots() {
+        assertThatThrownBy(() -> engine.reserveAll(PARTNER, OWNER, List.of(at("10:00"), at("18:00"))))
+                .hasMessage("PARTNER_NOT_AVAILABLE");
+        assertThat(engine.freeSlots(PARTNER, tomorrow)).contains(LocalTime.of(10, 0));
+
+        OffsetDateTime earlier = OffsetDateTime.now(ZONE).minusMinutes(1);
+        assertThatThrownBy(() -> engine.reserve(PARTNER, OWNER, earlier)).hasMessage("SLOT_IN_PAST");
+        assertThat(engine.freeSlots(PARTNER, tomorrow.minusDays(2))).isEmpty();
+    }
+
+    @Test
+    void freeSlotsFollowWorkingHours() {
+        assertThat(engine.freeSlots(PARTNER, tomorrow))
+                .hasSize(18)
+                .startsWith(LocalTime.of(9, 0))
+                .endsWith(LocalTime.of(17, 30));
+    }
+
+    @Test
+    void scheduleChangeKeepsClaimsThatAreNotInTheDatabaseYet() {
+        engine.reserve(PARTNER, OWNER, at("13:30")); // 아직 커밋 전 - DB 에는 없다
+        when(userService.getPartner(PARTNER)).thenReturn(partner("13:00", "15:00"));
+
+        engine.onPartnerChanged(new PartnerChangedEvent(PARTNER, UserType.HOSPITAL));
+
+        assertThat(engine.freeSlots(PARTNER, tomorrow))
+                .containsExactly(LocalTime.of(13, 0), LocalTime.of(14, 0), LocalTime.of(14, 30));
+        assertThatThrownBy(() -> engine.reserve(PARTNER, OTHER, at("13:30"))).hasMessage("SLOT_ALREADY_BOOKED");
+        verify(userService, times(2)).getPartner(PARTNER);
+        verify(reservations, times(1)).findActiveSlotsByPartnerIdFrom(eq(PARTNER), any());
+    }
+
+    @Test
+    void loadCountsExistingReservationsPerSlot() {
+        when(reservations.findActiveSlotsByPartnerIdFrom(eq(PARTNER), any())).thenReturn(List.of(
+                new BookedSlot(OWNER, at("16:00")), new BookedSlot(OWNER, at("16:10"))));
+
+        assertThatThrownBy(() -> engine.reserve(PARTNER, OTHER, at("16:00"))).hasMessage("SLOT_ALREADY_BOOKED");
+        engine.release(PARTNER, at("16:00"));
+        assertThat(engine.freeSlots(PARTNER, tomorrow)).doesNotContain(LocalTime.of(16, 0));
+        engine.release(PARTNER, at("16:10"));
+        assertThat(engine.freeSlots(PARTNER, tomorrow)).contains(LocalTime.of(16, 0));
+    }
+
+    private OffsetDateTime at(String time) {
+        return tomorrow.atTime(LocalTime.parse(time)).atZone(ZONE).toOffsetDateTime();
+    }
+
+    private static PartnerView partner(String start, String end) {
+        return new PartnerView(PARTNER, "clinic", "HOSPITAL", null, null, null, null, null, null,
+                null, start, end);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.pet.demo.reservation.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.pet.demo.reservation.api.dto.PartnerReservationRes;
+
+class PartnerEventHubTest {
+    private static final int QUEUE = 4;
+
+    private final PartnerEventHub hub = new PartnerEventHub(60_000, 2, QUEUE);
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void fansOutToEveryDeviceOfThatPartnerInOrder() throws Exception {
+        RecordingEmitter phone = subscribe(1L);
+        RecordingEmitter desktop = subscribe(1L);
+        RecordingEmitter otherPartner = subscribe(2L);
+
+        for (long id = 1; id <= 3; id++) {
+            hub.publish(1L, event(id));
+        }
+
+        await(() -> phone.sent.size() == 4 && desktop.sent.size() == 4);
+        assertThat(phone.ids()).containsExactly("1", "2", "3");
+        assertThat(desktop.ids()).containsExactly("1", "2", "3");
+        assertThat(otherPartner.sent).containsExactly("connected");
+        assertThat(hub.connectionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void slowConnectionIsClosedWithoutHoldingBackTheOthers() throws Exception {
+        RecordingEmitter stuck = subscribe(1L);
+        RecordingEmitter fast = subscribe(1L);
+        stuck.gate = new CountDownLatch(1); // 전송이 끝나지 않는 연결
+
+        // 정상 연결은 매 이벤트를 바로 받아 큐가 차지 않는다. 막힌 연결만 QUEUE 개 뒤에 넘친다
+        for (long id = 1; id <= QUEUE + 2; id++) {
+            hub.publish(1L, event(id));
+            String expected = String.valueOf(id);
+            await(() -> fast.ids().contains(expected) && stuck.blocked);
+        }
+
+        assertThat(stuck.failed).isTrue();
+        assertThat(hub.connectionCount()).isEqualTo(1);
+        stuck.gate.countDown();
+
+        hub.publish(1L, event(99));
+        await(() -> fast.ids().contains("99"));
+        assertThat(stuck.ids()).doesNotContain("99");
+    }
+
+    @Test
+    void heartbeatDropsBrokenConnectionsAndDoesNotPileUpPings() throws Exception {
+        RecordingEmitter broken = subscribe(1L);
+        RecordingEmitter slow = subscribe(1L);
+        broken.broken = true;
+        slow.gate = new CountDownLatch(1);
+
+        hub.heartbeat();
+        await(() -> hub.connectionCount() == 1 && slow.blocked);
+
+        // 첫 ping 이 막혀 있는 동안 큐에 쌓이는 ping 은 하나뿐이라 큐가 넘치지 않는다
+        for (int i = 0; i < QUEUE * 3; i++) {
+            hub.heartbeat();
+        }
+        slow.gate.countDown();
+        await(() -> slow.sent.size() == 3);
+        Thread.sleep(50);
+        assertThat(slow.sent).containsExactly("connected", "ping", "ping");
+        assertThat(slow.failed).isFalse();
+        assertThat(hub.connectionCount()).isEqualTo(1);
+    }
+
+    private RecordingEmitter subscribe(Long partnerId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(partnerId, emitter);
+        return emitter;
+    }
+
+    private static PartnerReservationRes event(long id) {
+        return new PartnerReservationRes(id, 10L, 20L, "HOSPITAL", "WAITING", "2026-01-01T10:00:00+09:00",
+                "content", List.of(), null);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    // 실제 응답 없이 send 결과만 기록. gate 가 있으면 전송이 막힌 것처럼 대기한다
+    private static final class RecordingEmitter extends SseEmitter {
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch gate;
+        volatile boolean blocked;
+        volatile boolean broken;
+        volatile boolean failed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("broken pipe");
+            }
+            String text = builder.build().stream()
+                    .map(d -> d.getData() instanceof PartnerReservationRes r ? "" : d.getData().toString())
+                    .collect(Collectors.joining());
+            CountDownLatch g = gate;
+            if (g != null) {
+                blocked = true;
+                try {
+                    g.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            sent.add(text.startsWith(":") ? text.substring(1).trim() : text);
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed = true;
+            super.completeWithError(ex);
+        }
+
+        List<String> ids() {
+            return sent.stream()
+                    .filter(s -> s.startsWith("event:"))
+                    .map(s -> s.substring(s.indexOf("id:") + 3, s.indexOf('\n', s.indexOf("id:"))))
+                    .toList();
+        }
+    }
+}
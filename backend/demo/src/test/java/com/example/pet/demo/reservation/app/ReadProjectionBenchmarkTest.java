@@ -0,0 +1,140 @@
+package com.example.pet.demo.reservation.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.infra.jpa.ReservationJpaRepository;
+import com.example.pet.demo.users.domain.User;
+import com.example.pet.demo.users.domain.User.Gender;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.infra.jpa.UserJpaRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 읽기 경로: 엔티티 전체 조회(before) vs DTO 프로젝션(after).
+ * 요청 1회당 영속성 컨텍스트에 올라온 엔티티 수와 스레드 힙 할당량을 비교한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReadProjectionBenchmarkTest {
+    private static final int RESERVATIONS = 200;
+    private static final int PARTNERS = 100;
+    private static final int ROUNDS = 200;
+
+    @Autowired TestEntityManager em;
+    @Autowired EntityManagerFactory emf;
+    @Autowired ReservationJpaRepository reservations;
+    @Autowired UserJpaRepository users;
+
+    private int seq;
+
+    @Test
+    void entityReadsVersusProjections() {
+        User owner = persistUser(UserType.GENERAL);
+        for (int i = 0; i < PARTNERS; i++) {
+            persistUser(UserType.SITTER);
+        }
+        for (int i = 0; i < RESERVATIONS; i++) {
+            em.persist(Reservation.builder()
+                    .userId(owner.getId())
+                    .partnerId(owner.getId())
+                    .serviceCategorical(ServiceCategorical.SITTER)
+                    .userType(UserType.SITTER)
+                    .status(ReservationStatus.WAITING)
+                    .createdAt(OffsetDateTime.now().plusMinutes(i))
+                    .reservationContent("content " + i)
+                    .petId(1L)
+                    .petsitterWorkCsv("WALK")
+                    .build());
+        }
+        em.flush();
+        Long ownerId = owner.getId();
+
+        report("my reservations",
+                () -> em.getEntityManager()
+                        .createQuery("select r from Reservation r where r.userId = :u", Reservation.class)
+                        .setParameter("u", ownerId).getResultList(),
+                () -> reservations.findSummaries(ownerId, null));
+        report("partners by type",
+                () -> em.getEntityManager()
+                        .createQuery("select u from User u where u.userType = :t", User.class)
+                        .setParameter("t", UserType.SITTER).getResultList(),
+                () -> users.findPartnersByUserType(UserType.SITTER.name()));
+    }
+
+    private void report(String name, Supplier<List<?>> before, Supplier<List<?>> after) {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        // 워밍업
+        for (int i = 0; i < 20; i++) {
+            run(before);
+            run(after);
+        }
+
+        stats.clear();
+        long beforeBytes = allocated();
+        int rows = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            rows = run(before);
+        }
+        beforeBytes = allocated() - beforeBytes;
+        long beforeLoads = stats.getEntityLoadCount();
+
+        stats.clear();
+        long afterBytes = allocated();
+        for (int i = 0; i < ROUNDS; i++) {
+            assertThat(run(after)).isEqualTo(rows);
+        }
+        afterBytes = allocated() - afterBytes;
+        long afterLoads = stats.getEntityLoadCount();
+
+        System.out.printf("[benchmark] %s (%d rows): entities %d -> %d /req, heap %.1f KB -> %.1f KB /req%n",
+                name, rows, beforeLoads / ROUNDS, afterLoads / ROUNDS,
+                beforeBytes / 1024.0 / ROUNDS, afterBytes / 1024.0 / ROUNDS);
+        assertThat(afterLoads).isZero();
+        assertThat(afterBytes).isLessThan(beforeBytes);
+    }
+
+    // 요청마다 새 영속성 컨텍스트 (OSIV 없는 API 요청과 동일한 조건)
+    private int run(Supplier<List<?>> query) {
+        em.clear();
+        return query.get().size();
+    }
+
+    private static long allocated() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private User persistUser(UserType type) {
+        int n = ++seq;
+        return em.persist(User.builder()
+                .username("user" + n)
+                .nickname("nick" + n)
+                .email("user" + n + "@example.com")
+                .password("hash")
+                .gender(Gender.MALE)
+                .birthdate(LocalDate.of(1990, 1, 1))
+                .address("Seoul")
+                .userType(type)
+                .build());
+    }
+}
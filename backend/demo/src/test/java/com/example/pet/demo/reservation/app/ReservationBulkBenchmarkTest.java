@@ -0,0 +1,106 @@
+package com.example.pet.demo.reservation.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.pet.demo.notification.NotificationService;
+import com.example.pet.demo.reservation.api.dto.ReservationCreateReq;
+import com.example.pet.demo.reservation.infra.jpa.ReservationJpaAdapter;
+import com.example.pet.demo.reservation.infra.jpa.ReservationJpaRepository;
+import com.example.pet.demo.users.app.UserService;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+
+/**
+ * N건 단건 예약(요청마다 트랜잭션 + IDENTITY INSERT) vs 벌크 1회(트랜잭션 1개 + JDBC 배치).
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(ReservationJpaAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationBulkBenchmarkTest {
+    private static final int PETS = ReservationService.MAX_BULK_SIZE;
+    private static final int ROUNDS = 50;
+
+    @Autowired ReservationJpaAdapter reservationAdapter;
+    @Autowired ReservationJpaRepository repository;
+    @Autowired PlatformTransactionManager txManager;
+
+    private ReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        // INSERT 경로만 재므로 저장소 외 협력 객체는 목
+        reservationService = new ReservationService(reservationAdapter, mock(NotificationService.class),
+                mock(UserService.class), mock(AvailabilityEngine.class), mock(PartnerEventHub.class),
+                mock(ReservationRollupService.class));
+    }
+
+    @Test
+    void singleCallsVersusOneBulkCall() {
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+
+        // 워밍업
+        runSingles(tx, 0);
+        runBulk(tx, 1);
+        repository.deleteAllInBatch();
+
+        long singleNanos = 0;
+        long bulkNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long t0 = System.nanoTime();
+            runSingles(tx, round * 2L + 10);
+            long t1 = System.nanoTime();
+            runBulk(tx, round * 2L + 11);
+            long t2 = System.nanoTime();
+            singleNanos += t1 - t0;
+            bulkNanos += t2 - t1;
+        }
+
+        System.out.printf("[benchmark] %d pets x %d rounds: singles %.2f ms/op, bulk %.2f ms/op (x%.1f)%n",
+                PETS, ROUNDS,
+                singleNanos / 1e6 / ROUNDS, bulkNanos / 1e6 / ROUNDS,
+                (double) singleNanos / bulkNanos);
+        assertThat(repository.count()).isEqualTo((long) PETS * ROUNDS * 2);
+    }
+
+    private void runSingles(TransactionTemplate tx, long userId) {
+        for (ReservationCreateReq req : requests(userId)) {
+            tx.executeWithoutResult(s -> reservationService.create(req));
+        }
+    }
+
+    private void runBulk(TransactionTemplate tx, long userId) {
+        List<ReservationCreateReq> reqs = requests(userId);
+        List<Long> ids = tx.execute(s -> reservationService.createBulk(reqs));
+        assertThat(ids).hasSize(PETS).doesNotContainNull();
+    }
+
+    private List<ReservationCreateReq> requests(long userId) {
+        OffsetDateTime at = OffsetDateTime.now().plusDays(1);
+        List<ReservationCreateReq> reqs = new ArrayList<>();
+        for (int i = 0; i < PETS; i++) {
+            reqs.add(new ReservationCreateReq(
+                    1L, userId, UserType.HOSPITAL,
+                    List.of(VetSpecialty.DENTISTRY), null,
+                    (long) i + 1, at, null, "pet " + i));
+        }
+        return reqs;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.pet.demo.reservation.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class ReservationCursorTest {
+
+    @Test
+    void roundTripKeepsInstantAndIdAtFullPrecision() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2026, 3, 1, 10, 15, 30, 123_456_000, ZoneOffset.ofHours(9));
+        ReservationCursor cursor = new ReservationCursor(createdAt, 42L);
+
+        String encoded = cursor.encode();
+        ReservationCursor decoded = ReservationCursor.decode(encoded);
+
+        // URL 에 그대로 넣을 수 있는 base64url (패딩 없음)
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(decoded.createdAt().toInstant()).isEqualTo(createdAt.toInstant());
+        assertThat(decoded.createdAt().getOffset()).isEqualTo(ZoneOffset.UTC);
+    }
+
+    @Test
+    void missingCursorMeansFirstPage() {
+        assertThat(ReservationCursor.decode(null)).isNull();
+        assertThat(ReservationCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> ReservationCursor.decode("%%%")).hasMessage("INVALID_CURSOR");
+        assertThatThrownBy(() -> ReservationCursor.decode(encode("2026-03-01T01:15:30Z"))).hasMessage("INVALID_CURSOR");
+        assertThatThrownBy(() -> ReservationCursor.decode(encode("yesterday|1"))).hasMessage("INVALID_CURSOR");
+        assertThatThrownBy(() -> ReservationCursor.decode(encode("2026-03-01T01:15:30Z|x"))).hasMessage("INVALID_CURSOR");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
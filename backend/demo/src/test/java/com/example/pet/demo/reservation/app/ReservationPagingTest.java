@@ -0,0 +1,147 @@
+package com.example.pet.demo.reservation.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.pet.demo.notification.NotificationService;
+import com.example.pet.demo.reservation.api.dto.MyReservationPageRes;
+import com.example.pet.demo.reservation.api.dto.MyReservationRes;
+import com.example.pet.demo.reservation.api.dto.PartnerInboxPageRes;
+import com.example.pet.demo.reservation.api.dto.PartnerReservationRes;
+import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.infra.jpa.ReservationJpaAdapter;
+import com.example.pet.demo.reservation.infra.jpa.ReservationJpaRepository;
+import com.example.pet.demo.users.app.UserService;
+import com.example.pet.demo.users.domain.User.UserType;
+
+@DataJpaTest
+@Import(ReservationJpaAdapter.class)
+class ReservationPagingTest {
+    private static final long USER_ID = 1L;
+    private static final long PARTNER_ID = 2L;
+
+    @Autowired ReservationJpaAdapter reservationAdapter;
+    @Autowired ReservationJpaRepository reservationRepository;
+
+    private final OffsetDateTime base = OffsetDateTime.now(ZoneId.of("Asia/Seoul"))
+            .plusDays(3).truncatedTo(ChronoUnit.MINUTES);
+    private ReservationService service;
+
+    @BeforeEach
+    void setUp() {
+        // 목록 조회는 저장소와 파트너 이름 조회만 쓰므로 나머지 협력 객체는 목
+        UserService userService = mock(UserService.class);
+        when(userService.getUsernames(any())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> "partner" + id));
+        });
+        service = new ReservationService(reservationAdapter, mock(NotificationService.class),
+                userService, mock(AvailabilityEngine.class), mock(PartnerEventHub.class),
+                mock(ReservationRollupService.class));
+    }
+
+    @Test
+    void partnerInboxWalksNewestFirstAcrossEqualTimestamps() {
+        List<Long> expected = new ArrayList<>();
+        // 같은 시각 예약 3건(일괄 등록) 사이에 페이지 경계가 걸리도록 배치
+        expected.add(save(PARTNER_ID, base.plusHours(2), ReservationStatus.WAITING));
+        List<Long> sameTime = List.of(
+                save(PARTNER_ID, base.plusHours(1), ReservationStatus.WAITING),
+                save(PARTNER_ID, base.plusHours(1), ReservationStatus.CONFIRMED),
+                save(PARTNER_ID, base.plusHours(1), ReservationStatus.WAITING));
+        expected.addAll(sameTime.reversed());
+        expected.add(save(PARTNER_ID, base, ReservationStatus.CANCELLED_BY_USER));
+        save(PARTNER_ID + 1, base.plusHours(1), ReservationStatus.WAITING);
+
+        assertThat(walkInbox(null, 2)).containsExactlyElementsOf(expected);
+        assertThat(walkInbox(null, 1)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void partnerInboxFiltersByStatus() {
+        Long older = save(PARTNER_ID, base, ReservationStatus.WAITING);
+        save(PARTNER_ID, base.plusMinutes(30), ReservationStatus.CONFIRMED);
+        Long newer = save(PARTNER_ID, base.plusHours(1), ReservationStatus.WAITING);
+
+        assertThat(walkInbox("waiting", 1)).containsExactly(newer, older);
+        assertThatThrownBy(() -> service.getPartnerInbox(PARTNER_ID, "UNKNOWN", null, 10))
+                .hasMessage("INVALID_STATUS");
+        assertThatThrownBy(() -> service.getPartnerInbox(PARTNER_ID, null, "not-a-cursor", 10))
+                .hasMessage("INVALID_CURSOR");
+    }
+
+    @Test
+    void myPageWalksNewestFirstAcrossEqualTimestamps() {
+        // 일괄 등록은 반려동물마다 같은 created_at 으로 저장된다
+        List<Long> sameTime = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            sameTime.add(save(PARTNER_ID + i, base.plusHours(1), ReservationStatus.WAITING));
+        }
+        Long older = save(PARTNER_ID, base, ReservationStatus.COMPLETED);
+        Long newer = save(PARTNER_ID, base.plusHours(2), ReservationStatus.WAITING);
+        List<Long> expected = new ArrayList<>();
+        expected.add(newer);
+        expected.addAll(sameTime.reversed());
+        expected.add(older);
+
+        for (int size = 1; size <= 4; size++) {
+            assertThat(walkMine(size)).as("page size %d", size).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private List<Long> walkMine(int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MyReservationPageRes page = service.getMyReservationPage(USER_ID, null, cursor, size);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(size);
+            page.items().stream().map(MyReservationRes::reservationId).forEach(ids::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Long> walkInbox(String status, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            PartnerInboxPageRes page = service.getPartnerInbox(PARTNER_ID, status, cursor, size);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(size);
+            page.items().stream().map(PartnerReservationRes::reservationId).forEach(ids::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private Long save(long partnerId, OffsetDateTime createdAt, ReservationStatus status) {
+        return reservationRepository.save(Reservation.builder()
+                .userId(USER_ID)
+                .partnerId(partnerId)
+                .serviceCategorical(ServiceCategorical.HOSPITAL)
+                .userType(UserType.HOSPITAL)
+                .status(status)
+                .createdAt(createdAt)
+                .reservationContent("content")
+                .petId(9L)
+                .build()).getId();
+    }
+}
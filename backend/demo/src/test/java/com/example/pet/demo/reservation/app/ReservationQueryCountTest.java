@@ -0,0 +1,170 @@
+package com.example.pet.demo.reservation.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.pet.demo.notification.NotificationService;
+import com.example.pet.demo.reservation.api.dto.MyReservationRes;
+import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.infra.jpa.ReservationJpaAdapter;
+import com.example.pet.demo.users.app.AccessTokenService;
+import com.example.pet.demo.users.app.EmailExistenceFilter;
+import com.example.pet.demo.users.app.LastLoginTracker;
+import com.example.pet.demo.users.app.PasswordHashingExecutor;
+import com.example.pet.demo.users.app.TokenRevocationCache;
+import com.example.pet.demo.users.app.UserService;
+import com.example.pet.demo.users.domain.User;
+import com.example.pet.demo.users.domain.User.Gender;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.infra.jpa.UserJpaAdapter;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@Import({ ReservationJpaAdapter.class, UserJpaAdapter.class })
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReservationQueryCountTest {
+
+    @Autowired ReservationJpaAdapter reservationAdapter;
+    @Autowired UserJpaAdapter userAdapter;
+    @Autowired TestEntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    private ReservationService reservationService;
+    private Statistics stats;
+    private int seq;
+
+    @BeforeEach
+    void setUp() {
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        // 조회 경로(예약 저장소 + 파트너 이름 조회)만 실제 빈, 나머지 협력 객체는 목
+        UserService userService = new UserService(userAdapter, mock(PasswordEncoder.class),
+                mock(ApplicationEventPublisher.class), mock(PasswordHashingExecutor.class),
+                mock(EmailExistenceFilter.class), mock(LastLoginTracker.class), mock(NotificationService.class),
+                mock(AccessTokenService.class), mock(TokenRevocationCache.class));
+        reservationService = new ReservationService(reservationAdapter, mock(NotificationService.class),
+                userService, mock(AvailabilityEngine.class), mock(PartnerEventHub.class),
+                mock(ReservationRollupService.class));
+    }
+
+    @Test
+    void getMyReservations_statementCountDoesNotGrowWithReservations() {
+        User owner = persistUser(UserType.GENERAL);
+        List<User> partners = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            partners.add(persistUser(i % 2 == 0 ? UserType.HOSPITAL : UserType.SITTER));
+        }
+
+        persistReservations(owner, partners, 3);
+        long small = countStatements(owner.getId(), null);
+
+        persistReservations(owner, partners, 60);
+        long large = countStatements(owner.getId(), null);
+
+        assertThat(reservationService.getMyReservations(owner.getId(), null)).hasSize(63);
+        assertThat(small).isEqualTo(3); // 예약 1회 + 아카이브 1회 + 파트너 이름 1회
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void getMyReservations_filtersServiceTypeInQuery() {
+        User owner = persistUser(UserType.GENERAL);
+        List<User> partners = List.of(persistUser(UserType.HOSPITAL), persistUser(UserType.SITTER));
+        persistReservations(owner, partners, 10);
+        em.clear();
+
+        long before = stats.getEntityLoadCount();
+        List<MyReservationRes> hospital = reservationService.getMyReservations(owner.getId(), "hospital");
+        long loaded = stats.getEntityLoadCount() - before;
+
+        assertThat(hospital).hasSize(5)
+                .allSatisfy(r -> {
+                    assertThat(r.serviceType()).isEqualTo("HOSPITAL");
+                    assertThat(r.partnerName()).isEqualTo(partners.get(0).getUsername());
+                });
+        assertThat(loaded).isZero(); // 프로젝션 조회라 엔티티가 영속성 컨텍스트에 올라오지 않음
+        assertThat(reservationService.getMyReservations(owner.getId(), "UNKNOWN")).isEmpty();
+    }
+
+    @Test
+    void getMyReservations_missingPartnerIsUserNotFound() {
+        User owner = persistUser(UserType.GENERAL);
+        User partner = persistUser(UserType.HOSPITAL);
+        persistReservations(owner, List.of(partner), 2);
+        em.persistAndFlush(Reservation.builder()
+                .userId(owner.getId())
+                .partnerId(partner.getId() + 1000)   // 없는 파트너
+                .serviceCategorical(ServiceCategorical.HOSPITAL)
+                .userType(UserType.HOSPITAL)
+                .status(ReservationStatus.WAITING)
+                .createdAt(OffsetDateTime.now())
+                .reservationContent("orphan")
+                .petId(1L)
+                .build());
+        em.clear();
+
+        assertThatThrownBy(() -> reservationService.getMyReservations(owner.getId(), null))
+                .hasMessage("USER_NOT_FOUND");
+    }
+
+    private long countStatements(Long userId, String serviceType) {
+        em.clear();
+        stats.clear();
+        reservationService.getMyReservations(userId, serviceType);
+        return stats.getPrepareStatementCount();
+    }
+
+    private void persistReservations(User owner, List<User> partners, int count) {
+        for (int i = 0; i < count; i++) {
+            User partner = partners.get(i % partners.size());
+            ServiceCategorical category = ServiceCategorical.valueOf(partner.getUserType().name());
+            em.persist(Reservation.builder()
+                    .userId(owner.getId())
+                    .partnerId(partner.getId())
+                    .serviceCategorical(category)
+                    .userType(partner.getUserType())
+                    .status(ReservationStatus.WAITING)
+                    .createdAt(OffsetDateTime.now().plusHours(i))
+                    .reservationContent("content " + i)
+                    .petId(1L)
+                    .vetSpecialtyCsv(category == ServiceCategorical.HOSPITAL ? "DENTISTRY,SURGERY" : null)
+                    .petsitterWorkCsv(category == ServiceCategorical.SITTER ? "WALK" : null)
+                    .build());
+        }
+        em.flush();
+    }
+
+    private User persistUser(UserType type) {
+        int n = ++seq;
+        return em.persistAndFlush(User.builder()
+                .username("user" + n)
+                .nickname("nick" + n)
+                .email("user" + n + "@example.com")
+                .password("hash")
+                .gender(Gender.MALE)
+                .birthdate(LocalDate.of(1990, 1, 1))
+                .address("Seoul")
+                .userType(type)
+                .build());
+    }
+}
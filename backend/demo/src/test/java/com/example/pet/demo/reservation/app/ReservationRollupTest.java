@@ -0,0 +1,169 @@
+package com.example.pet.demo.reservation.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.pet.demo.notification.NotificationService;
+import com.example.pet.demo.reservation.api.dto.ReservationCreateReq;
+import com.example.pet.demo.reservation.api.dto.ReservationStatsRes;
+import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.domain.ReservationRollupDelta;
+import com.example.pet.demo.reservation.infra.jpa.ReservationJpaAdapter;
+import com.example.pet.demo.reservation.infra.jpa.ReservationJpaRepository;
+import com.example.pet.demo.reservation.infra.jpa.ReservationRollupJpaAdapter;
+import com.example.pet.demo.reservation.infra.jpa.ReservationRollupJpaRepository;
+import com.example.pet.demo.users.app.UserService;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+
+// upsert 가 MySQL 문법(on duplicate key update)이라 H2 를 MySQL 모드로 띄운다
+@DataJpaTest(properties = {
+    "spring.test.database.replace=none",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.url=jdbc:h2:mem:rollup;MODE=MySQL;DB_CLOSE_DELAY=-1"
+})
+@Import({ ReservationRollupService.class, ReservationRollupJpaAdapter.class, ReservationJpaAdapter.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스 호출마다 자기 트랜잭션으로 커밋/롤백
+class ReservationRollupTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long USER_ID = 1L;
+    private static final long PARTNER_ID = 2L;
+
+    @Autowired ReservationRollupService rollups;
+    @Autowired ReservationRollupJpaAdapter rollupAdapter;
+    @Autowired ReservationRollupJpaRepository rollupRepository;
+    @Autowired ReservationJpaAdapter reservationAdapter;
+    @Autowired ReservationJpaRepository reservationRepository;
+    @Autowired PlatformTransactionManager txManager;
+
+    private final LocalDate day = LocalDate.now(ZONE).plusDays(3);
+    private ReservationService service;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        // 슬롯 엔진/알림/SSE 는 집계와 무관하므로 목으로 두고 저장소와 집계만 실제로 쓴다
+        service = new ReservationService(reservationAdapter, mock(NotificationService.class),
+                mock(UserService.class), mock(AvailabilityEngine.class), mock(PartnerEventHub.class), rollups);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reservationRepository.deleteAll();
+        rollupRepository.deleteAll();
+    }
+
+    @Test
+    void createAndTransitionsMoveCountsBetweenCells() {
+        Long accepted = tx.execute(s -> service.create(req(1L, "10:00")));
+        Long waiting = tx.execute(s -> service.create(req(2L, "11:00")));
+        assertThat(counts()).containsExactly("WAITING=2");
+
+        tx.executeWithoutResult(s -> service.accept(accepted, PARTNER_ID));
+        assertThat(counts()).containsExactly("CONFIRMED=1", "WAITING=1");
+
+        // 취소는 출발 상태가 여럿: 성공한 쪽(CONFIRMED / WAITING)에서 정확히 -1
+        tx.executeWithoutResult(s -> service.cancelByUser(accepted, USER_ID));
+        tx.executeWithoutResult(s -> service.cancelByPartner(waiting, PARTNER_ID));
+        assertThat(counts()).containsExactly("CANCELLED_BY_BIZ=1", "CANCELLED_BY_USER=1");
+
+        // 실패한 전이는 집계를 건드리지 않는다
+        assertThatThrownBy(() -> tx.executeWithoutResult(s -> service.accept(waiting, PARTNER_ID)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(counts()).containsExactly("CANCELLED_BY_BIZ=1", "CANCELLED_BY_USER=1");
+    }
+
+    @Test
+    void bulkCreateMergesCellsAndRollbackUndoesThem() {
+        tx.execute(s -> service.createBulk(List.of(req(1L, "10:00"), req(2L, "10:00"), req(3L, "15:00"))));
+        assertThat(counts()).containsExactly("WAITING=3");
+
+        assertThatThrownBy(() -> tx.executeWithoutResult(s -> {
+            service.create(req(4L, "16:00"));
+            throw new IllegalStateException("rollback");
+        })).hasMessage("rollback");
+        assertThat(counts()).containsExactly("WAITING=3");
+    }
+
+    @Test
+    void rebuildReplacesDriftedCellsForThatDayOnly() {
+        tx.execute(s -> service.create(req(1L, "10:00")));
+        // 집계를 거치지 않은 행 + 틀어진 칸
+        reservationRepository.save(reservation(day, "12:00", ReservationStatus.COMPLETED));
+        tx.executeWithoutResult(s -> rollupAdapter.apply(List.of(
+                new ReservationRollupDelta(PARTNER_ID, day, ServiceCategorical.HOSPITAL, ReservationStatus.WAITING, 5))));
+        LocalDate otherDay = day.plusDays(1);
+        tx.executeWithoutResult(s -> rollupAdapter.apply(List.of(
+                new ReservationRollupDelta(PARTNER_ID, otherDay, ServiceCategorical.HOSPITAL, ReservationStatus.WAITING, 7))));
+
+        assertThat(rollups.rebuild(day, day)).isEqualTo(2);
+
+        assertThat(counts()).containsExactly("COMPLETED=1", "WAITING=1");
+        ReservationStatsRes other = rollups.getStats(PARTNER_ID, otherDay, otherDay);
+        assertThat(other.total()).isEqualTo(7);
+    }
+
+    @Test
+    void dayBoundaryFollowsReservationZone() {
+        // 자정 직전/직후는 서로 다른 날짜 칸
+        reservationRepository.save(reservation(day, "23:59", ReservationStatus.WAITING));
+        reservationRepository.save(reservation(day.plusDays(1), "00:00", ReservationStatus.WAITING));
+
+        rollups.rebuild(day, day.plusDays(1));
+
+        ReservationStatsRes stats = rollups.getStats(PARTNER_ID, day, day.plusDays(1));
+        assertThat(stats.days()).extracting(ReservationStatsRes.DailyCount::date)
+                .containsExactly(day.toString(), day.plusDays(1).toString());
+    }
+
+    private List<String> counts() {
+        ReservationStatsRes stats = rollups.getStats(PARTNER_ID, day, day);
+        List<String> cells = new ArrayList<>();
+        stats.days().forEach(d -> cells.add(d.status() + "=" + d.count()));
+        return cells;
+    }
+
+    private ReservationCreateReq req(long petId, String time) {
+        return new ReservationCreateReq(PARTNER_ID, USER_ID, UserType.HOSPITAL,
+                List.of(VetSpecialty.DENTISTRY), null, petId, at(day, time), null, "content");
+    }
+
+    private static OffsetDateTime at(LocalDate date, String time) {
+        return date.atTime(LocalTime.parse(time)).atZone(ZONE).toOffsetDateTime();
+    }
+
+    private static Reservation reservation(LocalDate date, String time, ReservationStatus status) {
+        return Reservation.builder()
+                .userId(USER_ID)
+                .partnerId(PARTNER_ID)
+                .serviceCategorical(ServiceCategorical.HOSPITAL)
+                .userType(UserType.HOSPITAL)
+                .status(status)
+                .createdAt(at(date, time))
+                .reservationContent("content")
+                .petId(9L)
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.pet.demo.reservation.infra.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.example.pet.demo.reservation.app.ReservationArchiver;
+import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.domain.ReservationArchive;
+import com.example.pet.demo.reservation.domain.ReservationSummary;
+import com.example.pet.demo.users.domain.User.UserType;
+
+@DataJpaTest
+@Import(ReservationJpaAdapter.class)
+class ReservationArchiveTest {
+    private static final long USER_ID = 1L;
+    private static final long PARTNER_ID = 2L;
+    private static final Duration AGE = Duration.ofDays(180); // 어댑터 기본 archive.age 와 같게
+
+    @Autowired ReservationJpaAdapter adapter;
+    @Autowired ReservationJpaRepository hotRepository;
+    @Autowired ReservationArchiveJpaRepository archiveRepository;
+    @Autowired TestEntityManager em;
+
+    private final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
+    private final OffsetDateTime cutoff = now.minus(AGE);
+
+    @Test
+    void movesOnlyOldFinishedRowsInBatches() {
+        List<Long> finished = List.of(
+                save(cutoff.minusDays(30), ReservationStatus.COMPLETED),
+                save(cutoff.minusDays(20), ReservationStatus.CANCELLED_BY_USER),
+                save(cutoff.minusDays(10), ReservationStatus.CANCELLED_BY_BIZ),
+                save(cutoff.minusDays(5), ReservationStatus.COMPLETED),
+                save(cutoff.minusDays(1), ReservationStatus.COMPLETED));
+        Long stillOpen = save(cutoff.minusDays(40), ReservationStatus.WAITING);
+        Long recent = save(cutoff.plusDays(1), ReservationStatus.COMPLETED);
+
+        // 한 번 실행에 배치 2개까지: 2 + 2, 남은 1건은 다음 실행
+        assertThat(new ReservationArchiver(adapter, AGE, 2, 2).archiveOnce(cutoff)).isEqualTo(4);
+        assertThat(new ReservationArchiver(adapter, AGE, 2, 2).archiveOnce(cutoff)).isEqualTo(1);
+        assertThat(new ReservationArchiver(adapter, AGE, 2, 2).archiveOnce(cutoff)).isZero();
+        em.clear();
+
+        assertThat(archiveRepository.findAll()).extracting(ReservationArchive::getId)
+                .containsExactlyInAnyOrderElementsOf(finished);
+        assertThat(hotRepository.findAll()).extracting(Reservation::getId)
+                .containsExactlyInAnyOrder(stillOpen, recent);
+        // 옮겨진 행도 id 조회는 그대로 된다
+        Reservation moved = adapter.findById(finished.get(1)).orElseThrow();
+        assertThat(moved.getStatus()).isEqualTo(ReservationStatus.CANCELLED_BY_USER);
+        assertThat(moved.getCreatedAt().toInstant()).isEqualTo(cutoff.minusDays(20).toInstant());
+    }
+
+    @Test
+    void pagesMergeHotAndColdRowsAcrossTheArchiveBoundary() {
+        List<Long> expected = new ArrayList<>();
+        // 최신순: hot 최근 2건 → (경계 너머) hot 에 남은 오래된 진행 중 예약과 아카이브 행이 섞인다
+        expected.add(save(now.minusDays(1), ReservationStatus.WAITING));
+        expected.add(save(now.minusDays(2), ReservationStatus.CONFIRMED));
+        OffsetDateTime tie = cutoff.minusDays(10);
+        Long coldTieLow = save(tie, ReservationStatus.COMPLETED);
+        Long hotTie = save(tie, ReservationStatus.WAITING);           // 같은 시각, 다른 테이블
+        Long coldTieHigh = save(tie, ReservationStatus.CANCELLED_BY_USER);
+        expected.addAll(List.of(coldTieHigh, hotTie, coldTieLow));
+        expected.add(save(cutoff.minusDays(20), ReservationStatus.COMPLETED));
+        expected.add(save(cutoff.minusDays(30), ReservationStatus.CONFIRMED));
+        expected.add(save(cutoff.minusDays(40), ReservationStatus.CANCELLED_BY_BIZ));
+
+        assertThat(new ReservationArchiver(adapter, AGE, 100, 1).archiveOnce(cutoff)).isEqualTo(4);
+        em.clear();
+        assertThat(archiveRepository.count()).isEqualTo(4);
+
+        for (int size = 1; size <= 4; size++) {
+            assertThat(walk(size, (after, limit) -> adapter.findPageByUserId(USER_ID, null,
+                    after == null ? null : after.createdAt(), after == null ? null : after.id(), limit),
+                    s -> new Key(s.createdAt(), s.id())))
+                    .as("user page size %d", size).containsExactlyElementsOf(expected);
+            assertThat(walk(size, (after, limit) -> adapter.findPageByPartnerId(PARTNER_ID, null,
+                    after == null ? null : after.createdAt(), after == null ? null : after.id(), limit),
+                    r -> new Key(r.getCreatedAt(), r.getId())))
+                    .as("partner page size %d", size).containsExactlyElementsOf(expected);
+        }
+        // 진행 중 상태 필터는 아카이브를 보지 않는다
+        assertThat(adapter.findPageByPartnerId(PARTNER_ID, ReservationStatus.WAITING, null, null, 10))
+                .extracting(Reservation::getId).containsExactly(expected.get(0), hotTie);
+        assertThat(adapter.findPageByPartnerId(PARTNER_ID, ReservationStatus.COMPLETED, null, null, 10))
+                .extracting(Reservation::getId).containsExactly(coldTieLow, expected.get(5));
+    }
+
+    @Test
+    void fullHistoryMergesHotAndColdNewestFirst() {
+        Long recent = save(now.minusDays(1), ReservationStatus.WAITING);
+        Long oldCompleted = save(cutoff.minusDays(10), ReservationStatus.COMPLETED);
+        Long longRunning = save(cutoff.minusDays(20), ReservationStatus.CONFIRMED); // 오래됐지만 진행 중 → hot 에 남음
+        Long oldest = save(cutoff.minusDays(30), ReservationStatus.CANCELLED_BY_USER);
+
+        assertThat(new ReservationArchiver(adapter, AGE, 100, 1).archiveOnce(cutoff)).isEqualTo(2);
+        em.clear();
+
+        assertThat(adapter.findByUserId(USER_ID, null)).extracting(ReservationSummary::id)
+                .containsExactly(recent, oldCompleted, longRunning, oldest);
+    }
+
+    private record Key(OffsetDateTime createdAt, Long id) {}
+
+    // 서비스와 같은 방식: limit+1 을 읽어 다음 페이지 여부를 보고, 마지막 행을 커서로
+    private <T> List<Long> walk(int size, BiFunction<Key, Integer, List<T>> page, Function<T, Key> key) {
+        List<Long> ids = new ArrayList<>();
+        Key after = null;
+        while (true) {
+            List<T> rows = page.apply(after, size + 1);
+            List<T> current = rows.size() > size ? rows.subList(0, size) : rows;
+            current.forEach(r -> ids.add(key.apply(r).id()));
+            if (rows.size() <= size) {
+                return ids;
+            }
+            after = key.apply(current.get(current.size() - 1));
+        }
+    }
+
+    private Long save(OffsetDateTime createdAt, ReservationStatus status) {
+        boolean cancelled = status == ReservationStatus.CANCELLED_BY_USER || status == ReservationStatus.CANCELLED_BY_BIZ;
+        return hotRepository.saveAndFlush(Reservation.builder()
+                .userId(USER_ID)
+                .partnerId(PARTNER_ID)
+                .serviceCategorical(ServiceCategorical.HOSPITAL)
+                .userType(UserType.HOSPITAL)
+                .status(status)
+                .createdAt(createdAt)
+                .canceledAt(cancelled ? createdAt.toLocalDateTime() : null)
+                .reservationContent("content")
+                .petId(9L)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.pet.demo.reservation.infra.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.domain.ReservationDailyRollup;
+import com.example.pet.demo.users.domain.User.UserType;
+
+/**
+ * 운영(MySQL, serverTimezone=Asia/Seoul)과 같은 조건: JVM/DB 세션은 KST, MySQL 방언이라 OffsetDateTime 은 UTC 벽시계 datetime 으로 저장.
+ * JDBC 로 직접 바인딩한 값이 Hibernate 가 저장/조회하는 값과 같은 시각인지 본다 (UTC 에서 도는 다른 H2 테스트로는 안 보임)
+ */
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:reservation_tz;MODE=MySQL;DB_CLOSE_DELAY=-1;TIME ZONE=Asia/Seoul",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect"
+})
+@Import({ ReservationJpaAdapter.class, ReservationRollupJpaAdapter.class })
+class ReservationTimeZoneTest {
+    private static TimeZone original;
+
+    @Autowired ReservationJpaAdapter adapter;
+    @Autowired ReservationRollupJpaAdapter rollupAdapter;
+    @Autowired ReservationJpaRepository repository;
+    @Autowired TestEntityManager em;
+
+    private final OffsetDateTime at = OffsetDateTime.parse("2026-03-02T08:30:00+09:00");
+
+    @BeforeAll
+    static void useSeoul() throws SQLException {
+        // H2 는 처음 연결할 때 JVM 기본 시간대를 정적으로 캐시한다. 바꾸기 전에 한 번 연결해 두어
+        // 이후 다른 테스트의 H2 세션에 KST 가 남지 않게 한다 (이 DB 세션은 URL 의 TIME ZONE 을 쓴다)
+        DriverManager.getConnection("jdbc:h2:mem:").close();
+        original = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+    }
+
+    @AfterAll
+    static void restore() {
+        TimeZone.setDefault(original);
+    }
+
+    @Test
+    void bulkInsertedRowsReadBackAtTheSameInstantAsSingleCreates() {
+        Long single = repository.saveAndFlush(reservation(at)).getId();
+        Long bulk = adapter.insertAll(List.of(reservation(at))).get(0);
+        em.clear();
+
+        assertThat(repository.findById(bulk).orElseThrow().getCreatedAt().toInstant()).isEqualTo(at.toInstant());
+        assertThat(repository.findById(single).orElseThrow().getCreatedAt().toInstant()).isEqualTo(at.toInstant());
+        // 같은 시각이면 저장된 값도 같아야 keyset 정렬/슬롯 재적재/아카이브가 어긋나지 않는다
+        assertThat(em.getEntityManager()
+                .createNativeQuery("select count(distinct created_at) from reservation where id in (?1, ?2)")
+                .setParameter(1, single).setParameter(2, bulk)
+                .getSingleResult()).isEqualTo(1L);
+    }
+
+    @Test
+    void nightlyRebuildCountsEarlyMorningReservationsOnTheirKstDay() {
+        // 08:30 KST 는 UTC 로는 전날 23:30 - 그래도 KST 날짜(3/2) 칸에 들어가야 한다
+        repository.saveAndFlush(reservation(at));
+        repository.saveAndFlush(reservation(at.minusHours(9))); // 3/1 23:30 KST
+        ZoneId kst = ZoneId.of("Asia/Seoul");
+        LocalDate day = at.toLocalDate();
+
+        int cells = rollupAdapter.rebuildDay(day, day.atStartOfDay(kst).toOffsetDateTime(),
+                day.plusDays(1).atStartOfDay(kst).toOffsetDateTime());
+
+        assertThat(cells).isEqualTo(1);
+        assertThat(rollupAdapter.findByPartnerId(2L, day.minusDays(1), day))
+                .extracting(ReservationDailyRollup::getStatDate, ReservationDailyRollup::getCount)
+                .containsExactly(tuple(day, 1L));
+    }
+
+    @Test
+    void archiveCutoffIsComparedAtTheSameInstant() {
+        // 컷오프 1시간 전/후 - KST 벽시계로 비교하면 9시간 늦춰져 둘 다 옮겨진다
+        Long before = repository.saveAndFlush(finished(at.minusHours(1))).getId();
+        Long after = repository.saveAndFlush(finished(at.plusHours(1))).getId();
+
+        assertThat(adapter.archiveFinishedBefore(at, 10)).isEqualTo(1);
+        em.clear();
+
+        assertThat(repository.findById(before)).isEmpty();
+        assertThat(repository.findById(after)).isPresent();
+        assertThat(adapter.findById(before).orElseThrow().getCreatedAt().toInstant())
+                .isEqualTo(at.minusHours(1).toInstant());
+    }
+
+    private static Reservation finished(OffsetDateTime createdAt) {
+        Reservation r = reservation(createdAt);
+        r.setStatus(ReservationStatus.COMPLETED);
+        return r;
+    }
+
+    static Reservation reservation(OffsetDateTime createdAt) {
+        return Reservation.builder()
+                .userId(1L)
+                .partnerId(2L)
+                .serviceCategorical(ServiceCategorical.HOSPITAL)
+                .userType(UserType.HOSPITAL)
+                .status(ReservationStatus.WAITING)
+                .createdAt(createdAt)
+                .reservationContent("content")
+                .petId(9L)
+                .build();
+    }
+}
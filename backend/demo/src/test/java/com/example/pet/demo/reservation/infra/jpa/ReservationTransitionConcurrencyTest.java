@@ -0,0 +1,167 @@
+package com.example.pet.demo.reservation.infra.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.pet.demo.reservation.domain.Reservation;
+import com.example.pet.demo.reservation.domain.Reservation.ReservationStatus;
+import com.example.pet.demo.reservation.domain.Reservation.ServiceCategorical;
+import com.example.pet.demo.reservation.domain.ReservationTransition;
+import com.example.pet.demo.users.domain.User.UserType;
+
+@DataJpaTest
+@Import(ReservationJpaAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 스레드가 자기 트랜잭션으로 커밋해야 경합이 재현된다
+class ReservationTransitionConcurrencyTest {
+    private static final long USER_ID = 1L;
+    private static final long PARTNER_ID = 2L;
+    private static final int THREADS = 16;
+
+    @Autowired ReservationJpaAdapter adapter;
+    @Autowired ReservationJpaRepository repository;
+    @Autowired PlatformTransactionManager txManager;
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void exactlyOneOfManyConcurrentAcceptsWins() throws Exception {
+        for (int round = 0; round < 5; round++) {
+            Long id = newReservation();
+
+            List<Boolean> results = race(id, repeat(ReservationTransition.ACCEPT));
+
+            assertThat(results).filteredOn(Boolean::booleanValue).hasSize(1);
+            assertThat(repository.findById(id).orElseThrow().getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        }
+    }
+
+    @Test
+    void exactlyOneOfManyConcurrentUserAndPartnerCancelsWins() throws Exception {
+        for (int round = 0; round < 5; round++) {
+            Long id = newReservation();
+
+            List<ReservationTransition> transitions = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                transitions.add(i % 2 == 0 ? ReservationTransition.CANCEL_BY_USER : ReservationTransition.CANCEL_BY_BIZ);
+            }
+            List<Boolean> results = race(id, transitions);
+
+            assertThat(results).filteredOn(Boolean::booleanValue).hasSize(1);
+            Reservation after = repository.findById(id).orElseThrow();
+            assertThat(after.getStatus()).isIn(ReservationStatus.CANCELLED_BY_USER, ReservationStatus.CANCELLED_BY_BIZ);
+            assertThat(after.getCanceledAt()).isNotNull();
+        }
+    }
+
+    @Test
+    void racingAcceptsAndCancelsNeverLoseAnUpdate() throws Exception {
+        for (int round = 0; round < 5; round++) {
+            Long id = newReservation();
+
+            List<ReservationTransition> transitions = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                transitions.add(i % 2 == 0 ? ReservationTransition.ACCEPT : ReservationTransition.CANCEL_BY_USER);
+            }
+            List<Boolean> results = race(id, transitions);
+
+            // 취소는 WAITING/CONFIRMED 모두에서 가능하므로 정확히 한 번, 수락은 취소보다 먼저일 때만 한 번
+            long acceptWins = 0;
+            long cancelWins = 0;
+            for (int i = 0; i < THREADS; i++) {
+                if (results.get(i)) {
+                    if (transitions.get(i) == ReservationTransition.ACCEPT) acceptWins++;
+                    else cancelWins++;
+                }
+            }
+            assertThat(acceptWins).isLessThanOrEqualTo(1);
+            assertThat(cancelWins).isEqualTo(1);
+            Reservation after = repository.findById(id).orElseThrow();
+            assertThat(after.getStatus()).isEqualTo(ReservationStatus.CANCELLED_BY_USER);
+            assertThat(after.getCanceledAt()).isNotNull();
+        }
+    }
+
+    @Test
+    void rejectsInvalidTransitionsAndWrongActors() {
+        Long id = newReservation();
+
+        assertThat(apply(id, 999L, ReservationTransition.ACCEPT, null)).isFalse();
+        assertThat(apply(id, PARTNER_ID, ReservationTransition.CHECK_IN, null)).isFalse();
+        assertThat(apply(id, PARTNER_ID, ReservationTransition.ACCEPT, null)).isTrue();
+        assertThat(apply(id, PARTNER_ID, ReservationTransition.CHECK_IN, null)).isTrue();
+        assertThat(apply(id, USER_ID, ReservationTransition.CANCEL_BY_USER, LocalDateTime.now())).isFalse();
+        assertThat(apply(id, PARTNER_ID, ReservationTransition.COMPLETE, null)).isTrue();
+        assertThat(repository.findById(id).orElseThrow().getStatus()).isEqualTo(ReservationStatus.COMPLETED);
+    }
+
+    private List<ReservationTransition> repeat(ReservationTransition t) {
+        List<ReservationTransition> list = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            list.add(t);
+        }
+        return list;
+    }
+
+    private boolean apply(Long id, Long actorId, ReservationTransition t, LocalDateTime canceledAt) {
+        Boolean ok = new TransactionTemplate(txManager).execute(s -> adapter.transition(id, actorId, t, canceledAt));
+        return Boolean.TRUE.equals(ok);
+    }
+
+    private List<Boolean> race(Long id, List<ReservationTransition> transitions) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(transitions.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (ReservationTransition t : transitions) {
+                long actor = t.actor() == ReservationTransition.Actor.USER ? USER_ID : PARTNER_ID;
+                LocalDateTime canceledAt = t.cancels() ? LocalDateTime.now() : null;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return apply(id, actor, t, canceledAt);
+                }));
+            }
+            start.countDown();
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> f : futures) {
+                results.add(f.get());
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Long newReservation() {
+        return repository.save(Reservation.builder()
+                .userId(USER_ID)
+                .partnerId(PARTNER_ID)
+                .serviceCategorical(ServiceCategorical.HOSPITAL)
+                .userType(UserType.HOSPITAL)
+                .status(ReservationStatus.WAITING)
+                .createdAt(OffsetDateTime.now())
+                .reservationContent("content")
+                .petId(1L)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.pet.demo.users.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.example.pet.demo.users.api.dto.TokenRes;
+import com.example.pet.demo.users.domain.User.UserStatus;
+import com.example.pet.demo.users.domain.User.UserType;
+
+class AccessTokenServiceTest {
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private final AccessTokenService tokens =
+            new AccessTokenService(SECRET, Duration.ofMinutes(15), Duration.ofDays(14), new MockEnvironment());
+
+    @Test
+    void issuedTokensVerifyWithClaims() {
+        TokenRes res = tokens.issue(7L, UserType.HOSPITAL, UserStatus.ACTIVE);
+
+        AccessTokenService.Claims access = tokens.verifyAccess(res.accessToken());
+        assertThat(access.userId()).isEqualTo(7L);
+        assertThat(access.userType()).isEqualTo(UserType.HOSPITAL);
+        assertThat(access.status()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(access.expiresAt() - access.issuedAt()).isEqualTo(900);
+        assertThat(res.expiresIn()).isEqualTo(900);
+
+        assertThat(tokens.verifyRefresh(res.refreshToken()).userId()).isEqualTo(7L);
+    }
+
+    @Test
+    void rejectsTamperedForeignAndWrongTypeTokens() {
+        TokenRes res = tokens.issue(7L, UserType.GENERAL, UserStatus.ACTIVE);
+        String[] parts = res.accessToken().split("\\.");
+        // 페이로드를 다른 사용자(refresh 토큰의 페이로드)로 바꿔치기
+        String swapped = parts[0] + "." + res.refreshToken().split("\\.")[1] + "." + parts[2];
+        AccessTokenService other = new AccessTokenService("ffffffffffffffffffffffffffffffff",
+                Duration.ofMinutes(15), Duration.ofDays(14), new MockEnvironment());
+
+        assertThatThrownBy(() -> tokens.verifyAccess(swapped)).hasMessage("INVALID_TOKEN");
+        assertThatThrownBy(() -> other.verifyAccess(res.accessToken())).hasMessage("INVALID_TOKEN");
+        assertThatThrownBy(() -> tokens.verifyAccess(res.refreshToken())).hasMessage("INVALID_TOKEN");
+        assertThatThrownBy(() -> tokens.verifyRefresh(res.accessToken())).hasMessage("INVALID_TOKEN");
+        assertThatThrownBy(() -> tokens.verifyAccess("not.a.jwt")).hasMessage("INVALID_TOKEN");
+        assertThatThrownBy(() -> tokens.verifyAccess("")).hasMessage("INVALID_TOKEN");
+    }
+
+    @Test
+    void rejectsExpiredTokens() {
+        long now = Instant.now().getEpochSecond();
+        String token = tokens.sign(AccessTokenService.ACCESS, 7L, UserType.GENERAL, UserStatus.ACTIVE,
+                now - 1000, now - 100, null);
+
+        assertThatThrownBy(() -> tokens.verifyAccess(token)).hasMessage("TOKEN_EXPIRED");
+    }
+
+    @Test
+    void shortSecretIsRejected() {
+        assertThatThrownBy(() -> new AccessTokenService("short", Duration.ofMinutes(15), Duration.ofDays(14),
+                new MockEnvironment()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void missingSecretFailsStartupOutsideDevAndTest() {
+        assertThatThrownBy(() -> new AccessTokenService("", Duration.ofMinutes(15), Duration.ofDays(14),
+                new MockEnvironment()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("APP_TOKEN_SECRET");
+        MockEnvironment prod = new MockEnvironment();
+        prod.setActiveProfiles("prod");
+        assertThatThrownBy(() -> new AccessTokenService(null, Duration.ofMinutes(15), Duration.ofDays(14), prod))
+                .isInstanceOf(IllegalStateException.class);
+
+        // dev/test 는 임의 키로 기동 (재시작 시 토큰 무효)
+        MockEnvironment dev = new MockEnvironment();
+        dev.setActiveProfiles("dev");
+        AccessTokenService ephemeral = new AccessTokenService(" ", Duration.ofMinutes(15), Duration.ofDays(14), dev);
+        TokenRes res = ephemeral.issue(7L, UserType.GENERAL, UserStatus.ACTIVE);
+        assertThat(ephemeral.verifyAccess(res.accessToken()).userId()).isEqualTo(7L);
+    }
+
+    @Test
+    void revocationCoversTokensIssuedBeforeItAndExpiresWithAccessTtl() {
+        TokenRevocationCache revocations = new TokenRevocationCache(tokens);
+        long now = Instant.now().getEpochSecond();
+
+        revocations.revoke(7L);
+
+        assertThat(revocations.isRevoked(7L, now - 60)).isTrue();
+        assertThat(revocations.isRevoked(7L, now + 5)).isFalse(); // 상태 복구 후 새로 발급된 토큰
+        assertThat(revocations.isRevoked(8L, now - 60)).isFalse();
+
+        revocations.prune(now + 60);
+        assertThat(revocations.size()).isEqualTo(1);
+        revocations.prune(now + Duration.ofMinutes(16).toSeconds()); // 그 이전 access 토큰은 모두 만료
+        assertThat(revocations.size()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.pet.demo.users.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.pet.demo.users.domain.port.UserEmailView;
+import com.example.pet.demo.users.domain.port.UserPersistencePort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EmailExistenceFilterTest {
+
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final List<UserEmailView> rows = new CopyOnWriteArrayList<>();
+    private EmailExistenceFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        UserPersistencePort users = mock(UserPersistencePort.class);
+        when(users.findEmailsAfter(anyLong(), anyInt())).thenAnswer(inv -> {
+            long after = inv.getArgument(0);
+            int limit = inv.getArgument(1);
+            return rows.stream().filter(r -> r.getId() > after).limit(limit).toList();
+        });
+        filter = new EmailExistenceFilter(users, meters, 20_000, 0.01);
+    }
+
+    @Test
+    void answersMaybeUntilLoadedThenHasNoFalseNegatives() {
+        for (long i = 1; i <= 12_000; i++) {
+            rows.add(row(i, "user" + i + "@pet.com"));
+        }
+        assertThat(filter.mightContain("nobody@pet.com")).isTrue();
+
+        filter.reload();
+
+        for (long i = 1; i <= 12_000; i++) {
+            assertThat(filter.mightContain("USER" + i + "@Pet.com ")).isTrue();
+        }
+        filter.add("new@pet.com");
+        assertThat(filter.mightContain("new@pet.com")).isTrue();
+        // ASCII 외 문자는 DB 콜레이션과 맞출 수 없어 항상 DB로
+        assertThat(filter.mightContain("é@pet.com")).isTrue();
+    }
+
+    @Test
+    void reportsFalsePositiveRateNearConfiguredTarget() {
+        for (long i = 1; i <= 20_000; i++) {
+            rows.add(row(i, "user" + i + "@pet.com"));
+        }
+        filter.reload();
+
+        for (int i = 0; i < 50_000; i++) {
+            if (filter.mightContain("free" + i + "@pet.com")) {
+                filter.recordLookup(false);
+            }
+        }
+
+        double rate = meters.get("users.email_filter.false_positive_rate").gauge().value();
+        assertThat(rate).isGreaterThan(0).isLessThan(0.02);
+        assertThat(meters.get("users.email_filter.size").gauge().value()).isEqualTo(20_000);
+    }
+
+    @Test
+    void signupsRacingAReloadAreNotLostAfterTheSwap() throws Exception {
+        for (long i = 1; i <= 2_000; i++) {
+            rows.add(row(i, "user" + i + "@pet.com"));
+        }
+        filter.reload();
+
+        // 가입은 DB 커밋 후 add(). 재적재 스캔이 이미 지나간 행은 add()만이 새 필터에 넣을 수 있다
+        List<String> added = new CopyOnWriteArrayList<>();
+        Thread signups = new Thread(() -> {
+            for (int i = 0; i < 3_000; i++) {
+                String email = "late" + i + "@pet.com";
+                rows.add(row(10_000 + i, email));
+                filter.add(email);
+                added.add(email);
+            }
+        });
+        signups.start();
+        while (signups.isAlive()) {
+            filter.reload();
+        }
+        signups.join();
+
+        assertThat(added).hasSize(3_000).allMatch(filter::mightContain);
+    }
+
+    private static UserEmailView row(long id, String email) {
+        return new UserEmailView() {
+            @Override public Long getId() { return id; }
+            @Override public String getEmail() { return email; }
+        };
+    }
+}
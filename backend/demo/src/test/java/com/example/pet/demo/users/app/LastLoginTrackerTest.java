@@ -0,0 +1,61 @@
+package com.example.pet.demo.users.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.example.pet.demo.users.domain.port.UserPersistencePort;
+
+class LastLoginTrackerTest {
+
+    private final UserPersistencePort users = mock(UserPersistencePort.class);
+    private final LastLoginTracker tracker = new LastLoginTracker(users);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void coalescesConcurrentLoginsIntoOneBatch() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            long userId = i % 100;
+            pool.execute(() -> tracker.record(userId));
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        tracker.flush();
+        tracker.flush(); // 비었으면 DB 호출 없음
+
+        ArgumentCaptor<Map<Long, LocalDateTime>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(users, times(1)).touchLastLogins(captor.capture());
+        assertThat(captor.getValue()).hasSize(100);
+        assertThat(tracker.pendingCount()).isZero();
+    }
+
+    @Test
+    void requeuesOnFailureAndRetriesNextFlush() {
+        tracker.record(1L);
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(users).touchLastLogins(anyMap());
+
+        tracker.flush();
+        assertThat(tracker.pendingCount()).isEqualTo(1);
+
+        tracker.record(1L);
+        tracker.flush();
+
+        verify(users, times(2)).touchLastLogins(anyMap());
+        assertThat(tracker.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.pet.demo.users.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.pet.demo.media.FileStorageService;
+import com.example.pet.demo.users.api.UserController;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.port.PartnerView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class PartnerDirectoryTest {
+
+    private final UserService userService = mock(UserService.class);
+    private final List<PartnerView> hospitals = new ArrayList<>();
+    private PartnerDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        hospitals.add(hospital(1L, "clinic"));
+        when(userService.findByUserType(UserType.HOSPITAL)).thenAnswer(inv -> List.copyOf(hospitals));
+        directory = new PartnerDirectory(userService, new ObjectMapper(), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void hitServesSameBytesWithoutReloading() {
+        PartnerDirectory.Snapshot first = directory.get(UserType.HOSPITAL);
+        PartnerDirectory.Snapshot second = directory.get(UserType.HOSPITAL);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).matches("\"[0-9a-f]{32}\"");
+        verify(userService, times(1)).findByUserType(UserType.HOSPITAL);
+    }
+
+    @Test
+    void partnerChangeInvalidatesOnlyThatType() {
+        when(userService.findByUserType(UserType.SITTER)).thenReturn(List.of());
+        String before = directory.get(UserType.HOSPITAL).etag();
+        directory.get(UserType.SITTER);
+
+        hospitals.add(hospital(2L, "another"));
+        directory.onPartnerChanged(new PartnerChangedEvent(2L, UserType.HOSPITAL));
+
+        assertThat(directory.get(UserType.HOSPITAL).etag()).isNotEqualTo(before);
+        directory.get(UserType.SITTER);
+        verify(userService, times(2)).findByUserType(UserType.HOSPITAL);
+        verify(userService, times(1)).findByUserType(UserType.SITTER);
+    }
+
+    @Test
+    void invalidationDuringLoadDropsTheStaleSnapshot() {
+        // 적재 중(DB 조회 직후)에 변경 이벤트가 끼어든 상황
+        when(userService.findByUserType(UserType.HOSPITAL)).thenAnswer(inv -> {
+            List<PartnerView> stale = List.copyOf(hospitals);
+            hospitals.add(hospital(2L, "another"));
+            directory.invalidate(UserType.HOSPITAL);
+            return stale;
+        }).thenAnswer(inv -> List.copyOf(hospitals));
+
+        String stale = directory.get(UserType.HOSPITAL).etag();
+        String fresh = directory.get(UserType.HOSPITAL).etag();
+
+        assertThat(fresh).isNotEqualTo(stale);
+        assertThat(directory.get(UserType.HOSPITAL).etag()).isEqualTo(fresh);
+        verify(userService, times(2)).findByUserType(UserType.HOSPITAL);
+    }
+
+    @Test
+    void expiredSnapshotIsReloadedWithoutAnEvent() {
+        // 다른 인스턴스에서 바뀐 변경은 이벤트가 오지 않는다
+        directory = new PartnerDirectory(userService, new ObjectMapper(), Duration.ZERO);
+        String before = directory.get(UserType.HOSPITAL).etag();
+
+        hospitals.add(hospital(2L, "another"));
+
+        assertThat(directory.get(UserType.HOSPITAL).etag()).isNotEqualTo(before);
+        verify(userService, times(2)).findByUserType(UserType.HOSPITAL);
+    }
+
+    @Test
+    void matchingIfNoneMatchReturns304() throws Exception {
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new UserController(mock(UserService.class),
+                mock(FileStorageService.class), directory, mock(PartnerSearchIndex.class))).build();
+        String etag = directory.get(UserType.HOSPITAL).etag();
+
+        mvc.perform(get("/api/v1/users/partners").param("user_type", "hospital"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mvc.perform(get("/api/v1/users/partners").param("user_type", "hospital")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        hospitals.add(hospital(2L, "another"));
+        directory.invalidate(UserType.HOSPITAL);
+        mvc.perform(get("/api/v1/users/partners").param("user_type", "hospital")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    private static PartnerView hospital(Long id, String name) {
+        return new PartnerView(id, name, "HOSPITAL", null, null, null, null, null, null,
+                null, "09:00", "18:00");
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.pet.demo.users.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.pet.demo.common.EnumSetMaskConverter;
+import com.example.pet.demo.users.api.dto.PartnerSearchItem;
+import com.example.pet.demo.users.api.dto.PartnerSearchRes;
+import com.example.pet.demo.users.domain.User.CaCategorical;
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+import com.example.pet.demo.users.domain.port.PartnerView;
+
+class PartnerSearchIndexTest {
+
+    private UserService userService;
+    private PartnerSearchIndex index;
+    private final List<PartnerView> hospitals = new ArrayList<>();
+    private final List<PartnerView> sitters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        when(userService.findByUserType(UserType.HOSPITAL)).thenReturn(hospitals);
+        when(userService.findByUserType(UserType.SITTER)).thenReturn(sitters);
+        index = new PartnerSearchIndex(userService);
+    }
+
+    @Test
+    void filtersBySpecialtyCategoryDayAndTimeWindow() {
+        hospitals.add(hospital(1L, "cardio", CaCategorical.DOG, "월,화", "09:00", "18:00",
+                VetSpecialty.SURGERY, VetSpecialty.DENTISTRY));
+        hospitals.add(hospital(2L, "alpha", CaCategorical.BOTH, "월,수", "13:00", "20:00",
+                VetSpecialty.SURGERY));
+        hospitals.add(hospital(3L, "bravo", CaCategorical.CAT, null, null, null,
+                VetSpecialty.DENTISTRY));
+        sitters.add(sitter(4L, "walker", "토,일", "10:00", "12:00", PetsitterWork.WALK));
+
+        assertThat(ids(search("HOSPITAL", "SURGERY", null, null, null, null, null))).containsExactly(1L, 2L);
+        assertThat(ids(search("HOSPITAL", "SURGERY,DENTISTRY", null, null, null, null, null))).containsExactly(1L);
+        // DOG 조건은 BOTH 병원도 포함
+        assertThat(ids(search("HOSPITAL", null, null, "DOG", null, null, null))).containsExactly(1L, 2L);
+        // 일정이 없는 파트너는 항상 근무로 간주
+        assertThat(ids(search("HOSPITAL", null, null, null, "화", null, null))).containsExactly(1L, 3L);
+        assertThat(ids(search(null, null, null, null, "MON", "17:00", "19:30"))).containsExactly(2L, 3L);
+        assertThat(ids(search("SITTER", null, "WALK", null, "SUNDAY", "10:00", "11:00"))).containsExactly(4L);
+        assertThat(ids(search("SITTER", null, "WALK", null, null, "11:30", "12:30"))).isEmpty();
+    }
+
+    @Test
+    void sortsAndPaginates() {
+        hospitals.add(hospital(10L, "charlie", null, null, null, null));
+        hospitals.add(hospital(11L, "alpha", null, null, null, null));
+        hospitals.add(hospital(12L, "bravo", null, null, null, null));
+
+        PartnerSearchRes byName = index.search(PartnerSearchIndex.Criteria.parse(
+                "HOSPITAL", null, null, null, null, null, null, "name", 0, 2));
+        assertThat(byName.total()).isEqualTo(3);
+        assertThat(byName.items()).extracting(PartnerSearchItem::username).containsExactly("alpha", "bravo");
+
+        PartnerSearchRes second = index.search(PartnerSearchIndex.Criteria.parse(
+                "HOSPITAL", null, null, null, null, null, null, "id-desc", 1, 2));
+        assertThat(ids(second)).containsExactly(10L);
+    }
+
+    @Test
+    void appliesPartnerChangesWithoutFullReload() {
+        hospitals.add(hospital(1L, "alpha", null, null, null, null, VetSpecialty.SURGERY));
+        assertThat(index.size()).isEqualTo(1);
+
+        PartnerView added = hospital(2L, "bravo", null, null, null, null, VetSpecialty.SURGERY);
+        when(userService.findPartner(2L)).thenReturn(Optional.of(added));
+        index.onPartnerChanged(new PartnerChangedEvent(2L, UserType.HOSPITAL));
+
+        assertThat(ids(search("HOSPITAL", "SURGERY", null, null, null, null, null))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void staleReadFinishingLastDoesNotOverwriteNewerChange() throws Exception {
+        hospitals.add(hospital(1L, "alpha", null, null, null, null, VetSpecialty.SURGERY));
+        assertThat(index.size()).isEqualTo(1);
+
+        // 첫 커밋의 읽기(옛 값)가 두 번째 커밋의 읽기·반영보다 늦게 끝나는 상황
+        PartnerView older = hospital(1L, "older", null, null, null, null, VetSpecialty.SURGERY);
+        PartnerView newer = hospital(1L, "newer", null, null, null, null, VetSpecialty.SURGERY);
+        CountDownLatch firstReading = new CountDownLatch(1);
+        CountDownLatch secondApplied = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        when(userService.findPartner(1L)).thenAnswer(inv -> {
+            if (reads.incrementAndGet() == 1) {
+                firstReading.countDown();
+                assertThat(secondApplied.await(5, TimeUnit.SECONDS)).isTrue();
+                return Optional.of(older);
+            }
+            return Optional.of(newer);
+        });
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(
+                () -> index.onPartnerChanged(new PartnerChangedEvent(1L, UserType.HOSPITAL)));
+        assertThat(firstReading.await(5, TimeUnit.SECONDS)).isTrue();
+        index.onPartnerChanged(new PartnerChangedEvent(1L, UserType.HOSPITAL));
+        secondApplied.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertThat(search("HOSPITAL", null, null, null, null, null, null).items())
+                .extracting(PartnerSearchItem::username).containsExactly("newer");
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThatThrownBy(() -> PartnerSearchIndex.Criteria.parse(
+                "GENERAL", null, null, null, null, null, null, null, null, null))
+                .hasMessage("UNSUPPORTED_USER_TYPE");
+        assertThatThrownBy(() -> PartnerSearchIndex.Criteria.parse(
+                null, "NOPE", null, null, null, null, null, null, null, null))
+                .hasMessage("INVALID_SPECIALTY");
+        assertThatThrownBy(() -> PartnerSearchIndex.Criteria.parse(
+                null, null, null, null, null, "18:00", "09:00", null, null, null))
+                .hasMessage("INVALID_TIME_WINDOW");
+    }
+
+    /** 5만 파트너에서 필터 조회 평균 지연. 실행: ./gradlew benchmark */
+    @Tag("benchmark")
+    @Test
+    void benchmarkFilteredQueryOnFiftyThousandPartners() {
+        Random random = new Random(42);
+        VetSpecialty[] vets = VetSpecialty.values();
+        String[] days = { "월,화,수,목,금", "월,수,금", "토,일", null };
+        for (long id = 1; id <= 50_000; id++) {
+            int start = 7 + random.nextInt(5);
+            hospitals.add(hospital(id, "partner" + random.nextInt(1_000_000),
+                    CaCategorical.values()[random.nextInt(3)], days[random.nextInt(days.length)],
+                    String.format("%02d:00", start), String.format("%02d:00", start + 8 + random.nextInt(4)),
+                    vets[random.nextInt(vets.length)], vets[random.nextInt(vets.length)]));
+        }
+        assertThat(index.size()).isEqualTo(50_000);
+        index.reload(); // 첫 적재는 JIT 워밍업 포함이라 두 번째 전체 재적재를 잰다
+        long buildStart = System.nanoTime();
+        index.reload();
+        long buildMs = (System.nanoTime() - buildStart) / 1_000_000;
+
+        PartnerSearchIndex.Criteria criteria = PartnerSearchIndex.Criteria.parse(
+                "HOSPITAL", "SURGERY", null, "DOG", "수", "10:00", "16:00", "name", 0, 20);
+        for (int i = 0; i < 2_000; i++) {
+            index.search(criteria); // warm-up
+        }
+        int rounds = 10_000;
+        long started = System.nanoTime();
+        long total = 0;
+        for (int i = 0; i < rounds; i++) {
+            total += index.search(criteria).total();
+        }
+        double micros = (System.nanoTime() - started) / 1_000.0 / rounds;
+
+        // 쓰기 1건 반영 (스냅샷 재구성) 비용
+        PartnerView changed = hospital(1L, "renamed", CaCategorical.DOG, null, null, null, VetSpecialty.SURGERY);
+        when(userService.findPartner(1L)).thenReturn(Optional.of(changed));
+        for (int i = 0; i < 20; i++) {
+            index.onPartnerChanged(new PartnerChangedEvent(1L, UserType.HOSPITAL));
+        }
+        long updateStart = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            index.onPartnerChanged(new PartnerChangedEvent(1L, UserType.HOSPITAL));
+        }
+        double updateMs = (System.nanoTime() - updateStart) / 1_000_000.0 / 20;
+
+        System.out.printf("partner search: full reload %d ms, %.2f ms/update, %.1f us/query (%d hits)%n",
+                buildMs, updateMs, micros, total / rounds);
+        assertThat(micros).isLessThan(1_000);
+    }
+
+    private PartnerSearchRes search(String type, String vet, String work, String ca,
+                                    String day, String from, String to) {
+        return index.search(PartnerSearchIndex.Criteria.parse(type, vet, work, ca, day, from, to, null, 0, 100));
+    }
+
+    private static List<Long> ids(PartnerSearchRes res) {
+        return res.items().stream().map(PartnerSearchItem::id).toList();
+    }
+
+    private static PartnerView hospital(Long id, String name, CaCategorical ca, String days, String start, String end,
+                                        VetSpecialty... specialties) {
+        int mask = EnumSetMaskConverter.toMask(List.of(specialties));
+        return new PartnerView(id, name, UserType.HOSPITAL.name(), ca == null ? null : ca.name(),
+                mask, null, null, null, null, days, start, end);
+    }
+
+    private static PartnerView sitter(Long id, String name, String days, String start, String end,
+                                      PetsitterWork... works) {
+        int mask = EnumSetMaskConverter.toMask(List.of(works));
+        return new PartnerView(id, name, UserType.SITTER.name(), null, null, null, mask, null, null, days, start, end);
+    }
+}
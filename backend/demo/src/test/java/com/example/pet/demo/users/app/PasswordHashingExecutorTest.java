@@ -0,0 +1,106 @@
+package com.example.pet.demo.users.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.example.pet.demo.common.TooBusyException;
+
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void rejectsWith429WhenQueueIsFull() throws Exception {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(10), Duration.ofSeconds(2));
+        CompletableFuture<String> running = executor.submit(this::blockUntilReleased);
+        awaitActive();
+        CompletableFuture<String> queued = executor.submit(() -> "queued");
+
+        CompletableFuture<String> rejected = executor.submit(() -> "rejected");
+
+        assertBusy(rejected, HttpStatus.TOO_MANY_REQUESTS, "LOGIN_BUSY");
+        assertThat(executor.rejectedCount()).isEqualTo(1);
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    void shedsWith503WhenQueuedTooLong() throws Exception {
+        executor = new PasswordHashingExecutor(1, 4, Duration.ofMillis(20), Duration.ofSeconds(1));
+        executor.submit(this::blockUntilReleased);
+        awaitActive();
+        CompletableFuture<String> stale = executor.submit(() -> "never");
+
+        Thread.sleep(50);
+        release.countDown();
+
+        assertBusy(stale, HttpStatus.SERVICE_UNAVAILABLE, "LOGIN_UNAVAILABLE");
+        assertThat(executor.expiredCount()).isEqualTo(1);
+    }
+
+    @Test
+    void persistsOffTheHashingThreadsAndDropsWhenBacklogged() throws Exception {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(10), Duration.ofSeconds(2));
+        CompletableFuture<String> writerThread = new CompletableFuture<>();
+        // 해시 스레드가 막혀 있어도 쓰기는 별도 스레드에서 진행된다
+        executor.submit(this::blockUntilReleased);
+        awaitActive();
+        assertThat(executor.persist(() -> writerThread.complete(Thread.currentThread().getName()))).isTrue();
+        assertThat(writerThread.get(5, TimeUnit.SECONDS)).isEqualTo("password-rehash-write");
+
+        CountDownLatch writing = new CountDownLatch(1);
+        executor.persist(() -> {
+            writing.countDown();
+            blockUntilReleased();
+        });
+        writing.await(5, TimeUnit.SECONDS);
+        assertThat(executor.persist(() -> { })).isTrue();   // 대기열 1칸
+        assertThat(executor.persist(() -> { })).isFalse();  // 넘치면 버린다
+        assertThat(executor.droppedWriteCount()).isEqualTo(1);
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+
+    private void awaitActive() throws InterruptedException {
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.active() == 0 && System.nanoTime() < until) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void assertBusy(CompletableFuture<?> future, HttpStatus status, String reason) {
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(TooBusyException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(status);
+                    assertThat(e.getReason()).isEqualTo(reason);
+                    assertThat(e.getHeaders().getFirst("Retry-After")).isNotBlank();
+                });
+    }
+}
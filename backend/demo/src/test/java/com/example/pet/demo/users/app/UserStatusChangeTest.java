@@ -0,0 +1,60 @@
+package com.example.pet.demo.users.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.pet.demo.notification.NotificationService;
+import com.example.pet.demo.users.domain.User.UserStatus;
+import com.example.pet.demo.users.domain.User.UserType;
+import com.example.pet.demo.users.domain.port.UserPersistencePort;
+
+class UserStatusChangeTest {
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private final UserPersistencePort users = mock(UserPersistencePort.class);
+    private final AccessTokenService tokens = new AccessTokenService(SECRET, Duration.ofMinutes(15), Duration.ofDays(14),
+            new MockEnvironment());
+    private final TokenRevocationCache revocations = new TokenRevocationCache(tokens);
+    private final UserService service = new UserService(users, mock(PasswordEncoder.class),
+            mock(ApplicationEventPublisher.class), mock(PasswordHashingExecutor.class), mock(EmailExistenceFilter.class),
+            mock(LastLoginTracker.class), mock(NotificationService.class), tokens, revocations);
+
+    @Test
+    void lockingRevokesTokensAlreadyIssued() {
+        when(users.updateStatus(7L, UserStatus.LOCKED)).thenReturn(true);
+        long issuedAt = tokens.verifyAccess(tokens.issue(7L, UserType.GENERAL, UserStatus.ACTIVE).accessToken()).issuedAt();
+
+        service.changeStatus(7L, UserStatus.LOCKED);
+
+        verify(users).updateStatus(7L, UserStatus.LOCKED);
+        assertThat(revocations.isRevoked(7L, issuedAt)).isTrue();
+        assertThat(revocations.isRevoked(8L, issuedAt)).isFalse();
+    }
+
+    @Test
+    void reactivatingDoesNotRevoke() {
+        when(users.updateStatus(7L, UserStatus.ACTIVE)).thenReturn(true);
+
+        service.changeStatus(7L, UserStatus.ACTIVE);
+
+        assertThat(revocations.size()).isZero();
+    }
+
+    @Test
+    void missingUserIsNotFound() {
+        when(users.updateStatus(9L, UserStatus.DELETED)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.changeStatus(9L, UserStatus.DELETED)).hasMessage("USER_NOT_FOUND");
+        assertThat(revocations.size()).isZero();
+    }
+}
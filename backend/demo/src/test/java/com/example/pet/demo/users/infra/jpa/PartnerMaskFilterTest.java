@@ -0,0 +1,53 @@
+package com.example.pet.demo.users.infra.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.example.pet.demo.common.EnumSetMaskConverter;
+import com.example.pet.demo.users.domain.User.PetsitterWork;
+import com.example.pet.demo.users.domain.User.VetSpecialty;
+import com.example.pet.demo.users.domain.port.PartnerView;
+
+// 네이티브 쿼리의 비트 연산(&)은 H2 가 지원하지 않아, 쿼리가 돌려준 행(mask 일치 + mask NULL)을 어댑터가 거르는 부분만 본다
+class PartnerMaskFilterTest {
+
+    private final UserJpaRepository jpa = mock(UserJpaRepository.class);
+    private final UserJpaAdapter adapter = new UserJpaAdapter(jpa, mock(NamedParameterJdbcTemplate.class));
+
+    @Test
+    void unmigratedHospitalsAreMatchedByTheirCsvColumn() {
+        EnumSet<VetSpecialty> required = EnumSet.of(VetSpecialty.SURGERY, VetSpecialty.DENTISTRY);
+        int mask = EnumSetMaskConverter.toMask(required);
+        PartnerView migrated = partner(1L, "HOSPITAL", mask | 1, null, null, null);
+        PartnerView legacy = partner(2L, "HOSPITAL", null, "SURGERY, dentistry", null, null);
+        PartnerView legacyPartial = partner(3L, "HOSPITAL", null, "SURGERY", null, null);
+        when(jpa.findHospitalsByVetSpecialtyMask(mask)).thenReturn(List.of(migrated, legacy, legacyPartial));
+
+        assertThat(adapter.findHospitalsBySpecialties(required)).containsExactly(migrated, legacy);
+    }
+
+    @Test
+    void unmigratedSittersAreMatchedByTheirCsvColumn() {
+        EnumSet<PetsitterWork> required = EnumSet.of(PetsitterWork.WALK);
+        int mask = EnumSetMaskConverter.toMask(required);
+        PartnerView migrated = partner(1L, "SITTER", null, null, mask, null);
+        PartnerView legacy = partner(2L, "SITTER", null, null, null, "WALK,HYGIENE");
+        PartnerView unknown = partner(3L, "SITTER", null, null, null, null);
+        when(jpa.findSittersByPetsitterWorkMask(mask)).thenReturn(List.of(migrated, legacy, unknown));
+
+        assertThat(adapter.findSittersByWorks(required)).containsExactly(migrated, legacy);
+    }
+
+    private static PartnerView partner(Long id, String type, Integer vetMask, String vetCsv,
+                                       Integer workMask, String workCsv) {
+        return new PartnerView(id, "p" + id, type, null, vetMask, vetCsv, workMask, workCsv,
+                null, null, null, null);
+    }
+}